@@ -0,0 +1,90 @@
+package app;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.TimeMeasurement.StatisticResult;
+
+// throughput of the analysis of one server action after the measurement, allocation per operation with -prof gc (gc.alloc.rate.norm)
+// build and run with the jmh profile, see README
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+    // 15000 is the repetition count of App.main
+    @Param({"1000", "15000", "100000", "1000000"})
+    public int cntSamples;
+
+    // durations of one server action in measurement order
+    private long[] durationsForOneAction;
+    private long[] sortedDurationsForOneAction;
+    private StatisticResult statisticResult;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // log-normal around 1 ms with 1 % slow outliers like handshake durations, fixed seed so all runs analyse the same data
+        Random random = new Random(42);
+        this.durationsForOneAction = new long[this.cntSamples];
+        for (int cntSample = 0; cntSample < this.cntSamples; cntSample++) {
+            double duration = 1000000 * Math.exp(0.1 * random.nextGaussian());
+            if (random.nextDouble() < 0.01) {
+                duration *= 5 + 20 * random.nextDouble();
+            }
+            this.durationsForOneAction[cntSample] = (long)duration;
+        }
+        this.sortedDurationsForOneAction = this.durationsForOneAction.clone();
+        Arrays.sort(this.sortedDurationsForOneAction);
+        this.statisticResult = StatisticResult.runStatisticAnalysis(this.durationsForOneAction);
+    }
+
+    @Benchmark
+    public StatisticResult runStatisticAnalysis() {
+        return StatisticResult.runStatisticAnalysis(this.durationsForOneAction);
+    }
+
+    // the quantils of runStatisticAnalysis on the sorted samples
+    @Benchmark
+    public void calcQuantil(Blackhole blackhole) {
+        blackhole.consume(StatisticResult.calcQuantil(this.sortedDurationsForOneAction, 0.25));
+        blackhole.consume(StatisticResult.calcQuantil(this.sortedDurationsForOneAction, 0.5));
+        blackhole.consume(StatisticResult.calcQuantil(this.sortedDurationsForOneAction, 0.75));
+    }
+
+    @Benchmark
+    public long[] cleanDeviationOutliers() {
+        return TimeMeasurement.cleanDeviationOutliers(this.durationsForOneAction, this.statisticResult, 3);
+    }
+
+    @Benchmark
+    public long[] cleanIqrOutliers() {
+        return TimeMeasurement.cleanIqrOutliers(this.durationsForOneAction, this.statisticResult, 1.5);
+    }
+
+    // whole pipeline of one server action in TimeMeasurement.evaluateMeasurement with the parameters of App.main (3, 1.5)
+    @Benchmark
+    public void analyseAndClean(Blackhole blackhole) {
+        StatisticResult rawStatisticResult = StatisticResult.runStatisticAnalysis(this.durationsForOneAction);
+        long[] durationsCleanDeviation = TimeMeasurement.cleanDeviationOutliers(this.durationsForOneAction, rawStatisticResult, 3);
+        blackhole.consume(StatisticResult.runStatisticAnalysis(durationsCleanDeviation));
+        long[] durationsCleanIqr = TimeMeasurement.cleanIqrOutliers(this.durationsForOneAction, rawStatisticResult, 1.5);
+        blackhole.consume(StatisticResult.runStatisticAnalysis(durationsCleanIqr));
+    }
+}
@@ -0,0 +1,124 @@
+package app;
+
+import java.util.Arrays;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+// sequential stopping rule: the measurement ends as soon as the confidence interval of a quantil (default median)
+// is narrower than a target width relative to the quantil for every server action
+// distribution-free interval: for n samples the number below the true quantil q is binomial(n, q), so the order statistics at
+// the ranks n*q -/+ z*sqrt(n*q*(1-q)) enclose it with the confidence of z (normal approximation, fine for n >= 100)
+// raw samples, sketches and histograms are all read at the same 0-based ranks, the quantil itself at rank floor(q*(n-1))
+// raw samples are copied and sorted at every check, so their checks are spaced by at least a tenth of the repetitions,
+// which keeps the sorting at a constant multiple of one final sort and stops at most 10 % later than a check after every interval
+public class AdaptiveRepetitions {
+    private final double quantil;
+    private final double targetRelativeWidth;
+    private final double confidenceZ;
+    private final int minRepetitions;
+    private final int checkInterval;
+    private final boolean sortsRawSamples;
+    private int nextCheck;
+
+    // widths at the last check, for the log
+    private double[] lastRelativeWidths = new double[0];
+    private int cntLastCheckRepetitions = 0;
+    private boolean reachedTarget = false;
+
+    public AdaptiveRepetitions(MeasurementOptions options) {
+        if (options.adaptiveQuantil <= 0.0 || options.adaptiveQuantil >= 1.0) {
+            throw new Error("Adaptive quantil must be in (0, 1) but is " + options.adaptiveQuantil);
+        }
+        this.quantil = options.adaptiveQuantil;
+        this.targetRelativeWidth = options.adaptiveTargetRelativeWidth;
+        this.confidenceZ = options.adaptiveConfidenceZ;
+        this.minRepetitions = Math.max(options.adaptiveMinRepetitions, 100);
+        this.checkInterval = Math.max(options.adaptiveCheckInterval, 1);
+        this.sortsRawSamples = options.keepRawSamples;
+        this.nextCheck = this.minRepetitions;
+    }
+
+    // called with increasing repetition counts, schedules the next check when it returns true
+    public boolean isCheckDue(int cntRepetitions) {
+        if (cntRepetitions < this.nextCheck) {
+            return false;
+        }
+        int interval = this.checkInterval;
+        if (this.sortsRawSamples) {
+            interval = Math.max(interval, cntRepetitions / 10);
+        }
+        this.nextCheck = cntRepetitions + interval;
+        return true;
+    }
+
+    // true if the interval of every server action is narrow enough, relativeWidths[server action] as computed by the relativeWidth methods
+    public boolean hasReachedTarget(int cntRepetitions, double[] relativeWidths) {
+        this.lastRelativeWidths = relativeWidths;
+        this.cntLastCheckRepetitions = cntRepetitions;
+        for (double relativeWidth: relativeWidths) {
+            // NaN if the quantil is 0
+            if (!(relativeWidth <= this.targetRelativeWidth)) {
+                return false;
+            }
+        }
+        this.reachedTarget = true;
+        return true;
+    }
+
+    // 0-based ranks of the lower and upper interval bound
+    int[] confidenceRanks(long cntSamples) {
+        double center = cntSamples * this.quantil;
+        double halfWidth = this.confidenceZ * Math.sqrt(cntSamples * this.quantil * (1.0 - this.quantil));
+        int lowerRank = (int)Math.max(Math.floor(center - halfWidth), 0);
+        int upperRank = (int)Math.min(Math.ceil(center + halfWidth), cntSamples - 1);
+        return new int[] { lowerRank, upperRank };
+    }
+
+    // 0-based rank of the quantil estimate, as QuantileSketch.quantile
+    long quantilRank(long cntSamples) {
+        return (long)Math.floor(this.quantil * (cntSamples - 1));
+    }
+
+    // from the first cntSamples raw samples of one server action
+    public double relativeWidth(long[] durationsForOneAction, int cntSamples) {
+        long[] sortedDataSet = Arrays.copyOf(durationsForOneAction, cntSamples);
+        Arrays.sort(sortedDataSet);
+        int[] ranks = confidenceRanks(cntSamples);
+        return (double)(sortedDataSet[ranks[1]] - sortedDataSet[ranks[0]]) / sortedDataSet[(int)quantilRank(cntSamples)];
+    }
+
+    // the sketch error adds up to 2 * alpha to the width
+    public double relativeWidth(QuantileSketch sketch) {
+        int[] ranks = confidenceRanks(sketch.getCount());
+        return (sketch.valueAtRank(ranks[1]) - sketch.valueAtRank(ranks[0])) / sketch.valueAtRank(quantilRank(sketch.getCount()));
+    }
+
+    public double relativeWidth(Histogram histogram) {
+        int[] ranks = confidenceRanks(histogram.getTotalCount());
+        return (double)(valueAtRank(histogram, ranks[1]) - valueAtRank(histogram, ranks[0])) / valueAtRank(histogram, quantilRank(histogram.getTotalCount()));
+    }
+
+    // highest equivalent value of the bucket holding the order statistic at the 0-based rank
+    static long valueAtRank(Histogram histogram, long rank) {
+        long cumulativeCount = 0;
+        for (HistogramIterationValue iterationValue: histogram.recordedValues()) {
+            cumulativeCount += iterationValue.getCountAtValueIteratedTo();
+            if (cumulativeCount > rank) {
+                return histogram.highestEquivalentValue(iterationValue.getValueIteratedTo());
+            }
+        }
+        return histogram.getMaxValue();
+    }
+
+    // creates text overview of the last check
+    public String textualRepresentation() {
+        String adaptiveString = " Target: " + this.targetRelativeWidth * 100.0 + " % relative width of the confidence interval of the "
+            + this.quantil * 100.0 + " % quantil (z = " + this.confidenceZ + ")\n";
+        adaptiveString += " Target reached: " + this.reachedTarget + " after " + this.cntLastCheckRepetitions + " repetitions\n";
+        for (int cntServerAction = 0; cntServerAction < this.lastRelativeWidths.length; cntServerAction++) {
+            adaptiveString += " Server Action " + cntServerAction + ": " + String.format("%.3f", this.lastRelativeWidths[cntServerAction] * 100.0) + " %\n";
+        }
+        return adaptiveString;
+    }
+}
@@ -0,0 +1,98 @@
+package app;
+
+import java.lang.management.ManagementFactory;
+
+// records the bytes the measuring thread allocates per repetition
+// relies on the HotSpot specific com.sun.management.ThreadMXBean, reports nothing if that is not available
+// the preallocated repetition objects only keep the measurement loop free of allocations, TLS-Attacker still allocates
+// messages, records and crypto state in every workflow execution, the report says so
+public class AllocationTracker {
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long threadId;
+    private final boolean supported;
+    private final boolean reuseRepetitionObjects;
+
+    // [bytes of 0. rep, bytes of 1. rep, ...] split into workflow execution and measurement loop bookkeeping
+    private final long[] allocatedBytesWorkflow;
+    private final long[] allocatedBytesHarness;
+    private int cntRecordedRepetitions = 0;
+
+    public AllocationTracker(int repetition, boolean reuseRepetitionObjects) {
+        this.reuseRepetitionObjects = reuseRepetitionObjects;
+        this.threadId = Thread.currentThread().getId();
+        this.allocatedBytesWorkflow = new long[repetition];
+        this.allocatedBytesHarness = new long[repetition];
+
+        java.lang.management.ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+        if (mxBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) mxBean).isThreadAllocatedMemorySupported()) {
+            this.threadMXBean = (com.sun.management.ThreadMXBean) mxBean;
+            this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            this.supported = true;
+        } else {
+            System.out.println("Allocated bytes per thread can not be measured on this JVM.");
+            this.threadMXBean = null;
+            this.supported = false;
+        }
+    }
+
+    public boolean isSupported() {
+        return this.supported;
+    }
+
+    // total bytes allocated by the measuring thread so far
+    public long currentAllocatedBytes() {
+        if (!this.supported) {
+            return 0;
+        }
+        return this.threadMXBean.getThreadAllocatedBytes(this.threadId);
+    }
+
+    public void recordRepetition(int cntRep, long bytesWorkflow, long bytesHarness) {
+        this.allocatedBytesWorkflow[cntRep] = bytesWorkflow;
+        this.allocatedBytesHarness[cntRep] = bytesHarness;
+        this.cntRecordedRepetitions = Math.max(this.cntRecordedRepetitions, cntRep + 1);
+    }
+
+    public double getMeanAllocatedBytesHarness() {
+        return mean(this.allocatedBytesHarness);
+    }
+
+    public double getMeanAllocatedBytesWorkflow() {
+        return mean(this.allocatedBytesWorkflow);
+    }
+
+    private double mean(long[] allocatedBytes) {
+        if (this.cntRecordedRepetitions == 0) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        for (int cntRep = 0; cntRep < this.cntRecordedRepetitions; cntRep++) {
+            sum += allocatedBytes[cntRep];
+        }
+        return sum / this.cntRecordedRepetitions;
+    }
+
+    private long max(long[] allocatedBytes) {
+        long max = 0;
+        for (int cntRep = 0; cntRep < this.cntRecordedRepetitions; cntRep++) {
+            max = Math.max(max, allocatedBytes[cntRep]);
+        }
+        return max;
+    }
+
+    // creates text overview of the allocations per repetition
+    public String textualRepresentation() {
+        if (!this.supported) {
+            return " Not supported by this JVM\n";
+        }
+        String allocationString = " Repetitions: " + this.cntRecordedRepetitions + "\n";
+        allocationString += " Preallocated Repetition Objects: " + this.reuseRepetitionObjects
+            + (this.reuseRepetitionObjects ? " (measurement loop only, TLS-Attacker still allocates within the workflow execution)" : "") + "\n";
+        allocationString += " Workflow Average: " + String.format("%.1f", getMeanAllocatedBytesWorkflow()) + " bytes/rep\n";
+        allocationString += " Workflow Max: " + max(this.allocatedBytesWorkflow) + " bytes/rep\n";
+        allocationString += " Measurement Loop Average: " + String.format("%.1f", getMeanAllocatedBytesHarness()) + " bytes/rep\n";
+        allocationString += " Measurement Loop Max: " + max(this.allocatedBytesHarness) + " bytes/rep\n";
+        return allocationString;
+    }
+}
@@ -1,8 +1,12 @@
 package app;
 
+import java.io.File;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 import org.apache.logging.log4j.LogManager;
@@ -17,6 +21,7 @@ import app.ConfigurationTypes.ServerAuth;
 import app.ConfigurationTypes.SignatureScheme;
 import app.ConfigurationTypes.TlsVersion;
 import app.HandshakeTypes.HandshakeType;
+import app.MeasurementEvents.WorkflowExecutionEvent;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
 import de.rub.nds.tlsattacker.core.constants.NamedGroup;
@@ -271,6 +276,43 @@ public class App {
         );
         
 
+        // ####### Campaign file
+        // run the test cases of a campaign file (e.g. campaigns/example-campaign.json) instead of the hardcoded ones below
+        // client auth configs are referenced by their variable name
+        if (args.length > 0) {
+            Map<String, ClientAuthConfig> clientAuthConfigs = new HashMap<>();
+            clientAuthConfigs.put("clientAuthConfigRsa1024Ecdsa", clientAuthConfigRsa1024Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigRsa2048Ecdsa", clientAuthConfigRsa2048Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigRsa4096Ecdsa", clientAuthConfigRsa4096Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigEcc256Ecdsa", clientAuthConfigEcc256Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigEcc384Ecdsa", clientAuthConfigEcc384Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigEcc521Ecdsa", clientAuthConfigEcc521Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigRsa1024Rsa", clientAuthConfigRsa1024Rsa);
+            clientAuthConfigs.put("clientAuthConfigRsa2048Rsa", clientAuthConfigRsa2048Rsa);
+            clientAuthConfigs.put("clientAuthConfigRsa4096Rsa", clientAuthConfigRsa4096Rsa);
+            clientAuthConfigs.put("clientAuthConfigEcc256Rsa", clientAuthConfigEcc256Rsa);
+            clientAuthConfigs.put("clientAuthConfigEcc384Rsa", clientAuthConfigEcc384Rsa);
+            clientAuthConfigs.put("clientAuthConfigEcc521Rsa", clientAuthConfigEcc521Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa1024Ecdsa", clientAuthConfigWrongPrivKeyRsa1024Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa2048Ecdsa", clientAuthConfigWrongPrivKeyRsa2048Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa4096Ecdsa", clientAuthConfigWrongPrivKeyRsa4096Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc256Ecdsa", clientAuthConfigWrongPrivKeyEcc256Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc384Ecdsa", clientAuthConfigWrongPrivKeyEcc384Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc521Ecdsa", clientAuthConfigWrongPrivKeyEcc521Ecdsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa1024Rsa", clientAuthConfigWrongPrivKeyRsa1024Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa2048Rsa", clientAuthConfigWrongPrivKeyRsa2048Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyRsa4096Rsa", clientAuthConfigWrongPrivKeyRsa4096Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc256Rsa", clientAuthConfigWrongPrivKeyEcc256Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc384Rsa", clientAuthConfigWrongPrivKeyEcc384Rsa);
+            clientAuthConfigs.put("clientAuthConfigWrongPrivKeyEcc521Rsa", clientAuthConfigWrongPrivKeyEcc521Rsa);
+
+            CampaignPlan campaignPlan = CampaignLoader.load(new File(args[0]), clientAuthConfigs);
+            campaignPlan.run();
+            System.out.println("Reached End");
+            return;
+        }
+
+
         // ####### Connection Config
         // Supports: OpenSSL 1.1.1w (open111_ecc, open111_rsa)
         //  - TLS1.2 without any extras
@@ -831,6 +873,41 @@ public class App {
 
         int cnt_rep = 15000;
 
+        // between the tests: continue as soon as the next server accepts connections with its usual connect latency (max. 10 s)
+        ReadinessProbe readinessProbe = new ReadinessProbe(ReadinessProbe.DEFAULT_TIMEOUT_MILLIS);
+
+        // ########## Checkpoint and resume
+        // completed test/server pairs are skipped after a restart, interrupted tests continue after the last stored batch of repetitions
+        /*
+        try {
+            TimeMeasurement.defaultOptions.journal = CampaignJournal.open(new File("logging/campaign-journal"));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        */
+
+        // ########## Concurrent execution against independent servers
+        // tasks for different endpoints run in parallel (max. 3 at once, pinned to cores 2, 3 and 4),
+        // tasks for the same endpoint run one after another, each once the endpoint is ready again
+        /*
+        // own config of the example, the D1 config below belongs to the general tests
+        Config concurrentConfigD1 =
+            ConfigFactory.getConfig(
+                TlsVersion.TLS12,
+                KeyExchange.ECDHE,
+                KeyExchangeGroup.SECP384R1,
+                ServerAuth.ECDSA,
+                null,
+                new Vector<SignatureScheme>(){{add(SignatureScheme.ECDSA_SHA384);}},
+                BulkAlgo.AES_128_CBC_SHA256,
+                new Vector<>());
+        List<MeasurementTask> campaignTasks = new ArrayList<>();
+        campaignTasks.add(new MeasurementTask("D1", cnt_rep, concurrentConfigD1, HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, outboundConOpenssl111Ecc, true, 3, 1.5, true, "OpenSSL 1.1.1w", new MeasurementOptions()));
+        campaignTasks.add(new MeasurementTask("D1", cnt_rep, concurrentConfigD1, HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, outboundConOpenssl333Ecc, true, 3, 1.5, true, "OpenSSL 3.3.1", new MeasurementOptions()));
+        campaignTasks.add(new MeasurementTask("D1", cnt_rep, concurrentConfigD1, HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, outboundConWolfsslEccTls12, true, 3, 1.5, true, "WolfSSL", new MeasurementOptions()));
+        new CampaignExecutor(3, new int[]{2, 3, 4}, 0, readinessProbe).runCampaign(campaignTasks);
+        */
+
         // ########## General Tests
         /*
         // ######## Config for D1
@@ -848,39 +925,24 @@ public class App {
 
         // configure and run openssl111 ECC TLS1.2
         myConfigD1.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1);
         System.out.println("Start D1 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D1", cnt_rep, myConfigD1, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
         // configure and run openssl333 ECC TLS1.2
         myConfigD1.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1);
         System.out.println("Start D1 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D1", cnt_rep, myConfigD1, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD1.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD1);
         System.out.println("Start D1 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D1", cnt_rep, myConfigD1, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D2
@@ -898,39 +960,24 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.2
         myConfigD2.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2);
         System.out.println("Start D2 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D2", cnt_rep, myConfigD2, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2
         myConfigD2.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2);
         System.out.println("Start D2 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D2", cnt_rep, myConfigD2, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD2.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD2);
         System.out.println("Start D2 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D2", cnt_rep, myConfigD2, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D3
@@ -948,63 +995,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.2
         myConfigD3.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3);
         System.out.println("Start D3 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D3", cnt_rep, myConfigD3, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.2
         myConfigD3.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3);
         System.out.println("Start D3 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D3", cnt_rep, myConfigD3, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2
         myConfigD3.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3);
         System.out.println("Start D3 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D3", cnt_rep, myConfigD3, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.2
         myConfigD3.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3);
         System.out.println("Start D3 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D3", cnt_rep, myConfigD3, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD3.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD3);
         System.out.println("Start D3 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D3", cnt_rep, myConfigD3, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D4
@@ -1022,63 +1044,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.2
         myConfigD4.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4);
         System.out.println("Start D4 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D4", cnt_rep, myConfigD4, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.2
         myConfigD4.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4);
         System.out.println("Start D4 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D4", cnt_rep, myConfigD4, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2
         myConfigD4.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4);
         System.out.println("Start D4 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D4", cnt_rep, myConfigD4, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.2
         myConfigD4.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4);
         System.out.println("Start D4 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D4", cnt_rep, myConfigD4, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD4.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD4);
         System.out.println("Start D4 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D4", cnt_rep, myConfigD4, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D5
@@ -1103,39 +1100,24 @@ public class App {
 
         // configure and run openssl111 RSA TLS1.2
         myConfigD7.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7);
         System.out.println("Start D7 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D7", cnt_rep, myConfigD7, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD7.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7);
         System.out.println("Start D7 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D7", cnt_rep, myConfigD7, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD7.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD7);
         System.out.println("Start D7 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D7", cnt_rep, myConfigD7, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
         // ######## Config for D8
         Config myConfigD8 =
@@ -1152,39 +1134,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2
         myConfigD8.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8);
         System.out.println("Start D8 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D8", cnt_rep, myConfigD8, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD8.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8);
         System.out.println("Start D8 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D8", cnt_rep, myConfigD8, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD8.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD8);
         System.out.println("Start D8 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D8", cnt_rep, myConfigD8, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
         // ######## Config for D9
         Config myConfigD9 =
@@ -1201,63 +1168,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.2
         myConfigD9.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9);
         System.out.println("Start D9 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D9", cnt_rep, myConfigD9, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.2
         myConfigD9.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9);
         System.out.println("Start D9 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D9", cnt_rep, myConfigD9, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD9.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9);
         System.out.println("Start D9 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D9", cnt_rep, myConfigD9, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.2
         myConfigD9.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9);
         System.out.println("Start D9 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D9", cnt_rep, myConfigD9, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD9.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD9);
         System.out.println("Start D9 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D9", cnt_rep, myConfigD9, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D10
@@ -1275,63 +1217,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.2
         myConfigD10.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10);
         System.out.println("Start D10 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D10", cnt_rep, myConfigD10, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.2
         myConfigD10.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10);
         System.out.println("Start D10 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D10", cnt_rep, myConfigD10, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD10.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10);
         System.out.println("Start D10 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D10", cnt_rep, myConfigD10, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.2
         myConfigD10.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10);
         System.out.println("Start D10 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D10", cnt_rep, myConfigD10, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD10.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD10);
         System.out.println("Start D10 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D10", cnt_rep, myConfigD10, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D11
@@ -1362,39 +1279,24 @@ public class App {
 
         // configure and run openssl111 RSA TLS1.2
         myConfigD15.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15);
         System.out.println("Start D15 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D15", cnt_rep, myConfigD15, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD15.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15);
         System.out.println("Start D15 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D15", cnt_rep, myConfigD15, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD15.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD15);
         System.out.println("Start D15 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D15", cnt_rep, myConfigD15, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
         // ######## Config for D16
         Config myConfigD16 =
@@ -1411,39 +1313,24 @@ public class App {
 
         // configure and run openssl111 RSA TLS1.2
         myConfigD16.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16);
         System.out.println("Start D16 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D16", cnt_rep, myConfigD16, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD16.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16);
         System.out.println("Start D16 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D16", cnt_rep, myConfigD16, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD16.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD16);
         System.out.println("Start D16 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D16", cnt_rep, myConfigD16, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
         // ######## Config for D17
         Config myConfigD17 =
@@ -1460,39 +1347,24 @@ public class App {
 
         // configure and run openssl111 RSA TLS1.2
         myConfigD17.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17);
         System.out.println("Start D17 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D17", cnt_rep, myConfigD17, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD17.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17);
         System.out.println("Start D17 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D17", cnt_rep, myConfigD17, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD17.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD17);
         System.out.println("Start D17 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D17", cnt_rep, myConfigD17, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
         // ######## Config for D18
         Config myConfigD18 =
@@ -1509,39 +1381,24 @@ public class App {
 
         // configure and run openssl111 RSA TLS1.2
         myConfigD18.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18);
         System.out.println("Start D18 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D18", cnt_rep, myConfigD18, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD18.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18);
         System.out.println("Start D18 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D18", cnt_rep, myConfigD18, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD18.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD18);
         System.out.println("Start D18 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D18", cnt_rep, myConfigD18, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
 
 
 
@@ -1560,15 +1417,10 @@ public class App {
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD21.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD21, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD21);
         System.out.println("Start D21 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D21", cnt_rep, myConfigD21, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
 
         // ######## Config for D22
         Config myConfigD22 =
@@ -1585,15 +1437,10 @@ public class App {
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD22.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD22, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD22);
         System.out.println("Start D22 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D22", cnt_rep, myConfigD22, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
 
 
         // ######## Config for D23
@@ -1611,15 +1458,10 @@ public class App {
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD23.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD23, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD23);
         System.out.println("Start D23 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D23", cnt_rep, myConfigD23, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
 
         // ######## Config for D24
         Config myConfigD24 =
@@ -1636,15 +1478,10 @@ public class App {
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD24.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD24, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH, myConfigD24);
         System.out.println("Start D24 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D24", cnt_rep, myConfigD24, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D27
@@ -1662,63 +1499,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.3
         myConfigD27.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27);
         System.out.println("Start D27 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D27", cnt_rep, myConfigD27, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD27.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27);
         System.out.println("Start D27 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D27", cnt_rep, myConfigD27, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD27.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27);
         System.out.println("Start D27 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D27", cnt_rep, myConfigD27, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.3
         myConfigD27.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27);
         System.out.println("Start D27 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D27", cnt_rep, myConfigD27, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD27.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD27);
         System.out.println("Start D27 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D27", cnt_rep, myConfigD27, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D28
@@ -1736,63 +1548,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.3
         myConfigD28.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28);
         System.out.println("Start D28 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D28", cnt_rep, myConfigD28, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.3
         myConfigD28.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28);
         System.out.println("Start D28 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D28", cnt_rep, myConfigD28, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD28.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28);
         System.out.println("Start D28 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D28", cnt_rep, myConfigD28, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.3
         myConfigD28.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28);
         System.out.println("Start D28 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D28", cnt_rep, myConfigD28, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD28.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD28);
         System.out.println("Start D28 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D28", cnt_rep, myConfigD28, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D29
@@ -1810,27 +1597,17 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD29.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD29, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD29);
         System.out.println("Start D29 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D29", cnt_rep, myConfigD29, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD29.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD29, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD29);
         System.out.println("Start D29 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D29", cnt_rep, myConfigD29, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
 
         // ######## Config for D30
         Config myConfigD30 =
@@ -1847,27 +1624,17 @@ public class App {
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD30.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD30, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD30);
         System.out.println("Start D30 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D30", cnt_rep, myConfigD30, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD30.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD30, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD30);
         System.out.println("Start D30 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D30", cnt_rep, myConfigD30, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D31
@@ -1885,63 +1652,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.3
         myConfigD31.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31);
         System.out.println("Start D31 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D31", cnt_rep, myConfigD31, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD31.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31);
         System.out.println("Start D31 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D31", cnt_rep, myConfigD31, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD31.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31);
         System.out.println("Start D31 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D31", cnt_rep, myConfigD31, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.3
         myConfigD31.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31);
         System.out.println("Start D31 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D31", cnt_rep, myConfigD31, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD31.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD31);
         System.out.println("Start D31 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D31", cnt_rep, myConfigD31, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D32
@@ -1959,63 +1701,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.3
         myConfigD32.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32);
         System.out.println("Start D32 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D32", cnt_rep, myConfigD32, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.3
         myConfigD32.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32);
         System.out.println("Start D32 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D32", cnt_rep, myConfigD32, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD32.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32);
         System.out.println("Start D32 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D32", cnt_rep, myConfigD32, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.3
         myConfigD32.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32);
         System.out.println("Start D32 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D32", cnt_rep, myConfigD32, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD32.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD32);
         System.out.println("Start D32 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D32", cnt_rep, myConfigD32, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
 
         // ######## Config for D33
         Config myConfigD33 =
@@ -2032,27 +1749,17 @@ public class App {
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD33.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD33, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD33);
         System.out.println("Start D33 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D33", cnt_rep, myConfigD33, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD33.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD33, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD33);
         System.out.println("Start D33 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D33", cnt_rep, myConfigD33, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D34
@@ -2070,63 +1777,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.2
         myConfigD34.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34);
         System.out.println("Start D34 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D34", cnt_rep, myConfigD34, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.2
         myConfigD34.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34);
         System.out.println("Start D34 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D34", cnt_rep, myConfigD34, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2
         myConfigD34.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34);
         System.out.println("Start D34 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D34", cnt_rep, myConfigD34, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.2
         myConfigD34.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34);
         System.out.println("Start D34 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D34", cnt_rep, myConfigD34, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2
         myConfigD34.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD34);
         System.out.println("Start D34 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D34", cnt_rep, myConfigD34, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D35
@@ -2144,63 +1826,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.2
         myConfigD35.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35);
         System.out.println("Start D35 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D35", cnt_rep, myConfigD35, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.2
         myConfigD35.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35);
         System.out.println("Start D35 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D35", cnt_rep, myConfigD35, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD35.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35);
         System.out.println("Start D35 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D35", cnt_rep, myConfigD35, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.2
         myConfigD35.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35);
         System.out.println("Start D35 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D35", cnt_rep, myConfigD35, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD35.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD35);
         System.out.println("Start D35 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D35", cnt_rep, myConfigD35, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D36
@@ -2218,39 +1875,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2
         myConfigD36.setDefaultClientConnection(outboundConOpenssl111Rsa );
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36);
         System.out.println("Start D36 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D36", cnt_rep, myConfigD36, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2
         myConfigD36.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36);
         System.out.println("Start D36 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D36", cnt_rep, myConfigD36, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2
         myConfigD36.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD36);
         System.out.println("Start D36 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D36", cnt_rep, myConfigD36, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D37
@@ -2268,63 +1910,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.3
         myConfigD37.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37);
         System.out.println("Start D37 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D37", cnt_rep, myConfigD37, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD37.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37);
         System.out.println("Start D37 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D37", cnt_rep, myConfigD37, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD37.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37);
         System.out.println("Start D37 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D37", cnt_rep, myConfigD37, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.3
         myConfigD37.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37);
         System.out.println("Start D37 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D37", cnt_rep, myConfigD37, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD37.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD37);
         System.out.println("Start D37 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D37", cnt_rep, myConfigD37, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D38
@@ -2342,63 +1959,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.3
         myConfigD38.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38);
         System.out.println("Start D38 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D38", cnt_rep, myConfigD38, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.3
         myConfigD38.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38);
         System.out.println("Start D38 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D38", cnt_rep, myConfigD38, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD38.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38);
         System.out.println("Start D38 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D38", cnt_rep, myConfigD38, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsa);
         
         // configure and run Rustls RSA TLS1.3
         myConfigD38.setDefaultClientConnection(outboundConRustRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38, outboundConRustRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38);
         System.out.println("Start D38 with outboundConRustRsa");
         TimeMeasurement.startTimeMeasurement("D38", cnt_rep, myConfigD38, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD38.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD38);
         System.out.println("Start D38 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D38", cnt_rep, myConfigD38, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
 
@@ -2417,27 +2009,17 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD39.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD39, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD39);
         System.out.println("Start D39 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D39", cnt_rep, myConfigD39, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD39.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD39, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD39);
         System.out.println("Start D39 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D39", cnt_rep, myConfigD39, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
 
         // ######## Config for D40
         Config myConfigD40 =
@@ -2454,27 +2036,17 @@ public class App {
         
         // configure and run openssl333 RSA TLS1.3
         myConfigD40.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD40, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD40);
         System.out.println("Start D40 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D40", cnt_rep, myConfigD40, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls13);
         
         // configure and run WolfSSL RSA TLS1.3
         myConfigD40.setDefaultClientConnection(outboundConWolfsslRsaTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD40, outboundConWolfsslRsaTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD40);
         System.out.println("Start D40 with outboundConWolfsslRsaTls13");
         TimeMeasurement.startTimeMeasurement("D40", cnt_rep, myConfigD40, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc256);
 
 
         // ######## Config for D41 - D46
@@ -2496,15 +2068,10 @@ public class App {
     
         // configure and run Rustls OCSP ECC256
         myConfigD47.setDefaultClientConnection(outboundConRustOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD47, outboundConRustOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD47);
         System.out.println("Start D47 with outboundConRustOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D47", cnt_rep, myConfigD47, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc384);
 
         // ######## Config for D48
         Config myConfigD48 =
@@ -2521,51 +2088,31 @@ public class App {
 
         // configure and run boringssl OCSP ECC384
         myConfigD48.setDefaultClientConnection(outboundConBoringsslOcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48, outboundConBoringsslOcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48);
         System.out.println("Start D48 with outboundConBoringsslOcspEcc384");
         TimeMeasurement.startTimeMeasurement("D48", cnt_rep, myConfigD48, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc384);
         
         // configure and run openssl111 OCSP ECC384
         myConfigD48.setDefaultClientConnection(outboundConOpenssl111OcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48, outboundConOpenssl111OcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48);
         System.out.println("Start D48 with outboundConOpenssl111OcspEcc384");
         TimeMeasurement.startTimeMeasurement("D48", cnt_rep, myConfigD48, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc384);
         
         // configure and run openssl333 OCSP ECC384
         myConfigD48.setDefaultClientConnection(outboundConOpenssl333OcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48, outboundConOpenssl333OcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48);
         System.out.println("Start D48 with outboundConOpenssl333OcspEcc384");
         TimeMeasurement.startTimeMeasurement("D48", cnt_rep, myConfigD48, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc384);
         
         // configure and run Rustls OCSP ECC384
         myConfigD48.setDefaultClientConnection(outboundConRustOcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48, outboundConRustOcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD48);
         System.out.println("Start D48 with outboundConRustOcspEcc384");
         TimeMeasurement.startTimeMeasurement("D48", cnt_rep, myConfigD48, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc521);
 
         // ######## Config for D49
         Config myConfigD49 =
@@ -2582,15 +2129,10 @@ public class App {
     
         // configure and run Rustls OCSP ECC256
         myConfigD49.setDefaultClientConnection(outboundConRustOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD49, outboundConRustOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD49);
         System.out.println("Start D49 with outboundConRustOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D49", cnt_rep, myConfigD49, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa1024);
 
         // ######## Config for D50
         Config myConfigD50 =
@@ -2607,15 +2149,10 @@ public class App {
 
         // configure and run boringssl OCSP RSA1024
         myConfigD50.setDefaultClientConnection(outboundConBoringsslOcspRsa1024);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD50, outboundConBoringsslOcspRsa1024);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD50);
         System.out.println("Start D50 with outboundConBoringsslOcspRsa1024");
         TimeMeasurement.startTimeMeasurement("D50", cnt_rep, myConfigD50, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa2048);
 
         // ######## Config for D51
         Config myConfigD51 =
@@ -2632,51 +2169,31 @@ public class App {
 
         // configure and run boringssl OCSP RSA2048
         myConfigD51.setDefaultClientConnection(outboundConBoringsslOcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51, outboundConBoringsslOcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51);
         System.out.println("Start D51 with outboundConBoringsslOcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D51", cnt_rep, myConfigD51, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa2048);
         
         // configure and run openssl111 OCSP RSA2048
         myConfigD51.setDefaultClientConnection(outboundConOpenssl111OcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51, outboundConOpenssl111OcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51);
         System.out.println("Start D51 with outboundConOpenssl111OcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D51", cnt_rep, myConfigD51, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa2048);
         
         // configure and run openssl333 OCSP RSA2048
         myConfigD51.setDefaultClientConnection(outboundConOpenssl333OcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51, outboundConOpenssl333OcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51);
         System.out.println("Start D51 with outboundConOpenssl333OcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D51", cnt_rep, myConfigD51, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa2048);
         
         // configure and run Rustls OCSP RSA2048
         myConfigD51.setDefaultClientConnection(outboundConRustOcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51, outboundConRustOcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD51);
         System.out.println("Start D51 with outboundConRustOcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D51", cnt_rep, myConfigD51, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa4096);
 
         // ######## Config for D52
         Config myConfigD52 =
@@ -2693,51 +2210,31 @@ public class App {
 
         // configure and run boringssl OCSP RSA4096
         myConfigD52.setDefaultClientConnection(outboundConBoringsslOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52, outboundConBoringsslOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52);
         System.out.println("Start D52 with outboundConBoringsslOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D52", cnt_rep, myConfigD52, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa4096);
         
         // configure and run openssl111 OCSP RSA4096
         myConfigD52.setDefaultClientConnection(outboundConOpenssl111OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52, outboundConOpenssl111OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52);
         System.out.println("Start D52 with outboundConOpenssl111OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D52", cnt_rep, myConfigD52, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa4096);
         
         // configure and run openssl333 OCSP RSA4096
         myConfigD52.setDefaultClientConnection(outboundConOpenssl333OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52, outboundConOpenssl333OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52);
         System.out.println("Start D52 with outboundConOpenssl333OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D52", cnt_rep, myConfigD52, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa4096);
         
         // configure and run Rustls OCSP RSA4096
         myConfigD52.setDefaultClientConnection(outboundConRustOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52, outboundConRustOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD52);
         System.out.println("Start D52 with outboundConRustOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D52", cnt_rep, myConfigD52, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc256);
 
 
         // ######## Config for D53
@@ -2755,51 +2252,31 @@ public class App {
 
         // configure and run boringssl OCSP ECC 256
         myConfigD53.setDefaultClientConnection(outboundConBoringsslOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53, outboundConBoringsslOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53);
         System.out.println("Start D53 with outboundConBoringsslOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D53", cnt_rep, myConfigD53, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc256);
         
         // configure and run openssl111 OCSP ECC 256
         myConfigD53.setDefaultClientConnection(outboundConOpenssl111OcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53, outboundConOpenssl111OcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53);
         System.out.println("Start D53 with outboundConOpenssl111OcspEcc256");
         TimeMeasurement.startTimeMeasurement("D53", cnt_rep, myConfigD53, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc256);
         
         // configure and run openssl333 OCSP ECC 256
         myConfigD53.setDefaultClientConnection(outboundConOpenssl333OcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53, outboundConOpenssl333OcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53);
         System.out.println("Start D53 with outboundConOpenssl333OcspEcc256");
         TimeMeasurement.startTimeMeasurement("D53", cnt_rep, myConfigD53, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc256);
         
         // configure and run Rustls OCSP ECC 256
         myConfigD53.setDefaultClientConnection(outboundConRustOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53, outboundConRustOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD53);
         System.out.println("Start D53 with outboundConRustOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D53", cnt_rep, myConfigD53, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc384);
 
         // ######## Config for D54
         Config myConfigD54 =
@@ -2816,51 +2293,31 @@ public class App {
 
         // configure and run boringssl OCSP ECC 384
         myConfigD54.setDefaultClientConnection(outboundConBoringsslOcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54, outboundConBoringsslOcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54);
         System.out.println("Start D54 with outboundConBoringsslOcspEcc384");
         TimeMeasurement.startTimeMeasurement("D54", cnt_rep, myConfigD54, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc384);
         
         // configure and run openssl111 OCSP ECC 384
         myConfigD54.setDefaultClientConnection(outboundConOpenssl111OcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54, outboundConOpenssl111OcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54);
         System.out.println("Start D54 with outboundConOpenssl111OcspEcc384");
         TimeMeasurement.startTimeMeasurement("D54", cnt_rep, myConfigD54, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc384);
         
         // configure and run openssl333 OCSP ECC 384
         myConfigD54.setDefaultClientConnection(outboundConOpenssl333OcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54, outboundConOpenssl333OcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54);
         System.out.println("Start D54 with outboundConOpenssl333OcspEcc384");
         TimeMeasurement.startTimeMeasurement("D54", cnt_rep, myConfigD54, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc384);
         
         // configure and run Rustls OCSP ECC 384
         myConfigD54.setDefaultClientConnection(outboundConRustOcspEcc384);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54, outboundConRustOcspEcc384);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD54);
         System.out.println("Start D54 with outboundConRustOcspEcc384");
         TimeMeasurement.startTimeMeasurement("D54", cnt_rep, myConfigD54, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc521);
 
         // ######## Config for D55
         Config myConfigD55 =
@@ -2877,51 +2334,31 @@ public class App {
 
         // configure and run boringssl OCSP ECC 521
         myConfigD55.setDefaultClientConnection(outboundConBoringsslOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55, outboundConBoringsslOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55);
         System.out.println("Start D55 with outboundConBoringsslOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D55", cnt_rep, myConfigD55, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc521);
         
         // configure and run openssl111 OCSP ECC 521
         myConfigD55.setDefaultClientConnection(outboundConOpenssl111OcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55, outboundConOpenssl111OcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55);
         System.out.println("Start D55 with outboundConOpenssl111OcspEcc521");
         TimeMeasurement.startTimeMeasurement("D55", cnt_rep, myConfigD55, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc521);
         
         // configure and run openssl333 OCSP ECC 521
         myConfigD55.setDefaultClientConnection(outboundConOpenssl333OcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55, outboundConOpenssl333OcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55);
         System.out.println("Start D55 with outboundConOpenssl333OcspEcc521");
         TimeMeasurement.startTimeMeasurement("D55", cnt_rep, myConfigD55, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc521);
         
         // configure and run Rustls OCSP ECC 521
         myConfigD55.setDefaultClientConnection(outboundConRustOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55, outboundConRustOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD55);
         System.out.println("Start D55 with outboundConRustOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D55", cnt_rep, myConfigD55, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa1024);
 
         // ######## Config for D56
         Config myConfigD56 =
@@ -2938,15 +2375,10 @@ public class App {
 
         // configure and run boringssl OCSP RSA1024
         myConfigD56.setDefaultClientConnection(outboundConBoringsslOcspRsa1024);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD56, outboundConBoringsslOcspRsa1024);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD56);
         System.out.println("Start D56 with outboundConBoringsslOcspRsa1024");
         TimeMeasurement.startTimeMeasurement("D56", cnt_rep, myConfigD56, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa2048);
 
         // ######## Config for D57
         Config myConfigD57 =
@@ -2963,51 +2395,31 @@ public class App {
 
         // configure and run boringssl OCSP RSA 2048
         myConfigD57.setDefaultClientConnection(outboundConBoringsslOcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57, outboundConBoringsslOcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57);
         System.out.println("Start D57 with outboundConBoringsslOcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D57", cnt_rep, myConfigD57, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa2048);
         
         // configure and run openssl111 OCSP RSA 2048
         myConfigD57.setDefaultClientConnection(outboundConOpenssl111OcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57, outboundConOpenssl111OcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57);
         System.out.println("Start D57 with outboundConOpenssl111OcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D57", cnt_rep, myConfigD57, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa2048);
         
         // configure and run openssl333 OCSP RSA 2048
         myConfigD57.setDefaultClientConnection(outboundConOpenssl333OcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57, outboundConOpenssl333OcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57);
         System.out.println("Start D57 with outboundConOpenssl333OcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D57", cnt_rep, myConfigD57, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa2048);
         
         // configure and run Rustls OCSP RSA 2048
         myConfigD57.setDefaultClientConnection(outboundConRustOcspRsa2048);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57, outboundConRustOcspRsa2048);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD57);
         System.out.println("Start D57 with outboundConRustOcspRsa2048");
         TimeMeasurement.startTimeMeasurement("D57", cnt_rep, myConfigD57, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa4096);
 
         // ######## Config for D58
         Config myConfigD58 =
@@ -3024,51 +2436,31 @@ public class App {
 
         // configure and run boringssl OCSP RSA 4096
         myConfigD58.setDefaultClientConnection(outboundConBoringsslOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58, outboundConBoringsslOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58);
         System.out.println("Start D58 with outboundConBoringsslOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D58", cnt_rep, myConfigD58, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa4096);
         
         // configure and run openssl111 OCSP RSA 4096
         myConfigD58.setDefaultClientConnection(outboundConOpenssl111OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58, outboundConOpenssl111OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58);
         System.out.println("Start D58 with outboundConOpenssl111OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D58", cnt_rep, myConfigD58, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa4096);
         
         // configure and run openssl333 OCSP RSA 4096
         myConfigD58.setDefaultClientConnection(outboundConOpenssl333OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58, outboundConOpenssl333OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58);
         System.out.println("Start D58 with outboundConOpenssl333OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D58", cnt_rep, myConfigD58, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa4096);
         
         // configure and run Rustls OCSP RSA 4096
         myConfigD58.setDefaultClientConnection(outboundConRustOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58, outboundConRustOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD58);
         System.out.println("Start D58 with outboundConRustOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D58", cnt_rep, myConfigD58, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
 
 
 
@@ -3087,15 +2479,10 @@ public class App {
         
         // configure and run Rustls ECC TLS1.2
         myConfigD59.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD59, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD59);
         System.out.println("Start D59 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D59", cnt_rep, myConfigD59, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
 
 
         // ######## Config for D60
@@ -3117,15 +2504,10 @@ public class App {
         
         // configure and run Rustls ECC TLS1.2
         myConfigD61.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD61, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD61);
         System.out.println("Start D61 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D61", cnt_rep, myConfigD61, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
         // ######## Config for D62
         // NOT SUPPORTED
@@ -3150,63 +2532,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.3
         myConfigD67.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67);
         System.out.println("Start D67 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D67", cnt_rep, myConfigD67, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD67.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67);
         System.out.println("Start D67 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D67", cnt_rep, myConfigD67, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD67.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67);
         System.out.println("Start D67 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D67", cnt_rep, myConfigD67, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.3
         myConfigD67.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67);
         System.out.println("Start D67 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D67", cnt_rep, myConfigD67, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD67.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD67);
         System.out.println("Start D67 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D67", cnt_rep, myConfigD67, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D68
@@ -3224,39 +2581,24 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD68.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68);
         System.out.println("Start D68 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D68", cnt_rep, myConfigD68, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD68.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68);
         System.out.println("Start D68 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D68", cnt_rep, myConfigD68, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD68.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD68);
         System.out.println("Start D68 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D68", cnt_rep, myConfigD68, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
         // ######## Config for D69
@@ -3274,51 +2616,31 @@ public class App {
 
         // configure and run boringssl ECC TLS1.3
         myConfigD69.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69);
         System.out.println("Start D69 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D69", cnt_rep, myConfigD69, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD69.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69);
         System.out.println("Start D69 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D69", cnt_rep, myConfigD69, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD69.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69);
         System.out.println("Start D69 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D69", cnt_rep, myConfigD69, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEcc);
         
         // configure and run Rustls ECC TLS1.3
         myConfigD69.setDefaultClientConnection(outboundConRustEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69, outboundConRustEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD69);
         System.out.println("Start D69 with outboundConRustEcc");
         TimeMeasurement.startTimeMeasurement("D69", cnt_rep, myConfigD69, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
         // ######## Config for D70
         Config myConfigD70 =
@@ -3335,27 +2657,17 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.3
         myConfigD70.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD70, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD70);
         System.out.println("Start D70 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D70", cnt_rep, myConfigD70, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD70.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD70, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD70);
         System.out.println("Start D70 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D70", cnt_rep, myConfigD70, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D71
@@ -3373,27 +2685,17 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD71.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD71, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD71);
         System.out.println("Start D71 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D71", cnt_rep, myConfigD71, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.3
         myConfigD71.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD71, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD71);
         System.out.println("Start D71 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D71", cnt_rep, myConfigD71, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
         // ######## Config for D72
         Config myConfigD72 =
@@ -3410,15 +2712,10 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD72.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD72, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD72);
         System.out.println("Start D72 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D72", cnt_rep, myConfigD72, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
         // ######## Config for D73
         Config myConfigD73 =
@@ -3435,15 +2732,10 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD73.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD73, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD73);
         System.out.println("Start D73 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D73", cnt_rep, myConfigD73, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
         // ######## Config for D74
         Config myConfigD74 =
@@ -3460,15 +2752,10 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3
         myConfigD74.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD74, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD74);
         System.out.println("Start D74 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D74", cnt_rep, myConfigD74, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
 
 
 
@@ -3487,63 +2774,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.2 Resumption ID
         myConfigD75.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75);
         System.out.println("Start D75 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D75", cnt_rep, myConfigD75, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111EccTls12ResumptionID);
         
         // configure and run openssl111 ECC TLS1.2 Resumption ID
         myConfigD75.setDefaultClientConnection(outboundConOpenssl111EccTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75, outboundConOpenssl111EccTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75);
         System.out.println("Start D75 with outboundConOpenssl111EccTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D75", cnt_rep, myConfigD75, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333EccTls12ResumptionID);
         
         // configure and run openssl333 ECC TLS1.2 Resumption ID
         myConfigD75.setDefaultClientConnection(outboundConOpenssl333EccTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75, outboundConOpenssl333EccTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75);
         System.out.println("Start D75 with outboundConOpenssl333EccTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D75", cnt_rep, myConfigD75, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccTls12ResumptionID);
         
         // configure and run Rustls ECC TLS1.2 Resumption ID
         myConfigD75.setDefaultClientConnection(outboundConRustEccTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75, outboundConRustEccTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75);
         System.out.println("Start D75 with outboundConRustEccTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D75", cnt_rep, myConfigD75, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD75.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD75);
         System.out.println("Start D75 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D75", cnt_rep, myConfigD75, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslEcc);
         
 
         // ######## Config for D76
@@ -3561,63 +2823,38 @@ public class App {
 
         // configure and run boringssl ECC TLS1.2 Resumption Ticket
         myConfigD76.setDefaultClientConnection(outboundConBoringsslEcc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76, outboundConBoringsslEcc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76);
         System.out.println("Start D76 with outboundConBoringsslEcc");
         TimeMeasurement.startTimeMeasurement("D76", cnt_rep, myConfigD76, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
         // configure and run openssl111 ECC TLS1.2 Resumption Ticket
         myConfigD76.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76);
         System.out.println("Start D76 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D76", cnt_rep, myConfigD76, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD76.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76);
         System.out.println("Start D76 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D76", cnt_rep, myConfigD76, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccResumptionTickets);
         
         // configure and run Rustls ECC TLS1.2 Resumption Tickets
         myConfigD76.setDefaultClientConnection(outboundConRustEccResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76, outboundConRustEccResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76);
         System.out.println("Start D76 with outboundConRustEccResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D76", cnt_rep, myConfigD76, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD76.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD76);
         System.out.println("Start D76 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D76", cnt_rep, myConfigD76, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
 
 
         // ######## Config for D77
@@ -3635,39 +2872,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD77.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77);
         System.out.println("Start D77 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D77", cnt_rep, myConfigD77, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD77.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77);
         System.out.println("Start D77 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D77", cnt_rep, myConfigD77, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD77.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD77);
         System.out.println("Start D77 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D77", cnt_rep, myConfigD77, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D78
@@ -3685,39 +2907,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD78.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78);
         System.out.println("Start D78 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D78", cnt_rep, myConfigD78, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD78.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78);
         System.out.println("Start D78 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D78", cnt_rep, myConfigD78, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD78.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD78);
         System.out.println("Start D78 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D78", cnt_rep, myConfigD78, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111EccTls12ResumptionID);
 
 
         // ######## Config for D79
@@ -3735,39 +2942,24 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.2 Resumption ID
         myConfigD79.setDefaultClientConnection(outboundConOpenssl111EccTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79, outboundConOpenssl111EccTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79);
         System.out.println("Start D79 with outboundConOpenssl111EccTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D79", cnt_rep, myConfigD79, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333EccTls12ResumptionID);
         
         // configure and run openssl333 ECC TLS1.2 Resumption ID
         myConfigD79.setDefaultClientConnection(outboundConOpenssl333EccTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79, outboundConOpenssl333EccTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79);
         System.out.println("Start D79 with outboundConOpenssl333EccTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D79", cnt_rep, myConfigD79, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD79.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD79);
         System.out.println("Start D79 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D79", cnt_rep, myConfigD79, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
         
 
         // ######## Config for D80
@@ -3785,39 +2977,24 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.2 Resumption Ticket
         myConfigD80.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80);
         System.out.println("Start D80 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D80", cnt_rep, myConfigD80, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD80.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80);
         System.out.println("Start D80 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D80", cnt_rep, myConfigD80, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD80.setDefaultClientConnection(outboundConWolfsslEccTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80, outboundConWolfsslEccTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD80);
         System.out.println("Start D80 with outboundConWolfsslEccTls12");
         TimeMeasurement.startTimeMeasurement("D80", cnt_rep, myConfigD80, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
         
 
         // ######## Config for D81
@@ -3839,63 +3016,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.2 Resumption ID
         myConfigD82.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82);
         System.out.println("Start D82 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D82", cnt_rep, myConfigD82, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD82.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82);
         System.out.println("Start D82 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D82", cnt_rep, myConfigD82, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD82.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82);
         System.out.println("Start D82 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D82", cnt_rep, myConfigD82, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsaTls12ResumptionID);
         
         // configure and run Rustls RSA TLS1.2 Resumption ID
         myConfigD82.setDefaultClientConnection(outboundConRustRsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82, outboundConRustRsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82);
         System.out.println("Start D82 with outboundConRustRsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D82", cnt_rep, myConfigD82, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD82.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD82);
         System.out.println("Start D82 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D82", cnt_rep, myConfigD82, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslRsa);
 
 
         // ######## Config for D83
@@ -3913,63 +3065,38 @@ public class App {
 
         // configure and run boringssl RSA TLS1.2 Resumption Ticket
         myConfigD83.setDefaultClientConnection(outboundConBoringsslRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83, outboundConBoringsslRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83);
         System.out.println("Start D83 with outboundConBoringsslRsa");
         TimeMeasurement.startTimeMeasurement("D83", cnt_rep, myConfigD83, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD83.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83);
         System.out.println("Start D83 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D83", cnt_rep, myConfigD83, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD83.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83);
         System.out.println("Start D83 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D83", cnt_rep, myConfigD83, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustRsaResumptionTickets);
         
         // configure and run Rustls RSA TLS1.2 Resumption Tickets
         myConfigD83.setDefaultClientConnection(outboundConRustRsaResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83, outboundConRustRsaResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83);
         System.out.println("Start D83 with outboundConRustRsaResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D83", cnt_rep, myConfigD83, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD83.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD83);
         System.out.println("Start D83 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D83", cnt_rep, myConfigD83, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
 
 
         // ######## Config for D84
@@ -3987,39 +3114,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD84.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84);
         System.out.println("Start D84 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D84", cnt_rep, myConfigD84, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD84.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84);
         System.out.println("Start D84 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D84", cnt_rep, myConfigD84, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD84.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD84);
         System.out.println("Start D84 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D84", cnt_rep, myConfigD84, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D85
@@ -4037,39 +3149,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD85.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85);
         System.out.println("Start D85 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D85", cnt_rep, myConfigD85, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD85.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85);
         System.out.println("Start D85 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D85", cnt_rep, myConfigD85, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
 
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD85.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD85);
         System.out.println("Start D85 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D85", cnt_rep, myConfigD85, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
 
 
         // ######## Config for D86
@@ -4088,40 +3185,25 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD86.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86);
         System.out.println("Start D86 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D86", cnt_rep, myConfigD86, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD86.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86);
         System.out.println("Start D86 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D86", cnt_rep, myConfigD86, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD86.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD86);
         System.out.println("Start D86 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D86", cnt_rep, myConfigD86, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D87
@@ -4139,39 +3221,24 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD87.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87);
         System.out.println("Start D87 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D87", cnt_rep, myConfigD87, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD87.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87);
         System.out.println("Start D87 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D87", cnt_rep, myConfigD87, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
   
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD87.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD87);
         System.out.println("Start D87 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D87", cnt_rep, myConfigD87, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
 
 
         // ######## Config for D88
@@ -4189,40 +3256,25 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD88.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88);
         System.out.println("Start D88 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D88", cnt_rep, myConfigD88, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD88.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88);
         System.out.println("Start D88 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D88", cnt_rep, myConfigD88, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD88.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD88);
         System.out.println("Start D88 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D88", cnt_rep, myConfigD88, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D89
@@ -4241,40 +3293,25 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD89.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89);
         System.out.println("Start D89 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D89", cnt_rep, myConfigD89, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD89.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89);
         System.out.println("Start D89 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D89", cnt_rep, myConfigD89, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
         
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD89.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD89);
         System.out.println("Start D89 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D89", cnt_rep, myConfigD89, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111RsaTls12ResumptionID);
 
 
 
@@ -4294,40 +3331,25 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption ID
         myConfigD91.setDefaultClientConnection(outboundConOpenssl111RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91, outboundConOpenssl111RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91);
         System.out.println("Start D91 with outboundConOpenssl111RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D91", cnt_rep, myConfigD91, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333RsaTls12ResumptionID);
         
         // configure and run openssl333 RSA TLS1.2 Resumption ID
         myConfigD91.setDefaultClientConnection(outboundConOpenssl333RsaTls12ResumptionID);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91, outboundConOpenssl333RsaTls12ResumptionID);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91);
         System.out.println("Start D91 with outboundConOpenssl333RsaTls12ResumptionID");
         TimeMeasurement.startTimeMeasurement("D91", cnt_rep, myConfigD91, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
     
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD91.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD91);
         System.out.println("Start D91 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D91", cnt_rep, myConfigD91, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Rsa);
 
 
         // ######## Config for D92
@@ -4346,40 +3368,25 @@ public class App {
         
         // configure and run openssl111 RSA TLS1.2 Resumption Ticket
         myConfigD92.setDefaultClientConnection(outboundConOpenssl111Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92, outboundConOpenssl111Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92);
         System.out.println("Start D92 with outboundConOpenssl111Rsa");
         TimeMeasurement.startTimeMeasurement("D92", cnt_rep, myConfigD92, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Rsa);
         
         // configure and run openssl333 RSA TLS1.2 Resumption Tickets
         myConfigD92.setDefaultClientConnection(outboundConOpenssl333Rsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92, outboundConOpenssl333Rsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92);
         System.out.println("Start D92 with outboundConOpenssl333Rsa");
         TimeMeasurement.startTimeMeasurement("D92", cnt_rep, myConfigD92, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslRsaTls12);
 
         
         // configure and run WolfSSL RSA TLS1.2 Resumption ID
         myConfigD92.setDefaultClientConnection(outboundConWolfsslRsaTls12);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92, outboundConWolfsslRsaTls12);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD92);
         System.out.println("Start D92 with outboundConWolfsslRsaTls12");
         TimeMeasurement.startTimeMeasurement("D92", cnt_rep, myConfigD92, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D93
@@ -4398,51 +3405,31 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.2 Resumption Ticket
         myConfigD93.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93);
         System.out.println("Start D93 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D93", cnt_rep, myConfigD93, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD93.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93);
         System.out.println("Start D93 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D93", cnt_rep, myConfigD93, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccResumptionTickets);
         
         // configure and run Rustls ECC TLS1.2 Resumption Tickets
         myConfigD93.setDefaultClientConnection(outboundConRustEccResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93, outboundConRustEccResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93);
         System.out.println("Start D93 with outboundConRustEccResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D93", cnt_rep, myConfigD93, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD93.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD93);
         System.out.println("Start D93 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D93", cnt_rep, myConfigD93, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D94
@@ -4461,51 +3448,31 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.2 Resumption Ticket
         myConfigD94.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94);
         System.out.println("Start D94 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D94", cnt_rep, myConfigD94, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD94.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94);
         System.out.println("Start D94 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D94", cnt_rep, myConfigD94, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccResumptionTickets);
         
         // configure and run Rustls ECC TLS1.2 Resumption Tickets
         myConfigD94.setDefaultClientConnection(outboundConRustEccResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94, outboundConRustEccResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94);
         System.out.println("Start D94 with outboundConRustEccResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D94", cnt_rep, myConfigD94, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD94.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD94);
         System.out.println("Start D94 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D94", cnt_rep, myConfigD94, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D95
@@ -4524,28 +3491,18 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD95.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD95, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD95);
         System.out.println("Start D95 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D95", cnt_rep, myConfigD95, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
     
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD95.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD95, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD95);
         System.out.println("Start D95 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D95", cnt_rep, myConfigD95, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D96
@@ -4564,28 +3521,18 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.2 Resumption Tickets
         myConfigD96.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD96, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD96);
         System.out.println("Start D96 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D96", cnt_rep, myConfigD96, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13);
 
         
         // configure and run WolfSSL ECC TLS1.2 Resumption ID
         myConfigD96.setDefaultClientConnection(outboundConWolfsslEccTls13);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD96, outboundConWolfsslEccTls13);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, myConfigD96);
         System.out.println("Start D96 with outboundConWolfsslEccTls13");
         TimeMeasurement.startTimeMeasurement("D96", cnt_rep, myConfigD96, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D97
@@ -4604,51 +3551,31 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.3 Early Data
         myConfigD97.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97);
         System.out.println("Start D97 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D97", cnt_rep, myConfigD97, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3 Early Data
         myConfigD97.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97);
         System.out.println("Start D97 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D97", cnt_rep, myConfigD97, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccResumptionTickets);
         
         // configure and run Rustls ECC TLS1.3 Early Data
         myConfigD97.setDefaultClientConnection(outboundConRustEccResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97, outboundConRustEccResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97);
         System.out.println("Start D97 with outboundConRustEccResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D97", cnt_rep, myConfigD97, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Zero);
         
         // configure and run WolfSSL ECC TLS1.3 Early Data
         myConfigD97.setDefaultClientConnection(outboundConWolfsslEccTls13Zero);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97, outboundConWolfsslEccTls13Zero);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD97);
         System.out.println("Start D97 with outboundConWolfsslEccTls13Zero");
         TimeMeasurement.startTimeMeasurement("D97", cnt_rep, myConfigD97, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111Ecc);
 
 
         // ######## Config for D98
@@ -4667,51 +3594,31 @@ public class App {
         
         // configure and run openssl111 ECC TLS1.3 Early Data
         myConfigD98.setDefaultClientConnection(outboundConOpenssl111Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98, outboundConOpenssl111Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98);
         System.out.println("Start D98 with outboundConOpenssl111Ecc");
         TimeMeasurement.startTimeMeasurement("D98", cnt_rep, myConfigD98, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
         
         // configure and run openssl333 ECC TLS1.3 Early Data
         myConfigD98.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98);
         System.out.println("Start D98 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D98", cnt_rep, myConfigD98, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustEccResumptionTickets);
         
         // configure and run Rustls ECC TLS1.3 Early Data
         myConfigD98.setDefaultClientConnection(outboundConRustEccResumptionTickets);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98, outboundConRustEccResumptionTickets);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98);
         System.out.println("Start D98 with outboundConRustEccResumptionTickets");
         TimeMeasurement.startTimeMeasurement("D98", cnt_rep, myConfigD98, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Zero);
         
         // configure and run WolfSSL ECC TLS1.3 Early Data
         myConfigD98.setDefaultClientConnection(outboundConWolfsslEccTls13Zero);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98, outboundConWolfsslEccTls13Zero);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD98);
         System.out.println("Start D98 with outboundConWolfsslEccTls13Zero");
         TimeMeasurement.startTimeMeasurement("D98", cnt_rep, myConfigD98, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D99
@@ -4730,28 +3637,18 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3 Early Data
         myConfigD99.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD99, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD99);
         System.out.println("Start D99 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D99", cnt_rep, myConfigD99, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Zero);
         
         
         // configure and run WolfSSL ECC TLS1.3 Early Data
         myConfigD99.setDefaultClientConnection(outboundConWolfsslEccTls13Zero);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD99, outboundConWolfsslEccTls13Zero);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD99);
         System.out.println("Start D99 with outboundConWolfsslEccTls13Zero");
         TimeMeasurement.startTimeMeasurement("D99", cnt_rep, myConfigD99, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333Ecc);
 
 
         // ######## Config for D100
@@ -4770,28 +3667,18 @@ public class App {
         
         // configure and run openssl333 ECC TLS1.3 Early Data
         myConfigD100.setDefaultClientConnection(outboundConOpenssl333Ecc);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD100, outboundConOpenssl333Ecc);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD100);
         System.out.println("Start D100 with outboundConOpenssl333Ecc");
         TimeMeasurement.startTimeMeasurement("D100", cnt_rep, myConfigD100, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Zero);
         
         
         // configure and run WolfSSL ECC TLS1.3 Early Data
         myConfigD100.setDefaultClientConnection(outboundConWolfsslEccTls13Zero);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD100, outboundConWolfsslEccTls13Zero);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, myConfigD100);
         System.out.println("Start D100 with outboundConWolfsslEccTls13Zero");
         TimeMeasurement.startTimeMeasurement("D100", cnt_rep, myConfigD100, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
 
         // ######## Config for D101
@@ -4809,27 +3696,17 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD101.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD101, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD101);
         System.out.println("Start D101 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D101", cnt_rep, myConfigD101, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD101.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD101, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD101);
         System.out.println("Start D101 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D101", cnt_rep, myConfigD101, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D102
         Config myConfigD102 =
@@ -4846,51 +3723,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD102.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102);
         System.out.println("Start D102 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D102", cnt_rep, myConfigD102, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD102.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102);
         System.out.println("Start D102 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D102", cnt_rep, myConfigD102, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD102.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102);
         System.out.println("Start D102 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D102", cnt_rep, myConfigD102, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD102.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD102);
         System.out.println("Start D102 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D102", cnt_rep, myConfigD102, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D103
         Config myConfigD103 =
@@ -4907,15 +3764,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD103.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD103, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD103);
         System.out.println("Start D103 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D103", cnt_rep, myConfigD103, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
         
         // ######## Config for D104
         Config myConfigD104 =
@@ -4932,15 +3784,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD104.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD104, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD104);
         System.out.println("Start D104 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D104", cnt_rep, myConfigD104, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D105
         Config myConfigD105 =
@@ -4957,51 +3804,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD105.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105);
         System.out.println("Start D105 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D105", cnt_rep, myConfigD105, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD105.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105);
         System.out.println("Start D105 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D105", cnt_rep, myConfigD105, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD105.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105);
         System.out.println("Start D105 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D105", cnt_rep, myConfigD105, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD105.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD105);
         System.out.println("Start D105 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D105", cnt_rep, myConfigD105, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D106
         Config myConfigD106 =
@@ -5018,51 +3845,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD106.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106);
         System.out.println("Start D106 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D106", cnt_rep, myConfigD106, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD106.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106);
         System.out.println("Start D106 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D106", cnt_rep, myConfigD106, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD106.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106);
         System.out.println("Start D106 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D106", cnt_rep, myConfigD106, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD106.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD106);
         System.out.println("Start D106 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D106", cnt_rep, myConfigD106, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
 
         // ######## Config for D107
@@ -5080,51 +3887,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD107.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107);
         System.out.println("Start D107 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D107", cnt_rep, myConfigD107, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD107.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107);
         System.out.println("Start D107 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D107", cnt_rep, myConfigD107, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD107.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107);
         System.out.println("Start D107 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D107", cnt_rep, myConfigD107, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD107.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD107);
         System.out.println("Start D107 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D107", cnt_rep, myConfigD107, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D108
         Config myConfigD108 =
@@ -5141,51 +3928,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD108.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108);
         System.out.println("Start D108 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D108", cnt_rep, myConfigD108, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD108.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108);
         System.out.println("Start D108 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D108", cnt_rep, myConfigD108, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD108.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108);
         System.out.println("Start D108 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D108", cnt_rep, myConfigD108, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD108.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD108);
         System.out.println("Start D108 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D108", cnt_rep, myConfigD108, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D109
         Config myConfigD109 =
@@ -5202,51 +3969,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD109.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109);
         System.out.println("Start D109 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D109", cnt_rep, myConfigD109, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD109.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109);
         System.out.println("Start D109 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D109", cnt_rep, myConfigD109, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD109.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109);
         System.out.println("Start D109 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D109", cnt_rep, myConfigD109, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD109.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD109);
         System.out.println("Start D109 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D109", cnt_rep, myConfigD109, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D110
         Config myConfigD110 =
@@ -5263,15 +4010,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD110.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD110, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD110);
         System.out.println("Start D110 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D110", cnt_rep, myConfigD110, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D111
         Config myConfigD111 =
@@ -5288,51 +4030,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD111.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111);
         System.out.println("Start D111 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D111", cnt_rep, myConfigD111, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD111.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111);
         System.out.println("Start D111 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D111", cnt_rep, myConfigD111, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD111.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111);
         System.out.println("Start D111 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D111", cnt_rep, myConfigD111, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD111.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD111);
         System.out.println("Start D111 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D111", cnt_rep, myConfigD111, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D112
         Config myConfigD112 =
@@ -5349,51 +4071,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD112.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112);
         System.out.println("Start D112 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D112", cnt_rep, myConfigD112, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD112.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112);
         System.out.println("Start D112 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D112", cnt_rep, myConfigD112, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD112.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112);
         System.out.println("Start D112 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D112", cnt_rep, myConfigD112, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD112.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD112);
         System.out.println("Start D112 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D112", cnt_rep, myConfigD112, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc256);
 
 
         // ######## Config for D113
@@ -5411,27 +4113,17 @@ public class App {
     
         // configure and run Rustls OCSP ECC256
         myConfigD113.setDefaultClientConnection(outboundConRustOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD113, outboundConRustOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD113);
         System.out.println("Start D113 with outboundConRustOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D113", cnt_rep, myConfigD113, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12Ecc256);
 
         // configure and run WolfSSL ECC256
         myConfigD113.setDefaultClientConnection(outboundConWolfsslEccTls12Ecc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD113, outboundConWolfsslEccTls12Ecc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD113);
         System.out.println("Start D113 with outboundConWolfsslEccTls12Ecc256");
         TimeMeasurement.startTimeMeasurement("D113", cnt_rep, myConfigD113, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc521);
 
         // ######## Config for D114
         Config myConfigD114 =
@@ -5448,15 +4140,10 @@ public class App {
     
         // configure and run Rustls OCSP ECC521
         myConfigD114.setDefaultClientConnection(outboundConRustOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD114, outboundConRustOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD114);
         System.out.println("Start D114 with outboundConRustOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D114", cnt_rep, myConfigD114, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa1024);
 
         // ######## Config for D115
         Config myConfigD115 =
@@ -5473,27 +4160,17 @@ public class App {
 
         // configure and run boringssl OCSP RSA4096
         myConfigD115.setDefaultClientConnection(outboundConBoringsslOcspRsa1024);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD115, outboundConBoringsslOcspRsa1024);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD115);
         System.out.println("Start D115 with outboundConBoringsslOcspRsa1024");
         TimeMeasurement.startTimeMeasurement("D115", cnt_rep, myConfigD115, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12Rsa1024);
 
         // configure and run WolfSSL RSA4096
         myConfigD115.setDefaultClientConnection(outboundConWolfsslEccTls12Rsa1024);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD115, outboundConWolfsslEccTls12Rsa1024);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD115);
         System.out.println("Start D115 with outboundConWolfsslEccTls12Rsa1024");
         TimeMeasurement.startTimeMeasurement("D115", cnt_rep, myConfigD115, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa4096);
 
         // ######## Config for D116
         Config myConfigD116 =
@@ -5510,63 +4187,38 @@ public class App {
 
         // configure and run boringssl OCSP RSA4096
         myConfigD116.setDefaultClientConnection(outboundConBoringsslOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116, outboundConBoringsslOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116);
         System.out.println("Start D116 with outboundConBoringsslOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D116", cnt_rep, myConfigD116, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa4096);
         
         // configure and run openssl111 OCSP RSA4096
         myConfigD116.setDefaultClientConnection(outboundConOpenssl111OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116, outboundConOpenssl111OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116);
         System.out.println("Start D116 with outboundConOpenssl111OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D116", cnt_rep, myConfigD116, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa4096);
         
         // configure and run openssl333 OCSP RSA4096
         myConfigD116.setDefaultClientConnection(outboundConOpenssl333OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116, outboundConOpenssl333OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116);
         System.out.println("Start D116 with outboundConOpenssl333OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D116", cnt_rep, myConfigD116, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa4096);
         
         // configure and run Rustls OCSP RSA4096
         myConfigD116.setDefaultClientConnection(outboundConRustOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116, outboundConRustOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116);
         System.out.println("Start D116 with outboundConRustOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D116", cnt_rep, myConfigD116, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls12Rsa4096);
 
         // configure and run WolfSSL RSA4096
-        myConfigD114.setDefaultClientConnection(outboundConWolfsslEccTls12Rsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116, outboundConWolfsslEccTls12Rsa4096);
+        myConfigD116.setDefaultClientConnection(outboundConWolfsslEccTls12Rsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, myConfigD116);
         System.out.println("Start D116 with outboundConWolfsslEccTls12Rsa4096");
         TimeMeasurement.startTimeMeasurement("D116", cnt_rep, myConfigD116, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc256);
 
         // ######## Config for D117
         Config myConfigD117 =
@@ -5583,63 +4235,38 @@ public class App {
 
         // configure and run boringssl OCSP ECC 256
         myConfigD117.setDefaultClientConnection(outboundConBoringsslOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117, outboundConBoringsslOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117);
         System.out.println("Start D117 with outboundConBoringsslOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D117", cnt_rep, myConfigD117, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc256);
         
         // configure and run openssl111 OCSP ECC 256
         myConfigD117.setDefaultClientConnection(outboundConOpenssl111OcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117, outboundConOpenssl111OcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117);
         System.out.println("Start D117 with outboundConOpenssl111OcspEcc256");
         TimeMeasurement.startTimeMeasurement("D117", cnt_rep, myConfigD117, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc256);
         
         // configure and run openssl333 OCSP ECC 256
         myConfigD117.setDefaultClientConnection(outboundConOpenssl333OcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117, outboundConOpenssl333OcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117);
         System.out.println("Start D117 with outboundConOpenssl333OcspEcc256");
         TimeMeasurement.startTimeMeasurement("D117", cnt_rep, myConfigD117, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc256);
         
         // configure and run Rustls OCSP ECC 256
         myConfigD117.setDefaultClientConnection(outboundConRustOcspEcc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117, outboundConRustOcspEcc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117);
         System.out.println("Start D117 with outboundConRustOcspEcc256");
         TimeMeasurement.startTimeMeasurement("D117", cnt_rep, myConfigD117, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Ecc256);
 
         // configure and run WolfSSL ECC 256
         myConfigD117.setDefaultClientConnection(outboundConWolfsslEccTls13Ecc256);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117, outboundConWolfsslEccTls13Ecc256);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD117);
         System.out.println("Start D117 with outboundConWolfsslEccTls13Ecc256");
         TimeMeasurement.startTimeMeasurement("D117", cnt_rep, myConfigD117, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspEcc521);
 
         // ######## Config for D118
         Config myConfigD118 =
@@ -5656,63 +4283,38 @@ public class App {
 
         // configure and run boringssl OCSP ECC 521
         myConfigD118.setDefaultClientConnection(outboundConBoringsslOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118, outboundConBoringsslOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118);
         System.out.println("Start D118 with outboundConBoringsslOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D118", cnt_rep, myConfigD118, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspEcc521);
         
         // configure and run openssl111 OCSP ECC 521
         myConfigD118.setDefaultClientConnection(outboundConOpenssl111OcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118, outboundConOpenssl111OcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118);
         System.out.println("Start D118 with outboundConOpenssl111OcspEcc521");
         TimeMeasurement.startTimeMeasurement("D118", cnt_rep, myConfigD118, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspEcc521);
         
         // configure and run openssl333 OCSP ECC 521
         myConfigD118.setDefaultClientConnection(outboundConOpenssl333OcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118, outboundConOpenssl333OcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118);
         System.out.println("Start D118 with outboundConOpenssl333OcspEcc521");
         TimeMeasurement.startTimeMeasurement("D118", cnt_rep, myConfigD118, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspEcc521);
         
         // configure and run Rustls OCSP ECC 521
         myConfigD118.setDefaultClientConnection(outboundConRustOcspEcc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118, outboundConRustOcspEcc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118);
         System.out.println("Start D118 with outboundConRustOcspEcc521");
         TimeMeasurement.startTimeMeasurement("D118", cnt_rep, myConfigD118, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Ecc521);
 
         // configure and run WolfSSL ECC 521
         myConfigD118.setDefaultClientConnection(outboundConWolfsslEccTls13Ecc521);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118, outboundConWolfsslEccTls13Ecc521);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD118);
         System.out.println("Start D118 with outboundConWolfsslEccTls13Ecc521");
         TimeMeasurement.startTimeMeasurement("D118", cnt_rep, myConfigD118, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa1024);
 
 
         // ######## Config for D119
@@ -5730,15 +4332,10 @@ public class App {
 
         // configure and run boringssl OCSP RSA 1024
         myConfigD119.setDefaultClientConnection(outboundConBoringsslOcspRsa1024);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD119, outboundConBoringsslOcspRsa1024);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD119);
         System.out.println("Start D119 with outboundConBoringsslOcspRsa1024");
         TimeMeasurement.startTimeMeasurement("D119", cnt_rep, myConfigD119, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslOcspRsa4096);
 
 
         // ######## Config for D120
@@ -5756,63 +4353,38 @@ public class App {
 
         // configure and run boringssl OCSP RSA 4096
         myConfigD120.setDefaultClientConnection(outboundConBoringsslOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120, outboundConBoringsslOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120);
         System.out.println("Start D120 with outboundConBoringsslOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D120", cnt_rep, myConfigD120, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111OcspRsa4096);
         
         // configure and run openssl111 OCSP RSA 4096
         myConfigD120.setDefaultClientConnection(outboundConOpenssl111OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120, outboundConOpenssl111OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120);
         System.out.println("Start D120 with outboundConOpenssl111OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D120", cnt_rep, myConfigD120, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333OcspRsa4096);
         
         // configure and run openssl333 OCSP RSA 4096
         myConfigD120.setDefaultClientConnection(outboundConOpenssl333OcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120, outboundConOpenssl333OcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120);
         System.out.println("Start D120 with outboundConOpenssl333OcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D120", cnt_rep, myConfigD120, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustOcspRsa4096);
         
         // configure and run Rustls OCSP RSA 4096
         myConfigD120.setDefaultClientConnection(outboundConRustOcspRsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120, outboundConRustOcspRsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120);
         System.out.println("Start D120 with outboundConRustOcspRsa4096");
         TimeMeasurement.startTimeMeasurement("D120", cnt_rep, myConfigD120, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConWolfsslEccTls13Rsa4096);
 
         // configure and run WolfSSL RSA 1024
         myConfigD120.setDefaultClientConnection(outboundConWolfsslEccTls13Rsa4096);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120, outboundConWolfsslEccTls13Rsa4096);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, myConfigD120);
         System.out.println("Start D120 with outboundConWolfsslEccTls13Rsa4096");
         TimeMeasurement.startTimeMeasurement("D120", cnt_rep, myConfigD120, handshakeActions, true, 3, 1.5, true, "WolfSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D121
         Config myConfigD121 =
@@ -5829,27 +4401,17 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD121.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD121, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD121);
         System.out.println("Start D121 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D121", cnt_rep, myConfigD121, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD121.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD121, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD121);
         System.out.println("Start D121 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D121", cnt_rep, myConfigD121, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D122
         Config myConfigD122 =
@@ -5866,51 +4428,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD122.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122);
         System.out.println("Start D122 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D122", cnt_rep, myConfigD122, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD122.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122);
         System.out.println("Start D122 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D122", cnt_rep, myConfigD122, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD122.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122);
         System.out.println("Start D122 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D122", cnt_rep, myConfigD122, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD122.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD122);
         System.out.println("Start D122 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D122", cnt_rep, myConfigD122, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D123
         Config myConfigD123 =
@@ -5927,27 +4469,17 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD123.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD123, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD123);
         System.out.println("Start D123 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D123", cnt_rep, myConfigD123, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD123.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD123, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD123);
         System.out.println("Start D123 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D123", cnt_rep, myConfigD123, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
         
         // ######## Config for D124
         Config myConfigD124 =
@@ -5964,15 +4496,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD124.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD124, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD124);
         System.out.println("Start D124 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D124", cnt_rep, myConfigD124, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D125
         Config myConfigD125 =
@@ -5989,51 +4516,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD125.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125);
         System.out.println("Start D125 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D125", cnt_rep, myConfigD125, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD125.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125);
         System.out.println("Start D125 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D125", cnt_rep, myConfigD125, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD125.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125);
         System.out.println("Start D125 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D125", cnt_rep, myConfigD125, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD125.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD125);
         System.out.println("Start D125 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D125", cnt_rep, myConfigD125, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D126
         Config myConfigD126 =
@@ -6050,51 +4557,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.2 Client Auth
         myConfigD126.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126);
         System.out.println("Start D126 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D126", cnt_rep, myConfigD126, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD126.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126);
         System.out.println("Start D126 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D126", cnt_rep, myConfigD126, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD126.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126);
         System.out.println("Start D126 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D126", cnt_rep, myConfigD126, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD126.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH, myConfigD126);
         System.out.println("Start D126 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D126", cnt_rep, myConfigD126, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
 
         // ######## Config for D127
@@ -6112,51 +4599,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD127.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127);
         System.out.println("Start D127 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D127", cnt_rep, myConfigD127, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD127.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127);
         System.out.println("Start D127 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D127", cnt_rep, myConfigD127, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD127.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127);
         System.out.println("Start D127 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D127", cnt_rep, myConfigD127, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD127.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD127);
         System.out.println("Start D127 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D127", cnt_rep, myConfigD127, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
         
         // ######## Config for D128
         Config myConfigD128 =
@@ -6173,51 +4640,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD128.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128);
         System.out.println("Start D128 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D128", cnt_rep, myConfigD128, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD128.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128);
         System.out.println("Start D128 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D128", cnt_rep, myConfigD128, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD128.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128);
         System.out.println("Start D128 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D128", cnt_rep, myConfigD128, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD128.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD128);
         System.out.println("Start D128 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D128", cnt_rep, myConfigD128, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D129
         Config myConfigD129 =
@@ -6234,51 +4681,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD129.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129);
         System.out.println("Start D129 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D129", cnt_rep, myConfigD129, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD129.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129);
         System.out.println("Start D129 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D129", cnt_rep, myConfigD129, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD129.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129);
         System.out.println("Start D129 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D129", cnt_rep, myConfigD129, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD129.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD129);
         System.out.println("Start D129 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D129", cnt_rep, myConfigD129, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D130
         Config myConfigD130 =
@@ -6295,15 +4722,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD130.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD130, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD130);
         System.out.println("Start D130 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D130", cnt_rep, myConfigD130, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D131
         Config myConfigD131 =
@@ -6320,51 +4742,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD131.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131);
         System.out.println("Start D131 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D131", cnt_rep, myConfigD131, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD131.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131);
         System.out.println("Start D131 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D131", cnt_rep, myConfigD131, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD131.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131);
         System.out.println("Start D131 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D131", cnt_rep, myConfigD131, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD131.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD131);
         System.out.println("Start D131 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D131", cnt_rep, myConfigD131, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D132
         Config myConfigD132 =
@@ -6381,51 +4783,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD132.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132);
         System.out.println("Start D132 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D132", cnt_rep, myConfigD132, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD132.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132);
         System.out.println("Start D132 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D132", cnt_rep, myConfigD132, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD132.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132);
         System.out.println("Start D132 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D132", cnt_rep, myConfigD132, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD132.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH, myConfigD132);
         System.out.println("Start D132 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D132", cnt_rep, myConfigD132, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
 
 
         // ######## Config for D133
@@ -6447,15 +4829,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD134.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD134, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD134);
         System.out.println("Start D134 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D134", cnt_rep, myConfigD134, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D135
         Config myConfigD135 =
@@ -6472,39 +4849,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD135.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135);
         System.out.println("Start D135 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D135", cnt_rep, myConfigD135, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD135.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135);
         System.out.println("Start D135 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D135", cnt_rep, myConfigD135, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD135.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD135);
         System.out.println("Start D135 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D135", cnt_rep, myConfigD135, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
 
         // ######## Config for D136
         Config myConfigD136 =
@@ -6521,7 +4883,7 @@ public class App {
 
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD136.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD136, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD136);
         System.out.println("Start D136 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D136", cnt_rep, myConfigD136, handshakeActions, true, 3, 1.5, true, "Rustls");
 
@@ -6545,39 +4907,24 @@ public class App {
 
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD138.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138);
         System.out.println("Start D138 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D138", cnt_rep, myConfigD138, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD138.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138);
         System.out.println("Start D138 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D138", cnt_rep, myConfigD138, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD138.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD138);
         System.out.println("Start D138 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D138", cnt_rep, myConfigD138, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D139
         Config myConfigD139 =
@@ -6594,39 +4941,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD139.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139);
         System.out.println("Start D139 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D139", cnt_rep, myConfigD139, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD139.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139);
         System.out.println("Start D139 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D139", cnt_rep, myConfigD139, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD139.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD139);
         System.out.println("Start D139 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D139", cnt_rep, myConfigD139, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
 
         // ######## Config for D140
         Config myConfigD140 =
@@ -6643,15 +4975,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD140.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD140, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD140);
         System.out.println("Start D140 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D140", cnt_rep, myConfigD140, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D141
         Config myConfigD141 =
@@ -6668,39 +4995,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD141.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141);
         System.out.println("Start D141 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D141", cnt_rep, myConfigD141, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD141.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141);
         System.out.println("Start D141 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D141", cnt_rep, myConfigD141, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD141.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD141);
         System.out.println("Start D141 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D141", cnt_rep, myConfigD141, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
 
         // ######## Config for D142
         Config myConfigD142 =
@@ -6717,15 +5029,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD142.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD142, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD142);
         System.out.println("Start D142 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D142", cnt_rep, myConfigD142, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
 
         // ######## Config for D143
@@ -6747,39 +5054,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD144.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144);
         System.out.println("Start D144 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D144", cnt_rep, myConfigD144, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD144.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144);
         System.out.println("Start D144 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D144", cnt_rep, myConfigD144, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD144.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD144);
         System.out.println("Start D144 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D144", cnt_rep, myConfigD144, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D145
         Config myConfigD145 =
@@ -6796,39 +5088,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD145.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145);
         System.out.println("Start D145 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D145", cnt_rep, myConfigD145, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth with wrong CA
         myConfigD145.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145);
         System.out.println("Start D145 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D145", cnt_rep, myConfigD145, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth with wrong CA
         myConfigD145.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT, myConfigD145);
         System.out.println("Start D145 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D145", cnt_rep, myConfigD145, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
 
 
         // ######## Config for D146
@@ -6846,15 +5123,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD146.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD146, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD146);
         System.out.println("Start D146 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D146", cnt_rep, myConfigD146, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
 
         // ######## Config for D147
         Config myConfigD147 =
@@ -6871,39 +5143,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD147.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147);
         System.out.println("Start D147 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D147", cnt_rep, myConfigD147, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD147.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147);
         System.out.println("Start D147 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D147", cnt_rep, myConfigD147, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD147.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD147);
         System.out.println("Start D147 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D147", cnt_rep, myConfigD147, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
 
         // ######## Config for D148
         Config myConfigD148 =
@@ -6937,39 +5194,24 @@ public class App {
 
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD150.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150);
         System.out.println("Start D150 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D150", cnt_rep, myConfigD150, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD150.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150);
         System.out.println("Start D150 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D150", cnt_rep, myConfigD150, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD150.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD150);
         System.out.println("Start D150 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D150", cnt_rep, myConfigD150, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
 
         // ######## Config for D151
         Config myConfigD151 =
@@ -6986,39 +5228,24 @@ public class App {
 
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD151.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151);
         System.out.println("Start D151 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D151", cnt_rep, myConfigD151, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD151.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151);
         System.out.println("Start D151 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D151", cnt_rep, myConfigD151, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD151.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD151);
         System.out.println("Start D151 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D151", cnt_rep, myConfigD151, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
 
 
         // ######## Config for D152
@@ -7036,15 +5263,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD152.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD152, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD152);
         System.out.println("Start D152 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D152", cnt_rep, myConfigD152, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
 
         // ######## Config for D153
         Config myConfigD153 =
@@ -7061,39 +5283,24 @@ public class App {
 
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD153.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153);
         System.out.println("Start D153 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D153", cnt_rep, myConfigD153, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD153.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153);
         System.out.println("Start D153 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D153", cnt_rep, myConfigD153, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD153.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD153);
         System.out.println("Start D153 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D153", cnt_rep, myConfigD153, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
 
         // ######## Config for D154
         Config myConfigD154 =
@@ -7110,15 +5317,10 @@ public class App {
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD154.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD154, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD154);
         System.out.println("Start D154 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D154", cnt_rep, myConfigD154, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
 
         // ######## Config for D155
         // NOT SUPPORTED BY ANY LIBRARY
@@ -7138,39 +5340,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD156.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156);
         System.out.println("Start D156 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D156", cnt_rep, myConfigD156, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD156.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156);
         System.out.println("Start D156 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D156", cnt_rep, myConfigD156, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD156.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD156);
         System.out.println("Start D156 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D156", cnt_rep, myConfigD156, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
 
         // ######## Config for D157
         Config myConfigD157 =
@@ -7187,39 +5374,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.2 Client Auth
         myConfigD157.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157);
         System.out.println("Start D157 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D157", cnt_rep, myConfigD157, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.2 Client Auth
         myConfigD157.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157);
         System.out.println("Start D157 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D157", cnt_rep, myConfigD157, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.2 Client Auth
         myConfigD157.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY, myConfigD157);
         System.out.println("Start D157 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D157", cnt_rep, myConfigD157, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         
         // ######## Config for D158
@@ -7238,39 +5410,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD158.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158);
         System.out.println("Start D158 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D158", cnt_rep, myConfigD158, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD158.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158);
         System.out.println("Start D158 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D158", cnt_rep, myConfigD158, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD158.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD158);
         System.out.println("Start D158 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D158", cnt_rep, myConfigD158, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D159
         Config myConfigD159 =
@@ -7288,39 +5445,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD159.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159);
         System.out.println("Start D159 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D159", cnt_rep, myConfigD159, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD159.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159);
         System.out.println("Start D159 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D159", cnt_rep, myConfigD159, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD159.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD159);
         System.out.println("Start D159 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D159", cnt_rep, myConfigD159, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D160
         Config myConfigD160 =
@@ -7337,39 +5479,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD160.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160);
         System.out.println("Start D160 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D160", cnt_rep, myConfigD160, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD160.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160);
         System.out.println("Start D160 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D160", cnt_rep, myConfigD160, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD160.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD160);
         System.out.println("Start D160 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D160", cnt_rep, myConfigD160, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D161
         // NOT SUPPORTED BY ANY LIBRARY
@@ -7389,39 +5516,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD162.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162);
         System.out.println("Start D162 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D162", cnt_rep, myConfigD162, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD162.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162);
         System.out.println("Start D162 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D162", cnt_rep, myConfigD162, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD162.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD162);
         System.out.println("Start D162 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D162", cnt_rep, myConfigD162, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaEcdsa);
 
         // ######## Config for D163
         Config myConfigD163 =
@@ -7438,39 +5550,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD163.setDefaultClientConnection(outboundConOpenssl111WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163, outboundConOpenssl111WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163);
         System.out.println("Start D163 with outboundConOpenssl111WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D163", cnt_rep, myConfigD163, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD163.setDefaultClientConnection(outboundConOpenssl333WrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163, outboundConOpenssl333WrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163);
         System.out.println("Start D163 with outboundConOpenssl333WrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D163", cnt_rep, myConfigD163, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD163.setDefaultClientConnection(outboundConRustWrongCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163, outboundConRustWrongCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD163);
         System.out.println("Start D163 with outboundConRustWrongCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D163", cnt_rep, myConfigD163, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D164
         Config myConfigD164 =
@@ -7487,39 +5584,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD164.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164);
         System.out.println("Start D164 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D164", cnt_rep, myConfigD164, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD164.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164);
         System.out.println("Start D164 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D164", cnt_rep, myConfigD164, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD164.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD164);
         System.out.println("Start D164 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D164", cnt_rep, myConfigD164, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D165
         Config myConfigD165 =
@@ -7536,39 +5618,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD165.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165);
         System.out.println("Start D165 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D165", cnt_rep, myConfigD165, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD165.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165);
         System.out.println("Start D165 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D165", cnt_rep, myConfigD165, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD165.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD165);
         System.out.println("Start D165 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D165", cnt_rep, myConfigD165, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D166
         Config myConfigD166 =
@@ -7585,39 +5652,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD166.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166);
         System.out.println("Start D166 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D166", cnt_rep, myConfigD166, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD166.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166);
         System.out.println("Start D166 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D166", cnt_rep, myConfigD166, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD166.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD166);
         System.out.println("Start D166 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D166", cnt_rep, myConfigD166, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D167
         Config myConfigD167 =
@@ -7634,39 +5686,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD167.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167);
         System.out.println("Start D167 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D167", cnt_rep, myConfigD167, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD167.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167);
         System.out.println("Start D167 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D167", cnt_rep, myConfigD167, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD167.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD167);
         System.out.println("Start D167 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D167", cnt_rep, myConfigD167, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111WrongCaRsa);
 
         // ######## Config for D168
         Config myConfigD168 =
@@ -7683,39 +5720,24 @@ public class App {
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD168.setDefaultClientConnection(outboundConOpenssl111WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168, outboundConOpenssl111WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168);
         System.out.println("Start D168 with outboundConOpenssl111WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D168", cnt_rep, myConfigD168, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333WrongCaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth with wrong CA
         myConfigD168.setDefaultClientConnection(outboundConOpenssl333WrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168, outboundConOpenssl333WrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168);
         System.out.println("Start D168 with outboundConOpenssl333WrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D168", cnt_rep, myConfigD168, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustWrongCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth with wrong CA
         myConfigD168.setDefaultClientConnection(outboundConRustWrongCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168, outboundConRustWrongCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD168);
         System.out.println("Start D168 with outboundConRustWrongCaRsa");
         TimeMeasurement.startTimeMeasurement("D168", cnt_rep, myConfigD168, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
 
       // ######## Config for D169
@@ -7733,51 +5755,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD169.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169);
         System.out.println("Start D169 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D169", cnt_rep, myConfigD169, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
 
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD169.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169);
         System.out.println("Start D169 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D169", cnt_rep, myConfigD169, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD169.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169);
         System.out.println("Start D169 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D169", cnt_rep, myConfigD169, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD169.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD169);
         System.out.println("Start D169 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D169", cnt_rep, myConfigD169, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D170
         Config myConfigD170 =
@@ -7794,51 +5796,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD170.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170);
         System.out.println("Start D170 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D170", cnt_rep, myConfigD170, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD170.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170);
         System.out.println("Start D170 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D170", cnt_rep, myConfigD170, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD170.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170);
         System.out.println("Start D170 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D170", cnt_rep, myConfigD170, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD170.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD170);
         System.out.println("Start D170 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D170", cnt_rep, myConfigD170, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D171
         Config myConfigD171 =
@@ -7855,51 +5837,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD171.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171);
         System.out.println("Start D171 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D171", cnt_rep, myConfigD171, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD171.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171);
         System.out.println("Start D171 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D171", cnt_rep, myConfigD171, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD171.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171);
         System.out.println("Start D171 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D171", cnt_rep, myConfigD171, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD171.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD171);
         System.out.println("Start D171 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D171", cnt_rep, myConfigD171, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D172
         Config myConfigD172 =
@@ -7916,15 +5878,10 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD172.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD172, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD172);
         System.out.println("Start D172 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D172", cnt_rep, myConfigD172, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D173
         Config myConfigD173 =
@@ -7941,51 +5898,31 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD173.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173);
         System.out.println("Start D173 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D173", cnt_rep, myConfigD173, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD173.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173);
         System.out.println("Start D173 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D173", cnt_rep, myConfigD173, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD173.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173);
         System.out.println("Start D173 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D173", cnt_rep, myConfigD173, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD173.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD173);
         System.out.println("Start D173 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D173", cnt_rep, myConfigD173, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D174
         Config myConfigD174 =
@@ -8002,51 +5939,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD174.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174);
         System.out.println("Start D174 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D174", cnt_rep, myConfigD174, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaEcdsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD174.setDefaultClientConnection(outboundConOpenssl111CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174, outboundConOpenssl111CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174);
         System.out.println("Start D174 with outboundConOpenssl111CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D174", cnt_rep, myConfigD174, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaEcdsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD174.setDefaultClientConnection(outboundConOpenssl333CaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174, outboundConOpenssl333CaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174);
         System.out.println("Start D174 with outboundConOpenssl333CaEcdsa");
         TimeMeasurement.startTimeMeasurement("D174", cnt_rep, myConfigD174, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaEcdsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD174.setDefaultClientConnection(outboundConRustCaEcdsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174, outboundConRustCaEcdsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD174);
         System.out.println("Start D174 with outboundConRustCaEcdsa");
         TimeMeasurement.startTimeMeasurement("D174", cnt_rep, myConfigD174, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D175
         Config myConfigD175 =
@@ -8063,51 +5980,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD175.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175);
         System.out.println("Start D175 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D175", cnt_rep, myConfigD175, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD175.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175);
         System.out.println("Start D175 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D175", cnt_rep, myConfigD175, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD175.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175);
         System.out.println("Start D175 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D175", cnt_rep, myConfigD175, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD175.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD175);
         System.out.println("Start D175 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D175", cnt_rep, myConfigD175, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D176
         Config myConfigD176 =
@@ -8124,51 +6021,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD176.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176);
         System.out.println("Start D176 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D176", cnt_rep, myConfigD176, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD176.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176);
         System.out.println("Start D176 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D176", cnt_rep, myConfigD176, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD176.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176);
         System.out.println("Start D176 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D176", cnt_rep, myConfigD176, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD176.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD176);
         System.out.println("Start D176 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D176", cnt_rep, myConfigD176, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D177
         Config myConfigD177 =
@@ -8185,51 +6062,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD177.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177);
         System.out.println("Start D177 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D177", cnt_rep, myConfigD177, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD177.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177);
         System.out.println("Start D177 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D177", cnt_rep, myConfigD177, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD177.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177);
         System.out.println("Start D177 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D177", cnt_rep, myConfigD177, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD177.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD177);
         System.out.println("Start D177 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D177", cnt_rep, myConfigD177, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D178
         Config myConfigD178 =
@@ -8246,51 +6103,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD178.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178);
         System.out.println("Start D178 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D178", cnt_rep, myConfigD178, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD178.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178);
         System.out.println("Start D178 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D178", cnt_rep, myConfigD178, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD178.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178);
         System.out.println("Start D178 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D178", cnt_rep, myConfigD178, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD178.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD178);
         System.out.println("Start D178 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D178", cnt_rep, myConfigD178, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
         // ######## Config for D179
         Config myConfigD179 =
@@ -8307,51 +6144,31 @@ public class App {
         
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD179.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179);
         System.out.println("Start D179 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D179", cnt_rep, myConfigD179, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl111CaRsa);
         
         // configure and run openssl111 Ecc Tls1.3 Client Auth
         myConfigD179.setDefaultClientConnection(outboundConOpenssl111CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179, outboundConOpenssl111CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179);
         System.out.println("Start D179 with outboundConOpenssl111CaRsa");
         TimeMeasurement.startTimeMeasurement("D179", cnt_rep, myConfigD179, handshakeActions, true, 3, 1.5, true, "OpenSSL 1.1.1w");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConOpenssl333CaRsa);
         
         // configure and run openssl333 Ecc Tls1.3 Client Auth
         myConfigD179.setDefaultClientConnection(outboundConOpenssl333CaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179, outboundConOpenssl333CaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179);
         System.out.println("Start D179 with outboundConOpenssl333CaRsa");
         TimeMeasurement.startTimeMeasurement("D179", cnt_rep, myConfigD179, handshakeActions, true, 3, 1.5, true, "OpenSSL 3.3.1");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConRustCaRsa);
         
         // configure and run Rustls Ecc Tls1.3 Client Auth
         myConfigD179.setDefaultClientConnection(outboundConRustCaRsa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179, outboundConRustCaRsa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD179);
         System.out.println("Start D179 with outboundConRustCaRsa");
         TimeMeasurement.startTimeMeasurement("D179", cnt_rep, myConfigD179, handshakeActions, true, 3, 1.5, true, "Rustls");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        readinessProbe.awaitReady(outboundConBoringsslCa);
 
 
         
@@ -8375,38 +6192,86 @@ public class App {
 
         // configure and run boringssl Ecc Tls1.3 Client Auth
         myConfigD181.setDefaultClientConnection(outboundConBoringsslCa);
-        handshakeActions = new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD181, outboundConBoringsslCa);
+        handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, myConfigD181);
         System.out.println("Start D181 with outboundConBoringsslCa");
         TimeMeasurement.startTimeMeasurement("D181", cnt_rep, myConfigD181, handshakeActions, true, 3, 1.5, true, "BoringSSL");
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
         */
 
         System.out.println("Reached End");
     }
 
+    // measurements of the server actions, empty if the workflow was not executed completely
     public static ArrayList<Long> startTlsClient(Config config, WorkflowTrace trace) {
+        ArrayList<Long> allMeasurements = new ArrayList<Long>();
+        if (executeWorkflow(config, trace, null, allMeasurements) < 0) {
+            allMeasurements.clear();
+        }
+        return allMeasurements;
+    }
+
+    // variant adding the measurements to the given list, also the ones made before the workflow failed
+    // returns the number of measurements like the buffer variant
+    public static int startTlsClient(Config config, WorkflowTrace trace, List<Long> collectedMeasurements) {
+        return executeWorkflow(config, trace, null, collectedMeasurements);
+    }
+
+    // variant writing the measurements into a preallocated buffer instead of a new list
+    // returns the number of measurements of the handshake (only as many as fit are written)
+    // if the workflow was not executed completely incompleteWorkflow(number of measurements made before the exception), see cntMeasurements
+    public static int startTlsClient(Config config, WorkflowTrace trace, long[] measurementBuffer) {
+        return executeWorkflow(config, trace, measurementBuffer, null);
+    }
+
+    // result of startTlsClient for a workflow which stopped with a WorkflowExecutionException after cntMeasurements measurements
+    public static int incompleteWorkflow(int cntMeasurements) {
+        return -1 - cntMeasurements;
+    }
+
+    // number of measurements a result of startTlsClient stands for, also for an incomplete workflow
+    public static int cntMeasurements(int startTlsClientResult) {
+        return (startTlsClientResult < 0) ? -1 - startTlsClientResult : startTlsClientResult;
+    }
+
+    // executes the trace and copies the measurements into the buffer or the list
+    // the measurements of the server actions before a WorkflowExecutionException are kept, e.g. the completed handshakes of a reused connection
+    private static int executeWorkflow(Config config, WorkflowTrace trace, long[] measurementBuffer, List<Long> measurementList) {
+        // every repetition starts from the same trace, without the values of the last execution
+        trace.reset();
         State state = new State(config, trace);
         WorkflowExecutor workflowExecutor =
                 WorkflowExecutorFactory.createWorkflowExecutor(
                         config.getWorkflowExecutorType(), state);
 
-        ArrayList<Long> allMeasurements = new ArrayList<Long>();
+        boolean completed = true;
+        WorkflowExecutionEvent workflowExecutionEvent = MeasurementEvents.beginWorkflowExecution();
         try {
             workflowExecutor.executeWorkflow();
-    
-            TimeableTcpContext timeableTcpContext = (TimeableTcpContext) state.getTcpContext();
-            allMeasurements = timeableTcpContext.getAllMeasurements();
         } catch (WorkflowExecutionException ex) {
             System.out.println(
                     "The TLS protocol flow was not executed completely, follow the debug messages for more information.");
             LOGGER.warn(
                     "The TLS protocol flow was not executed completely, follow the debug messages for more information.");
-        }
-        return allMeasurements;
+            completed = false;
+        }
+
+        int cntMeasurements = 0;
+        if (state.getTcpContext() instanceof TimeableTcpContext) {
+            ArrayList<Long> allMeasurements = ((TimeableTcpContext) state.getTcpContext()).getAllMeasurements();
+            cntMeasurements = allMeasurements.size();
+            if (measurementList != null) {
+                measurementList.addAll(allMeasurements);
+            } else {
+                // index based copy, avoids the iterator allocation
+                for (int cntMeasurement = 0; cntMeasurement < Math.min(cntMeasurements, measurementBuffer.length); cntMeasurement++) {
+                    measurementBuffer[cntMeasurement] = allMeasurements.get(cntMeasurement);
+                }
+            }
+        }
+        if (workflowExecutionEvent != null) {
+            workflowExecutionEvent.completed = completed;
+            workflowExecutionEvent.cntMeasurements = cntMeasurements;
+            workflowExecutionEvent.commit();
+        }
+        return completed ? cntMeasurements : incompleteWorkflow(cntMeasurements);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package app;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// background thread persisting finished results, measurement threads only hand over a write task
+// the queue is bounded: if the disk can not keep up, submitting blocks and the blocked time is reported instead of growing memory
+// a shutdown hook writes everything still queued before the JVM exits
+public class AsyncResultWriter {
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static AsyncResultWriter sharedWriter;
+
+    private final BlockingQueue<PendingResult> queue;
+    private final Thread writerThread;
+
+    // metrics
+    private final AtomicLong cntSubmitted = new AtomicLong();
+    private final AtomicLong cntWritten = new AtomicLong();
+    private final AtomicLong cntFailed = new AtomicLong();
+    private final AtomicLong totalBlockedNanos = new AtomicLong();
+    private volatile long lastLagNanos = 0;
+    private volatile long maxLagNanos = 0;
+    private final Object writtenLock = new Object();
+
+    public AsyncResultWriter(int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writerThread = new Thread(this::writeLoop, "result-writer");
+        // must not keep the JVM alive, the shutdown hook drains the queue
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    // writer shared by all measurements of this JVM
+    public static synchronized AsyncResultWriter getSharedWriter() {
+        if (sharedWriter == null) {
+            sharedWriter = new AsyncResultWriter(DEFAULT_QUEUE_CAPACITY);
+            final AsyncResultWriter writer = sharedWriter;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                writer.flush();
+                System.out.println(writer.metricsOverview());
+            }, "result-writer-shutdown"));
+        }
+        return sharedWriter;
+    }
+
+    // the task must only use data that is not modified afterwards, e.g. strings instead of the reused WorkflowTrace
+    public void submit(String description, Runnable writeTask) {
+        PendingResult pendingResult = new PendingResult(description, writeTask, System.nanoTime());
+        this.cntSubmitted.incrementAndGet();
+        if (this.queue.offer(pendingResult)) {
+            return;
+        }
+        // queue full, wait for the writer
+        long blockedStart = System.nanoTime();
+        try {
+            this.queue.put(pendingResult);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // keep the result, write it in this thread
+            runTask(pendingResult);
+        }
+        this.totalBlockedNanos.addAndGet(System.nanoTime() - blockedStart);
+    }
+
+    // waits until every submitted result is written
+    public void flush() {
+        synchronized (this.writtenLock) {
+            while (this.cntWritten.get() + this.cntFailed.get() < this.cntSubmitted.get()) {
+                try {
+                    this.writtenLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public int getQueuedResults() {
+        return this.queue.size();
+    }
+    // time between submitting and finishing the write of the latest result
+    public long getLastLagNanos() {
+        return this.lastLagNanos;
+    }
+    public long getMaxLagNanos() {
+        return this.maxLagNanos;
+    }
+    public long getTotalBlockedNanos() {
+        return this.totalBlockedNanos.get();
+    }
+
+    public String metricsOverview() {
+        return "Result writer: " + this.cntWritten.get() + " of " + this.cntSubmitted.get() + " results written (" + this.cntFailed.get() + " failed), "
+            + getQueuedResults() + " queued, lag last " + this.lastLagNanos/1000000.0 + " ms, max " + this.maxLagNanos/1000000.0 + " ms, "
+            + "measurement blocked " + this.totalBlockedNanos.get()/1000000.0 + " ms";
+    }
+
+    private void writeLoop() {
+        while (true) {
+            try {
+                runTask(this.queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void runTask(PendingResult pendingResult) {
+        try {
+            pendingResult.writeTask.run();
+            long lagNanos = System.nanoTime() - pendingResult.submitNanos;
+            this.lastLagNanos = lagNanos;
+            this.maxLagNanos = Math.max(this.maxLagNanos, lagNanos);
+            this.cntWritten.incrementAndGet();
+        } catch (Throwable e) {
+            System.out.println("Writing results of " + pendingResult.description + " failed.");
+            e.printStackTrace();
+            this.cntFailed.incrementAndGet();
+        }
+        synchronized (this.writtenLock) {
+            this.writtenLock.notifyAll();
+        }
+    }
+
+    private static class PendingResult {
+        final String description;
+        final Runnable writeTask;
+        final long submitNanos;
+
+        PendingResult(String description, Runnable writeTask, long submitNanos) {
+            this.description = description;
+            this.writeTask = writeTask;
+            this.submitNanos = submitNanos;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// runs measurement tasks against independent server endpoints concurrently
+// tasks for the same endpoint keep their order and run one after another like in App.main
+// a failing task does not stop the others, the campaign reports all failures with an Error once every endpoint is done
+public class CampaignExecutor {
+    private final int maxConcurrency;
+    // cores handed out to the concurrently running endpoints, empty to disable pinning
+    private final int[] cpuCores;
+    private final long pauseBetweenTasksMillis;
+    // waits before every task until its endpoint is ready, null to only pause
+    private final ReadinessProbe readinessProbe;
+    private final TaskRunner taskRunner;
+
+    // runs one measurement task, replaced in tests
+    interface TaskRunner {
+        void run(MeasurementTask task);
+    }
+
+    public CampaignExecutor(int maxConcurrency, int[] cpuCores, long pauseBetweenTasksMillis) {
+        this(maxConcurrency, cpuCores, pauseBetweenTasksMillis, null);
+    }
+
+    public CampaignExecutor(int maxConcurrency, int[] cpuCores, long pauseBetweenTasksMillis, ReadinessProbe readinessProbe) {
+        this(maxConcurrency, cpuCores, pauseBetweenTasksMillis, readinessProbe, MeasurementTask::run);
+    }
+
+    CampaignExecutor(int maxConcurrency, int[] cpuCores, long pauseBetweenTasksMillis, ReadinessProbe readinessProbe, TaskRunner taskRunner) {
+        if (maxConcurrency < 1) {
+            throw new Error("Concurrency limit must be at least 1 but is " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.cpuCores = cpuCores;
+        this.pauseBetweenTasksMillis = pauseBetweenTasksMillis;
+        this.readinessProbe = readinessProbe;
+        this.taskRunner = taskRunner;
+    }
+
+    public void runCampaign(List<MeasurementTask> tasks) {
+        // bucket tasks by endpoint while keeping the campaign order within one endpoint
+        Map<String, List<MeasurementTask>> tasksPerEndpoint = new LinkedHashMap<>();
+        for (MeasurementTask task: tasks) {
+            tasksPerEndpoint.computeIfAbsent(task.getEndpoint(), endpoint -> new ArrayList<>()).add(task);
+        }
+
+        // every endpoint gets its own config instances, a config is modified when a task is started
+        Map<Object, String> endpointOfConfig = new IdentityHashMap<>();
+        for (Map.Entry<String, List<MeasurementTask>> endpointTasks: tasksPerEndpoint.entrySet()) {
+            for (MeasurementTask task: endpointTasks.getValue()) {
+                String usedByEndpoint = endpointOfConfig.putIfAbsent(task.getConfig(), endpointTasks.getKey());
+                if (usedByEndpoint != null && !usedByEndpoint.equals(endpointTasks.getKey())) {
+                    task.useConfigCopy();
+                    endpointOfConfig.put(task.getConfig(), endpointTasks.getKey());
+                }
+            }
+        }
+
+        int cntThreads = Math.min(this.maxConcurrency, tasksPerEndpoint.size());
+        if (this.cpuCores.length > 0) {
+            cntThreads = Math.min(cntThreads, this.cpuCores.length);
+        }
+        BlockingQueue<Integer> freeCpuCores = new ArrayBlockingQueue<>(Math.max(1, this.cpuCores.length));
+        for (int cpuCore: this.cpuCores) {
+            freeCpuCores.add(cpuCore);
+        }
+
+        System.out.println("Run " + tasks.size() + " tasks against " + tasksPerEndpoint.size() + " endpoints with " + cntThreads + " threads");
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, cntThreads));
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        Map<String, Future<?>> endpointRuns = new LinkedHashMap<>();
+        for (Map.Entry<String, List<MeasurementTask>> endpointTasks: tasksPerEndpoint.entrySet()) {
+            endpointRuns.put(endpointTasks.getKey(), executorService.submit(() -> runEndpointTasks(endpointTasks.getValue(), freeCpuCores, failures)));
+        }
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            // failures outside of a task, e.g. while pinning the thread, would otherwise only stop the endpoint silently
+            for (Map.Entry<String, Future<?>> endpointRun: endpointRuns.entrySet()) {
+                try {
+                    endpointRun.getValue().get();
+                } catch (ExecutionException e) {
+                    failures.add("endpoint " + endpointRun.getKey() + ": " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!failures.isEmpty()) {
+            throw new Error("Campaign finished with " + failures.size() + " failures:\n " + String.join("\n ", failures));
+        }
+    }
+
+    private void runEndpointTasks(List<MeasurementTask> endpointTasks, BlockingQueue<Integer> freeCpuCores, ConcurrentLinkedQueue<String> failures) {
+        Integer cpuCore = null;
+        if (this.cpuCores.length > 0) {
+            cpuCore = freeCpuCores.poll();
+            if (cpuCore != null) {
+                CpuAffinity.pinCurrentThread(cpuCore);
+            }
+        }
+
+        try {
+            for (MeasurementTask task: endpointTasks) {
+                if (this.readinessProbe != null) {
+                    this.readinessProbe.awaitReady(task.getConnection());
+                }
+                try {
+                    this.taskRunner.run(task);
+                } catch (Throwable t) {
+                    // a failing test case must not stop the other endpoints
+                    System.out.println("Task " + task.getMeasurementDefinition() + " with " + task.getServerName() + " failed: " + t);
+                    t.printStackTrace();
+                    failures.add(task.getMeasurementDefinition() + " with " + task.getServerName() + " (" + task.getEndpoint() + "): " + t);
+                }
+                if (this.pauseBetweenTasksMillis > 0) {
+                    try {
+                        Thread.sleep(this.pauseBetweenTasksMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        } finally {
+            if (cpuCore != null) {
+                freeCpuCores.add(cpuCore);
+            }
+        }
+    }
+}
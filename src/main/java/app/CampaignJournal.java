@@ -0,0 +1,139 @@
+package app;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// append-only journal of the campaign progress, so a restarted campaign does not repeat finished work
+// one line per event, tab separated:
+//  BATCH <measurement key> <number of repetitions> <batch file>   samples of the next repetitions stored in <journal>-batches/<batch file>
+//  COMPLETED <measurement key>                                    measurement finished and its results written
+// a measurement key identifies one test/server pair with its repetition count, the server by name and endpoint as the same
+// server name may run on several ports
+public class CampaignJournal {
+    private static final String BATCH = "BATCH";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String BATCH_GROUP = "Batch";
+    // columnar format like the results, but not .tbc, so the batches are not taken for results when the logging directory is analysed
+    static final String BATCH_FILE_EXTENSION = ".batch";
+
+    private final File journalFile;
+    private final File batchDirectory;
+    private final HashSet<String> completedKeys = new HashSet<>();
+    // batch files of unfinished measurements in repetition order
+    private final HashMap<String, ArrayList<String>> batchFilesForKeys = new HashMap<>();
+    private int cntBatchFiles = 0;
+
+    private CampaignJournal(File journalFile) {
+        this.journalFile = journalFile;
+        this.batchDirectory = new File(journalFile.getPath() + "-batches");
+    }
+
+    // reads the progress of earlier runs, creates the journal if it does not exist
+    public static CampaignJournal open(File journalFile) throws IOException {
+        CampaignJournal journal = new CampaignJournal(journalFile);
+        if (journalFile.getParentFile() != null) {
+            journalFile.getParentFile().mkdirs();
+        }
+        journal.batchDirectory.mkdirs();
+
+        if (journalFile.exists()) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(journalFile))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    if (fields[0].equals(COMPLETED) && fields.length == 2) {
+                        journal.completedKeys.add(fields[1]);
+                        journal.batchFilesForKeys.remove(fields[1]);
+                    } else if (fields[0].equals(BATCH) && fields.length == 4) {
+                        journal.batchFilesForKeys.computeIfAbsent(fields[1], key -> new ArrayList<>()).add(fields[3]);
+                        journal.cntBatchFiles++;
+                    }
+                    // an incomplete last line of a crashed run is ignored
+                }
+            }
+        }
+        System.out.println("Campaign journal " + journalFile + ": " + journal.completedKeys.size() + " completed measurements, "
+            + journal.batchFilesForKeys.size() + " interrupted measurements");
+        return journal;
+    }
+
+    // endpoint as "host:port"
+    public static String measurementKey(String measurementDefinition, String serverName, String endpoint, int repetition) {
+        return measurementDefinition + "|" + serverName + "|" + endpoint + "|" + repetition + "rep";
+    }
+
+    public synchronized boolean isCompleted(String measurementKey) {
+        return this.completedKeys.contains(measurementKey);
+    }
+
+    // samples of the stored batches as [server action][repetition], null if nothing is stored
+    public synchronized long[][] loadBatches(String measurementKey, int totalCntServerActions) throws IOException {
+        ArrayList<String> batchFiles = this.batchFilesForKeys.get(measurementKey);
+        if (batchFiles == null) {
+            return null;
+        }
+        ArrayList<long[][]> batches = new ArrayList<>();
+        int cntRepetitions = 0;
+        for (String batchFile: batchFiles) {
+            File file = new File(this.batchDirectory, batchFile);
+            if (!file.exists()) {
+                // the journal entry is written after the batch file, a missing file means it was deleted by hand
+                break;
+            }
+            long[][] batch = ColumnarResultReader.read(file).getColumns(BATCH_GROUP);
+            if (batch == null || batch.length != totalCntServerActions) {
+                throw new Error("Batch file " + file + " does not match " + measurementKey);
+            }
+            batches.add(batch);
+            cntRepetitions += batch[0].length;
+        }
+
+        long[][] durationsForServerActions = new long[totalCntServerActions][cntRepetitions];
+        int cntRep = 0;
+        for (long[][] batch: batches) {
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                System.arraycopy(batch[cntServerAction], 0, durationsForServerActions[cntServerAction], cntRep, batch[cntServerAction].length);
+            }
+            cntRep += batch[0].length;
+        }
+        return durationsForServerActions;
+    }
+
+    // stores the samples of the next repetitions, batch[server action][repetition in batch]
+    public synchronized void appendBatch(String measurementKey, long[][] batch) throws IOException {
+        String batchFile = "batch-" + this.cntBatchFiles + BATCH_FILE_EXTENSION;
+        this.cntBatchFiles++;
+        ColumnarResultWriter.write(new File(this.batchDirectory, batchFile), "", measurementKey, "", "",
+            new String[] { BATCH_GROUP }, new long[][][] { batch }, false);
+        appendLine(BATCH + "\t" + measurementKey + "\t" + batch[0].length + "\t" + batchFile);
+        this.batchFilesForKeys.computeIfAbsent(measurementKey, key -> new ArrayList<>()).add(batchFile);
+    }
+
+    // the batch files are not needed anymore once the results are written
+    public synchronized void markCompleted(String measurementKey) throws IOException {
+        appendLine(COMPLETED + "\t" + measurementKey);
+        this.completedKeys.add(measurementKey);
+        ArrayList<String> batchFiles = this.batchFilesForKeys.remove(measurementKey);
+        if (batchFiles != null) {
+            for (String batchFile: batchFiles) {
+                new File(this.batchDirectory, batchFile).delete();
+            }
+        }
+    }
+
+    private void appendLine(String line) throws IOException {
+        // opened per line, so every entry is on disk before the measurement continues
+        try (FileOutputStream stream = new FileOutputStream(this.journalFile, true); PrintWriter out = new PrintWriter(stream)) {
+            out.println(line);
+            out.flush();
+            stream.getFD().sync();
+        }
+    }
+}
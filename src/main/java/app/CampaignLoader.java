@@ -0,0 +1,261 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.ConfigurationTypes.BulkAlgo;
+import app.ConfigurationTypes.ClientAuthConfig;
+import app.ConfigurationTypes.Extension;
+import app.ConfigurationTypes.KeyExchange;
+import app.ConfigurationTypes.KeyExchangeGroup;
+import app.ConfigurationTypes.ServerAuth;
+import app.ConfigurationTypes.SignatureScheme;
+import app.ConfigurationTypes.TlsVersion;
+import app.ConnectionReuseMeasurement.ConnectionReuseMode;
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+import de.rub.nds.tlsattacker.transport.TransportHandlerType;
+
+// reads a json campaign file and expands it into an execution plan (see campaigns/example-campaign.json)
+// configs are built once per unique parameter combination and shared by the tasks using them, handshake traces come from the WorkflowTraceTemplates
+public class CampaignLoader {
+
+    public static CampaignPlan load(File campaignFile, Map<String, ClientAuthConfig> clientAuthConfigs) {
+        JsonNode campaign;
+        try {
+            campaign = new ObjectMapper().readTree(campaignFile);
+        } catch (IOException e) {
+            throw new Error("Couldn't read campaign file " + campaignFile + ": " + e);
+        }
+
+        // defaults for all tests, each test can override the repetitions
+        int defaultRepetition = campaign.path("repetitions").asInt(15000);
+        boolean shouldDocument = campaign.path("shouldDocument").asBoolean(true);
+        int cleanDeviationOutlier = campaign.path("cleanDeviationOutlier").asInt(3);
+        double cleanIqrOutlier = campaign.path("cleanIqrOutlier").asDouble(1.5);
+        boolean shouldCreateMetaLogging = campaign.path("shouldCreateMetaLogging").asBoolean(true);
+        MeasurementOptions options = parseOptions(campaign.path("options"));
+        // progress of earlier runs of this campaign, a relative path is resolved like the result logs (against the project of the jar)
+        if (campaign.has("journal")) {
+            try {
+                options.journal = CampaignJournal.open(resolveJournalFile(campaign.get("journal").asText()));
+            } catch (IOException | URISyntaxException e) {
+                throw new Error("Couldn't open campaign journal " + campaign.get("journal").asText() + ": " + e);
+            }
+        }
+        // calibration of timer, loopback path and harness overhead on this machine, logged with every measurement (0 skips it)
+        int calibrationRepetitions = campaign.path("calibrationRepetitions").asInt(0);
+        if (calibrationRepetitions > 0) {
+            options.calibration = TimerCalibration.calibrate(calibrationRepetitions);
+        } else if (options.subtractHarnessOverhead) {
+            throw new Error("Campaign option subtractHarnessOverhead needs a calibration, set calibrationRepetitions.");
+        }
+
+        int maxConcurrency = campaign.path("maxConcurrency").asInt(1);
+        // before every task wait until its endpoint is ready (0 disables the probe), an additional fixed pause is optional
+        long readinessTimeoutMillis = campaign.path("readinessTimeoutMillis").asLong(ReadinessProbe.DEFAULT_TIMEOUT_MILLIS);
+        ReadinessProbe readinessProbe = (readinessTimeoutMillis > 0) ? new ReadinessProbe(readinessTimeoutMillis) : null;
+        long pauseBetweenTasksMillis = campaign.path("pauseBetweenTasksMillis").asLong(0);
+        int[] cpuCores = new int[campaign.path("cpuCores").size()];
+        for (int cntCore = 0; cntCore < cpuCores.length; cntCore++) {
+            cpuCores[cntCore] = campaign.path("cpuCores").get(cntCore).asInt();
+        }
+        // interleaved scheduling ignores maxConcurrency and the pause, the seed makes the order reproducible
+        boolean interleaved = campaign.path("interleaved").asBoolean(false);
+        long interleavingSeed = campaign.path("interleavingSeed").asLong(System.nanoTime());
+
+        // target connections referenced by name in the tests
+        Map<String, OutboundConnection> connections = new HashMap<>();
+        Map<String, String> serverNames = new HashMap<>();
+        JsonNode targets = requiredNode(campaign, "targets", "campaign");
+        targets.fields().forEachRemaining(target -> {
+            OutboundConnection connection = new OutboundConnection();
+            connection.setHostname(target.getValue().path("hostname").asText("localhost"));
+            connection.setPort(requiredNode(target.getValue(), "port", "target " + target.getKey()).asInt());
+            // in-process reference server instead of an external one, port 0 binds a free port
+            if (target.getValue().has("loopback")) {
+                LoopbackTlsServer loopbackServer = startLoopbackServer(target.getKey(), connection.getPort(), target.getValue().path("loopback"));
+                connection.setHostname(InetAddress.getLoopbackAddress().getHostAddress());
+                connection.setPort(loopbackServer.getPort());
+            }
+            connection.setTransportHandlerType(TransportHandlerType.TCP_TIMING);
+            connections.put(target.getKey(), connection);
+            serverNames.put(target.getKey(), target.getValue().path("serverName").asText(target.getKey()));
+        });
+
+        Map<String, Config> configCache = new LinkedHashMap<>();
+        // handshake traces are built from the WorkflowTraceTemplates by the thread running the task, only counted here
+        Set<String> handshakeTraceKeys = new HashSet<>();
+        List<MeasurementTask> tasks = new ArrayList<>();
+
+        for (JsonNode test: requiredNode(campaign, "tests", "campaign")) {
+            String testId = requiredNode(test, "id", "test").asText();
+            String testDescription = "test " + testId;
+
+            TlsVersion tlsVersion = parseEnum(TlsVersion.class, test, "tlsVersion", testDescription);
+            KeyExchange keyExchange = parseEnum(KeyExchange.class, test, "keyExchange", testDescription);
+            KeyExchangeGroup keyExchangeGroup = test.hasNonNull("keyExchangeGroup")
+                ? parseEnum(KeyExchangeGroup.class, test, "keyExchangeGroup", testDescription)
+                : KeyExchangeGroup.NONE;
+            ServerAuth serverAuth = parseEnum(ServerAuth.class, test, "serverAuth", testDescription);
+            BulkAlgo bulkAlgo = parseEnum(BulkAlgo.class, test, "bulkAlgo", testDescription);
+            Vector<SignatureScheme> sigSchemes = parseEnumVector(SignatureScheme.class, test, "signatureSchemes", testDescription);
+            Vector<Extension> extensions = parseEnumVector(Extension.class, test, "extensions", testDescription);
+            HandshakeType handshakeType = parseEnum(HandshakeType.class, test, "handshakeType", testDescription);
+
+            String clientAuthName = test.hasNonNull("clientAuth") ? test.get("clientAuth").asText() : null;
+            ClientAuthConfig clientAuth = null;
+            if (clientAuthName != null) {
+                clientAuth = clientAuthConfigs.get(clientAuthName);
+                if (clientAuth == null) {
+                    throw new Error("Unknown client auth config '" + clientAuthName + "' in " + testDescription
+                        + ", known are: " + clientAuthConfigs.keySet());
+                }
+            }
+
+            // build config only once per unique combination
+            String configKey = tlsVersion + "|" + keyExchange + "|" + keyExchangeGroup + "|" + serverAuth + "|" + clientAuthName
+                + "|" + sigSchemes + "|" + bulkAlgo + "|" + extensions;
+            ClientAuthConfig usedClientAuth = clientAuth;
+            Config config = configCache.computeIfAbsent(configKey, key -> ConfigFactory.getConfig(
+                tlsVersion, keyExchange, keyExchangeGroup, serverAuth, usedClientAuth, sigSchemes, bulkAlgo, extensions));
+            handshakeTraceKeys.add(configKey + "|" + handshakeType);
+
+            int repetition = test.path("repetitions").asInt(defaultRepetition);
+            for (JsonNode targetName: requiredNode(test, "targets", testDescription)) {
+                OutboundConnection connection = connections.get(targetName.asText());
+                if (connection == null) {
+                    throw new Error("Unknown target '" + targetName.asText() + "' in " + testDescription);
+                }
+                tasks.add(new MeasurementTask(testId, repetition, config, handshakeType, connection, shouldDocument,
+                    cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverNames.get(targetName.asText()),
+                    options));
+            }
+        }
+
+        System.out.println("Loaded campaign " + campaignFile.getName() + " with " + tasks.size() + " tasks using "
+            + configCache.size() + " configs and " + handshakeTraceKeys.size() + " handshake traces");
+        return new CampaignPlan(tasks, maxConcurrency, cpuCores, pauseBetweenTasksMillis, readinessProbe, interleaved, interleavingSeed);
+    }
+
+    private static MeasurementOptions parseOptions(JsonNode optionsNode) {
+        MeasurementOptions options = new MeasurementOptions();
+        options.reuseRepetitionObjects = optionsNode.path("reuseRepetitionObjects").asBoolean(options.reuseRepetitionObjects);
+        options.reportAllocatedBytes = optionsNode.path("reportAllocatedBytes").asBoolean(options.reportAllocatedBytes);
+        options.streamingQuantiles = optionsNode.path("streamingQuantiles").asBoolean(options.streamingQuantiles);
+        options.sketchRelativeAccuracy = optionsNode.path("sketchRelativeAccuracy").asDouble(options.sketchRelativeAccuracy);
+        if (optionsNode.has("reportedPercentiles")) {
+            options.reportedPercentiles = new double[optionsNode.get("reportedPercentiles").size()];
+            for (int cntPercentile = 0; cntPercentile < options.reportedPercentiles.length; cntPercentile++) {
+                options.reportedPercentiles[cntPercentile] = optionsNode.get("reportedPercentiles").get(cntPercentile).asDouble();
+            }
+        }
+        options.recordHistograms = optionsNode.path("recordHistograms").asBoolean(options.recordHistograms);
+        options.histogramSignificantDigits = optionsNode.path("histogramSignificantDigits").asInt(options.histogramSignificantDigits);
+        options.binaryResults = optionsNode.path("binaryResults").asBoolean(options.binaryResults);
+        options.binaryResultsFixedWidth = optionsNode.path("binaryResultsFixedWidth").asBoolean(options.binaryResultsFixedWidth);
+        options.asyncResultWriting = optionsNode.path("asyncResultWriting").asBoolean(options.asyncResultWriting);
+        options.journalBatchSize = optionsNode.path("journalBatchSize").asInt(options.journalBatchSize);
+        options.maxFailureRate = optionsNode.path("maxFailureRate").asDouble(options.maxFailureRate);
+        options.adaptiveRepetitions = optionsNode.path("adaptiveRepetitions").asBoolean(options.adaptiveRepetitions);
+        options.adaptiveQuantil = optionsNode.path("adaptiveQuantil").asDouble(options.adaptiveQuantil);
+        options.adaptiveTargetRelativeWidth = optionsNode.path("adaptiveTargetRelativeWidth").asDouble(options.adaptiveTargetRelativeWidth);
+        options.adaptiveConfidenceZ = optionsNode.path("adaptiveConfidenceZ").asDouble(options.adaptiveConfidenceZ);
+        options.adaptiveMinRepetitions = optionsNode.path("adaptiveMinRepetitions").asInt(options.adaptiveMinRepetitions);
+        options.adaptiveCheckInterval = optionsNode.path("adaptiveCheckInterval").asInt(options.adaptiveCheckInterval);
+        options.warmupDetection = optionsNode.path("warmupDetection").asBoolean(options.warmupDetection);
+        options.warmupWindowSize = optionsNode.path("warmupWindowSize").asInt(options.warmupWindowSize);
+        options.warmupTolerance = optionsNode.path("warmupTolerance").asDouble(options.warmupTolerance);
+        options.warmupStableWindows = optionsNode.path("warmupStableWindows").asInt(options.warmupStableWindows);
+        options.maxWarmupRepetitions = optionsNode.path("maxWarmupRepetitions").asInt(options.maxWarmupRepetitions);
+        if (optionsNode.has("connectionReuseMode")) {
+            options.connectionReuseMode = parseEnum(ConnectionReuseMode.class, optionsNode, "connectionReuseMode", "options");
+        }
+        options.handshakesPerConnection = optionsNode.path("handshakesPerConnection").asInt(options.handshakesPerConnection);
+        options.socketPressureMonitoring = optionsNode.path("socketPressureMonitoring").asBoolean(options.socketPressureMonitoring);
+        options.socketPressureCheckInterval = optionsNode.path("socketPressureCheckInterval").asInt(options.socketPressureCheckInterval);
+        options.socketPressurePauseThreshold = optionsNode.path("socketPressurePauseThreshold").asDouble(options.socketPressurePauseThreshold);
+        options.socketPressureResumeThreshold = optionsNode.path("socketPressureResumeThreshold").asDouble(options.socketPressureResumeThreshold);
+        options.maxSocketPressurePauseMillis = optionsNode.path("maxSocketPressurePauseMillis").asLong(options.maxSocketPressurePauseMillis);
+        options.jvmPauseTracking = optionsNode.path("jvmPauseTracking").asBoolean(options.jvmPauseTracking);
+        options.jvmPauseSafepointThresholdMillis = optionsNode.path("jvmPauseSafepointThresholdMillis").asLong(options.jvmPauseSafepointThresholdMillis);
+        options.excludeJvmPauseSamples = optionsNode.path("excludeJvmPauseSamples").asBoolean(options.excludeJvmPauseSamples);
+        options.maxJvmPauseExclusionRate = optionsNode.path("maxJvmPauseExclusionRate").asDouble(options.maxJvmPauseExclusionRate);
+        options.subtractHarnessOverhead = optionsNode.path("subtractHarnessOverhead").asBoolean(options.subtractHarnessOverhead);
+        options.keepRawSamples = optionsNode.path("keepRawSamples").asBoolean(options.keepRawSamples);
+        return options;
+    }
+
+    // "loopback": { "certificate": ..., "privateKey": ..., "clientAuth": false, "flightDelaysMicros": [200, 50] }
+    // the server runs in daemon threads until the JVM exits
+    // the journal and its batches live next to the result logs, e.g. "logging/example-campaign-journal", independent of the working directory
+    static File resolveJournalFile(String journalPath) throws URISyntaxException {
+        File journalFile = new File(journalPath);
+        if (journalFile.isAbsolute()) {
+            return journalFile;
+        }
+        return new File(TimeMeasurement.getBasePath(), journalPath);
+    }
+
+    private static LoopbackTlsServer startLoopbackServer(String targetName, int port, JsonNode loopbackNode) {
+        long[] flightDelaysNanos = new long[loopbackNode.path("flightDelaysMicros").size()];
+        for (int cntFlight = 0; cntFlight < flightDelaysNanos.length; cntFlight++) {
+            flightDelaysNanos[cntFlight] = loopbackNode.path("flightDelaysMicros").get(cntFlight).asLong() * 1000;
+        }
+        try {
+            LoopbackTlsServer loopbackServer = new LoopbackTlsServer(port,
+                loopbackNode.path("certificate").asText("Misc/certGen/rsa2048_rsa_cert.pem"),
+                loopbackNode.path("privateKey").asText("Misc/certGen/rsa2048_key.pem"),
+                loopbackNode.path("clientAuth").asBoolean(false),
+                LoopbackTlsServer.fixedDelays(flightDelaysNanos)).start();
+            System.out.println("Loopback server of target " + targetName + " listens on port " + loopbackServer.getPort()
+                + " with flight delays " + Arrays.toString(flightDelaysNanos) + " ns");
+            return loopbackServer;
+        } catch (IOException e) {
+            throw new Error("Could not start the loopback server of target " + targetName + ": " + e.getMessage());
+        }
+    }
+
+    private static JsonNode requiredNode(JsonNode parent, String fieldName, String description) {
+        if (!parent.hasNonNull(fieldName)) {
+            throw new Error("Campaign file is missing '" + fieldName + "' in " + description);
+        }
+        return parent.get(fieldName);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, JsonNode parent, String fieldName, String description) {
+        String value = requiredNode(parent, fieldName, description).asText();
+        try {
+            return Enum.valueOf(enumType, value);
+        } catch (IllegalArgumentException e) {
+            throw new Error("Invalid " + fieldName + " '" + value + "' in " + description);
+        }
+    }
+
+    private static <E extends Enum<E>> Vector<E> parseEnumVector(Class<E> enumType, JsonNode parent, String fieldName, String description) {
+        Vector<E> values = new Vector<>();
+        for (JsonNode value: parent.path(fieldName)) {
+            try {
+                values.add(Enum.valueOf(enumType, value.asText()));
+            } catch (IllegalArgumentException e) {
+                throw new Error("Invalid " + fieldName + " entry '" + value.asText() + "' in " + description);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,44 @@
+package app;
+
+import java.util.List;
+
+// expanded campaign, one task per test case and target connection in campaign file order
+public class CampaignPlan {
+    private final List<MeasurementTask> tasks;
+    private final int maxConcurrency;
+    private final int[] cpuCores;
+    private final long pauseBetweenTasksMillis;
+    // run all tasks interleaved in one thread instead of one after another
+    private final boolean interleaved;
+    private final long interleavingSeed;
+    // null to only use the fixed pause
+    private final ReadinessProbe readinessProbe;
+
+    public CampaignPlan(List<MeasurementTask> tasks, int maxConcurrency, int[] cpuCores, long pauseBetweenTasksMillis) {
+        this(tasks, maxConcurrency, cpuCores, pauseBetweenTasksMillis, null, false, 0);
+    }
+
+    public CampaignPlan(List<MeasurementTask> tasks, int maxConcurrency, int[] cpuCores, long pauseBetweenTasksMillis,
+            ReadinessProbe readinessProbe, boolean interleaved, long interleavingSeed) {
+        this.tasks = tasks;
+        this.maxConcurrency = maxConcurrency;
+        this.cpuCores = cpuCores;
+        this.pauseBetweenTasksMillis = pauseBetweenTasksMillis;
+        this.readinessProbe = readinessProbe;
+        this.interleaved = interleaved;
+        this.interleavingSeed = interleavingSeed;
+    }
+
+    public List<MeasurementTask> getTasks() {
+        return this.tasks;
+    }
+
+    public void run() {
+        if (this.interleaved) {
+            // single measurement thread on the first configured core
+            new InterleavedScheduler(this.interleavingSeed, (this.cpuCores.length > 0) ? this.cpuCores[0] : -1).runInterleaved(this.tasks);
+            return;
+        }
+        new CampaignExecutor(this.maxConcurrency, this.cpuCores, this.pauseBetweenTasksMillis, this.readinessProbe).runCampaign(this.tasks);
+    }
+}
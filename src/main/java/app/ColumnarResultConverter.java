@@ -0,0 +1,76 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import app.ColumnarResultReader.ColumnarResult;
+import app.TimeMeasurement.StatisticResult;
+
+// converts columnar result files back into the text layout of the raw loggers, e.g. for the python visualization
+// usage: java -cp <jar> app.ColumnarResultConverter <file>.tbc ...  (writes <file>.txt next to it)
+public class ColumnarResultConverter {
+    private static final String[] CLEANED_GROUP_TITLES = { "Raw", "Deviation Cleaned", "IQR Cleaned" };
+
+    public static void main(String[] args) {
+        for (String path: args) {
+            File resultFile = new File(path);
+            String textPath = path.endsWith(".tbc") ? path.substring(0, path.length() - 4) + ".txt" : path + ".txt";
+            try {
+                convert(resultFile, new File(textPath));
+                System.out.println("Converted " + path + " to " + textPath);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public static void convert(File resultFile, File textFile) throws IOException {
+        ColumnarResult columnarResult = ColumnarResultReader.read(resultFile);
+        try (PrintWriter out = new PrintWriter(textFile)) {
+            out.print(toText(columnarResult));
+        }
+    }
+
+    // same text as the raw loggers with the text dump, statistic results are recomputed from the columns
+    // files with the raw and both cleaned groups get the layout of logRawAndCleanMeasurement, all others the one of logRawMeasurement
+    // with their first group as raw samples
+    public static String toText(ColumnarResult columnarResult) {
+        if (columnarResult.getGroupTitles().isEmpty()) {
+            throw new Error("Columnar result of " + columnarResult.getMeasurementDefinition() + " contains no samples");
+        }
+        boolean cleaned = columnarResult.getGroupTitles().size() == CLEANED_GROUP_TITLES.length;
+        for (int cntGroup = 0; cleaned && cntGroup < CLEANED_GROUP_TITLES.length; cntGroup++) {
+            cleaned = CLEANED_GROUP_TITLES[cntGroup].equals(columnarResult.getGroupTitles().get(cntGroup));
+        }
+
+        StringWriter text = new StringWriter();
+        try (PrintWriter out = new PrintWriter(text)) {
+            if (cleaned) {
+                long[][] durationsForServerActions = columnarResult.getColumns(CLEANED_GROUP_TITLES[0]);
+                long[][] durationsForServerActionsCleanDeviation = columnarResult.getColumns(CLEANED_GROUP_TITLES[1]);
+                long[][] durationsForServerActionsCleanIqr = columnarResult.getColumns(CLEANED_GROUP_TITLES[2]);
+                TimeMeasurement.printResults(out, columnarResult.getTimestamp(), columnarResult.getConfigOverview(), columnarResult.getHandshakeTrace(),
+                    columnarResult.getAdditionalSections(), runStatisticAnalysis(durationsForServerActions),
+                    columnarResult.getRemovedStdDevRange(), runStatisticAnalysis(durationsForServerActionsCleanDeviation),
+                    columnarResult.getRemovedIqrRange(), runStatisticAnalysis(durationsForServerActionsCleanIqr));
+                TimeMeasurement.printDetailedResults(out, null, durationsForServerActions, durationsForServerActionsCleanDeviation, durationsForServerActionsCleanIqr);
+            } else {
+                long[][] durationsForServerActions = columnarResult.getColumns(columnarResult.getGroupTitles().get(0));
+                TimeMeasurement.printResults(out, columnarResult.getTimestamp(), columnarResult.getConfigOverview(), columnarResult.getHandshakeTrace(),
+                    columnarResult.getAdditionalSections(), runStatisticAnalysis(durationsForServerActions), 0, null, 0, null);
+                TimeMeasurement.printDetailedResults(out, null, durationsForServerActions, null, null);
+            }
+        }
+        return text.toString();
+    }
+
+    private static StatisticResult[] runStatisticAnalysis(long[][] durationsForServerActions) {
+        StatisticResult[] statisticResultsServerActions = new StatisticResult[durationsForServerActions.length];
+        for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+            statisticResultsServerActions[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForServerActions[cntServerAction]);
+        }
+        return statisticResultsServerActions;
+    }
+}
@@ -0,0 +1,192 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// reads files written by ColumnarResultWriter
+// read() loads the whole file into the heap, map() memory maps it: fixed width columns are then LongBuffer views on the mapped file
+// without any copy, delta/varint columns are decoded directly from the mapped bytes
+public class ColumnarResultReader {
+
+    public static ColumnarResult read(File resultFile) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(resultFile.toPath(), StandardOpenOption.READ)) {
+            checkSize(resultFile, channel);
+            buffer = ByteBuffer.allocate((int)channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+        }
+        return read(buffer, resultFile.toString());
+    }
+
+    // the mapping stays valid after the channel is closed, it is released with the returned result
+    public static ColumnarResult map(File resultFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(resultFile.toPath(), StandardOpenOption.READ)) {
+            checkSize(resultFile, channel);
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), resultFile.toString());
+        }
+    }
+
+    private static void checkSize(File resultFile, FileChannel channel) throws IOException {
+        if (channel.size() > Integer.MAX_VALUE) {
+            throw new Error("Result file " + resultFile + " is larger than 2 GB");
+        }
+    }
+
+    static ColumnarResult read(ByteBuffer buffer, String source) {
+        if (buffer.getInt() != ColumnarResultWriter.MAGIC) {
+            throw new Error(source + " is not a columnar result file");
+        }
+        short version = buffer.getShort();
+        // version 1 files have no further result sections and cleaning factors
+        if (version != 1 && version != ColumnarResultWriter.VERSION) {
+            throw new Error(source + " has unsupported columnar result version " + version);
+        }
+
+        ColumnarResult columnarResult = new ColumnarResult();
+        columnarResult.timestamp = getString(buffer);
+        columnarResult.measurementDefinition = getString(buffer);
+        columnarResult.configOverview = getString(buffer);
+        columnarResult.handshakeTrace = getString(buffer);
+        if (version >= 2) {
+            int cntSections = buffer.getInt();
+            for (int cntSection = 0; cntSection < cntSections; cntSection++) {
+                columnarResult.additionalSections.put(getString(buffer), getString(buffer));
+            }
+            columnarResult.removedStdDevRange = buffer.getInt();
+            columnarResult.removedIqrRange = buffer.getDouble();
+        }
+
+        int cntGroups = buffer.getInt();
+        for (int cntGroup = 0; cntGroup < cntGroups; cntGroup++) {
+            columnarResult.groupTitles.add(getString(buffer));
+            LongBuffer[] durationsForServerActions = new LongBuffer[buffer.getInt()];
+            for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+                byte encoding = buffer.get();
+                int cntValues = buffer.getInt();
+                long cntDataBytes = buffer.getLong();
+                if (encoding == ColumnarResultWriter.ENCODING_DELTA_VARINT) {
+                    long[] durationsForOneAction = new long[cntValues];
+                    long previous = 0;
+                    for (int cntValue = 0; cntValue < cntValues; cntValue++) {
+                        previous += unZigZag(getVarint(buffer));
+                        durationsForOneAction[cntValue] = previous;
+                    }
+                    durationsForServerActions[cntServerAction] = LongBuffer.wrap(durationsForOneAction);
+                } else if (encoding == ColumnarResultWriter.ENCODING_FIXED_WIDTH) {
+                    // skip the padding, the data starts at an offset divisible by 8
+                    buffer.position((buffer.position() + 7) & ~7);
+                    ByteBuffer columnBytes = buffer.slice();
+                    columnBytes.limit((int)cntDataBytes);
+                    durationsForServerActions[cntServerAction] = columnBytes.asLongBuffer().asReadOnlyBuffer();
+                    buffer.position(buffer.position() + (int)cntDataBytes);
+                } else {
+                    throw new Error(source + " uses unknown column encoding " + encoding);
+                }
+            }
+            columnarResult.groupColumns.add(durationsForServerActions);
+        }
+        return columnarResult;
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte oneByte;
+        do {
+            oneByte = buffer.get();
+            value |= (long)(oneByte & 0x7F) << shift;
+            shift += 7;
+        } while ((oneByte & 0x80) != 0);
+        return value;
+    }
+
+    static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static class ColumnarResult {
+        String timestamp;
+        String measurementDefinition;
+        String configOverview;
+        String handshakeTrace;
+        Map<String, String> additionalSections = new LinkedHashMap<>();
+        // factors of the outlier cleaning, 0 without cleaning or in version 1 files
+        int removedStdDevRange;
+        double removedIqrRange;
+        ArrayList<String> groupTitles = new ArrayList<>();
+        // durations as [server action] -> repetitions for each group
+        ArrayList<LongBuffer[]> groupColumns = new ArrayList<>();
+
+        public String getTimestamp() {
+            return this.timestamp;
+        }
+        public String getMeasurementDefinition() {
+            return this.measurementDefinition;
+        }
+        public String getConfigOverview() {
+            return this.configOverview;
+        }
+        public String getHandshakeTrace() {
+            return this.handshakeTrace;
+        }
+        public Map<String, String> getAdditionalSections() {
+            return this.additionalSections;
+        }
+        public int getRemovedStdDevRange() {
+            return this.removedStdDevRange;
+        }
+        public double getRemovedIqrRange() {
+            return this.removedIqrRange;
+        }
+        public ArrayList<String> getGroupTitles() {
+            return this.groupTitles;
+        }
+
+        // read only views, one per server action, null if the file has no group with this title
+        // each call returns new views, so positions of different callers do not interfere
+        public LongBuffer[] getColumnBuffers(String groupTitle) {
+            int cntGroup = this.groupTitles.indexOf(groupTitle);
+            if (cntGroup < 0) {
+                return null;
+            }
+            LongBuffer[] durationsForServerActions = new LongBuffer[this.groupColumns.get(cntGroup).length];
+            for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+                durationsForServerActions[cntServerAction] = this.groupColumns.get(cntGroup)[cntServerAction].duplicate();
+            }
+            return durationsForServerActions;
+        }
+
+        // copy as [server action][repetition], null if the file has no group with this title
+        public long[][] getColumns(String groupTitle) {
+            LongBuffer[] durationsForServerActions = getColumnBuffers(groupTitle);
+            if (durationsForServerActions == null) {
+                return null;
+            }
+            long[][] copiedDurationsForServerActions = new long[durationsForServerActions.length][];
+            for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+                copiedDurationsForServerActions[cntServerAction] = new long[durationsForServerActions[cntServerAction].remaining()];
+                durationsForServerActions[cntServerAction].get(copiedDurationsForServerActions[cntServerAction]);
+            }
+            return copiedDurationsForServerActions;
+        }
+    }
+}
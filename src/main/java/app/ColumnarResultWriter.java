@@ -0,0 +1,199 @@
+package app;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+
+// compact binary replacement for the Arrays.deepToString dumps of the raw loggers
+// layout (big endian):
+//  int magic, short version
+//  string timestamp, string measurement definition, string config overview, string handshake trace (int length + UTF-8 bytes)
+//  since version 2: int number of further result sections, per section string title and string text,
+//   int z-score factor and double iqr factor of the outlier cleaning (0 without cleaning), so the text log can be rebuilt
+//  int number of groups, per group (e.g. raw, deviation cleaned, iqr cleaned):
+//   string title, int number of columns (= server actions), per column:
+//    byte encoding, int number of values, long number of data bytes, data
+// a column of durations is stored either as zig-zag varints of the first value and the differences to the previous value (compact)
+// or as plain 8 byte values starting at a file offset divisible by 8, which a memory mapped reader can use as LongBuffer without copying
+public class ColumnarResultWriter implements Closeable {
+    static final int MAGIC = 0x54424346;
+    static final short VERSION = 2;
+    static final byte ENCODING_DELTA_VARINT = 1;
+    static final byte ENCODING_FIXED_WIDTH = 2;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final boolean fixedWidthColumns;
+    private int cntGroupsLeft;
+    // bytes already written to the channel
+    private long cntFlushedBytes = 0;
+
+    public ColumnarResultWriter(File resultFile, String timestamp, String measurementDefinition, String configOverview, String handshakeTrace, int cntGroups,
+        boolean fixedWidthColumns) throws IOException {
+        this(resultFile, timestamp, measurementDefinition, configOverview, handshakeTrace, Collections.emptyMap(), 0, 0, cntGroups, fixedWidthColumns);
+    }
+
+    public ColumnarResultWriter(File resultFile, String timestamp, String measurementDefinition, String configOverview, String handshakeTrace,
+        Map<String, String> additionalSections, int removedStdDevRange, double removedIqrRange, int cntGroups, boolean fixedWidthColumns) throws IOException {
+        this.channel = FileChannel.open(resultFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.cntGroupsLeft = cntGroups;
+        this.fixedWidthColumns = fixedWidthColumns;
+
+        ensureSpace(6);
+        this.buffer.putInt(MAGIC);
+        this.buffer.putShort(VERSION);
+        putString(timestamp);
+        putString(measurementDefinition == null ? "" : measurementDefinition);
+        putString(configOverview);
+        putString(handshakeTrace);
+        ensureSpace(4);
+        this.buffer.putInt(additionalSections.size());
+        for (Map.Entry<String, String> additionalSection: additionalSections.entrySet()) {
+            putString(additionalSection.getKey());
+            putString(additionalSection.getValue());
+        }
+        ensureSpace(16);
+        this.buffer.putInt(removedStdDevRange);
+        this.buffer.putDouble(removedIqrRange);
+        this.buffer.putInt(cntGroups);
+    }
+
+    // writes the columns of all server actions of one result group
+    public void writeGroup(String title, long[][] durationsForServerActions) throws IOException {
+        if (this.cntGroupsLeft == 0) {
+            throw new Error("More result groups written than announced in the header");
+        }
+        this.cntGroupsLeft--;
+
+        putString(title);
+        ensureSpace(4);
+        this.buffer.putInt(durationsForServerActions.length);
+        for (long[] durationsForOneAction: durationsForServerActions) {
+            if (this.fixedWidthColumns) {
+                writeFixedWidthColumn(durationsForOneAction);
+                continue;
+            }
+            // byte length first, so readers can skip columns
+            long cntDataBytes = 0;
+            long previous = 0;
+            for (long duration: durationsForOneAction) {
+                cntDataBytes += varintLength(zigZag(duration - previous));
+                previous = duration;
+            }
+
+            ensureSpace(13);
+            this.buffer.put(ENCODING_DELTA_VARINT);
+            this.buffer.putInt(durationsForOneAction.length);
+            this.buffer.putLong(cntDataBytes);
+
+            previous = 0;
+            for (long duration: durationsForOneAction) {
+                ensureSpace(10);
+                putVarint(zigZag(duration - previous));
+                previous = duration;
+            }
+        }
+    }
+
+    private void writeFixedWidthColumn(long[] durationsForOneAction) throws IOException {
+        ensureSpace(13 + 7);
+        this.buffer.put(ENCODING_FIXED_WIDTH);
+        this.buffer.putInt(durationsForOneAction.length);
+        this.buffer.putLong(8L * durationsForOneAction.length);
+        // zero padding up to the next file offset divisible by 8
+        while ((this.cntFlushedBytes + this.buffer.position()) % 8 != 0) {
+            this.buffer.put((byte)0);
+        }
+        for (long duration: durationsForOneAction) {
+            ensureSpace(8);
+            this.buffer.putLong(duration);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.cntGroupsLeft != 0) {
+                throw new Error(this.cntGroupsLeft + " result groups announced in the header are missing");
+            }
+            flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    // writes one file, groupTitles[i] names groups[i]
+    public static void write(File resultFile, String timestamp, String measurementDefinition, String configOverview, String handshakeTrace,
+        String[] groupTitles, long[][][] groups, boolean fixedWidthColumns) throws IOException {
+        write(resultFile, timestamp, measurementDefinition, configOverview, handshakeTrace, Collections.emptyMap(), 0, 0, groupTitles, groups, fixedWidthColumns);
+    }
+
+    // with the further result sections and the cleaning factors of the text log
+    public static void write(File resultFile, String timestamp, String measurementDefinition, String configOverview, String handshakeTrace,
+        Map<String, String> additionalSections, int removedStdDevRange, double removedIqrRange,
+        String[] groupTitles, long[][][] groups, boolean fixedWidthColumns) throws IOException {
+        try (ColumnarResultWriter writer = new ColumnarResultWriter(resultFile, timestamp, measurementDefinition, configOverview, handshakeTrace,
+            additionalSections, removedStdDevRange, removedIqrRange, groups.length, fixedWidthColumns)) {
+            for (int cntGroup = 0; cntGroup < groups.length; cntGroup++) {
+                writer.writeGroup(groupTitles[cntGroup], groups[cntGroup]);
+            }
+        }
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static int varintLength(long value) {
+        int length = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            this.buffer.put((byte)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte)value);
+    }
+
+    private void putString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureSpace(4);
+        this.buffer.putInt(bytes.length);
+        // strings like the handshake trace may exceed the buffer
+        int cntWritten = 0;
+        while (cntWritten < bytes.length) {
+            if (!this.buffer.hasRemaining()) {
+                flush();
+            }
+            int cntChunk = Math.min(this.buffer.remaining(), bytes.length - cntWritten);
+            this.buffer.put(bytes, cntWritten, cntChunk);
+            cntWritten += cntChunk;
+        }
+    }
+
+    private void ensureSpace(int cntBytes) throws IOException {
+        if (this.buffer.remaining() < cntBytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.cntFlushedBytes += this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
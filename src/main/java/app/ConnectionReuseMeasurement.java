@@ -0,0 +1,198 @@
+package app;
+
+import static app.HandshakeFlow.receiveTill;
+import static app.HandshakeFlow.send;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import app.RepetitionFailures.FailureReason;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.KeyUpdateRequest;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+import de.rub.nds.tlsattacker.core.protocol.message.ChangeCipherSpecMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.FinishedMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.KeyUpdateMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.ServerHelloDoneMessage;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+import de.rub.nds.tlsattacker.core.workflow.action.FlushSessionCacheAction;
+import de.rub.nds.tlsattacker.core.workflow.action.RenegotiationAction;
+
+// measures many handshakes per tcp connection: one trace runs an initial handshake which is not measured
+// and then the same measured handshake repeatedly over the established connection
+// every execution of the trace delivers handshakesPerConnection repetitions, so connect, teardown and TIME_WAIT sockets
+// only occur once per handshakesPerConnection repetitions
+// the measured handshake is defined by the mode, the handshake type of the test is not used, client authentication is not supported
+// only raw samples are kept in this mode, warm-up detection, adaptive repetitions, sketches and histograms are not applied
+public class ConnectionReuseMeasurement {
+    public enum ConnectionReuseMode {
+        // one connection per repetition, the normal measurement
+        NONE,
+        // TLS1.2: full handshakes as renegotiations, 2 server actions each like TLS12_*_WITHOUT_CLIENTAUTH
+        RENEGOTIATION,
+        // TLS1.2: abbreviated handshakes resuming the session of the initial handshake as renegotiations, 1 server action each
+        RESUMPTION,
+        // TLS1.3: KeyUpdate requesting the update of the server keys, 1 server action each
+        KEY_UPDATE
+    }
+
+    // reason why the config can not run the mode, null if it fits: renegotiation and resumption need TLS1.2 with the renegotiation
+    // extension, KeyUpdate needs TLS1.3
+    static String checkConfig(ConnectionReuseMode mode, ProtocolVersion highestProtocolVersion, boolean renegotiationExtension) {
+        switch (mode) {
+            case RENEGOTIATION:
+            case RESUMPTION:
+                if (highestProtocolVersion != ProtocolVersion.TLS12) {
+                    return "Connection reuse mode " + mode + " needs TLS1.2 but the config uses " + highestProtocolVersion + ".";
+                }
+                if (!renegotiationExtension) {
+                    return "Connection reuse mode " + mode + " needs the renegotiation extension (Extension.RENEGOTIATION) in the config.";
+                }
+                return null;
+            case KEY_UPDATE:
+                if (highestProtocolVersion != ProtocolVersion.TLS13) {
+                    return "Connection reuse mode " + mode + " needs TLS1.3 but the config uses " + highestProtocolVersion + ".";
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    // flow with an initial handshake and the measured handshakes of the mode
+    public static HandshakeFlow buildFlow(ConnectionReuseMode mode, Config config, int handshakesPerConnection) {
+        HandshakeFlow flow = new HandshakeFlow();
+        switch (mode) {
+            case RENEGOTIATION:
+            case RESUMPTION:
+                flow.unmeasured(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                    .then(HandshakeActions.tls12ClientFinished(receiveTill(new FinishedMessage())));
+                for (int cntHandshake = 0; cntHandshake < handshakesPerConnection; cntHandshake++) {
+                    if (mode == ConnectionReuseMode.RENEGOTIATION) {
+                        flow.then(new RenegotiationAction(), new FlushSessionCacheAction())
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(HandshakeActions.tls12ClientFinished(receiveTill(new FinishedMessage())));
+                    } else {
+                        flow.then(new RenegotiationAction())
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new ChangeCipherSpecMessage()), send(new FinishedMessage()));
+                    }
+                }
+                break;
+
+            case KEY_UPDATE:
+                flow.unmeasured(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()), send(new FinishedMessage()));
+                for (int cntHandshake = 0; cntHandshake < handshakesPerConnection; cntHandshake++) {
+                    KeyUpdateMessage keyUpdateMessage = new KeyUpdateMessage();
+                    keyUpdateMessage.setRequestUpdate(KeyUpdateRequest.UPDATE_REQUESTED);
+                    flow.measure(send(keyUpdateMessage), receiveTill(new KeyUpdateMessage()));
+                }
+                break;
+
+            default:
+                throw new Error("Connection reuse mode " + mode + " has no flow.");
+        }
+        return flow;
+    }
+
+    // same parameters and result as TimeMeasurement.startTimeMeasurement, [server action of one handshake][repetition]
+    public static long[][] startTimeMeasurement(
+        String measurementDefinition,
+        int repetition,
+        Config config,
+        Boolean shouldDocument,
+        int cleanDeviationOutlier,
+        double cleanIqrOutlier,
+        Boolean shouldCreateMetaLogging,
+        String serverName,
+        MeasurementOptions options
+    ) {
+        // a config which can not run the mode would fail every repetition
+        String configError = checkConfig(options.connectionReuseMode, config.getHighestProtocolVersion(),
+            Boolean.TRUE.equals(config.isAddRenegotiationInfoExtension()));
+        if (configError != null) {
+            throw new Error(configError);
+        }
+        int handshakesPerConnection = Math.max(options.handshakesPerConnection, 1);
+        HandshakeFlow flow = buildFlow(options.connectionReuseMode, config, handshakesPerConnection);
+        WorkflowTrace trace = flow.getTrace();
+        int totalCntServerActions = flow.getCntServerActions() / handshakesPerConnection;
+
+        String journalKey = CampaignJournal.measurementKey(measurementDefinition, serverName,
+            config.getDefaultClientConnection().getHostname() + ":" + config.getDefaultClientConnection().getPort(), repetition);
+        if (options.journal != null && options.journal.isCompleted(journalKey)) {
+            System.out.println("Skipping " + journalKey + " as it is completed according to the campaign journal.");
+            return new long[totalCntServerActions][0];
+        }
+
+        long[][] durationsForServerActions = new long[totalCntServerActions][repetition];
+        // measurements of all handshakes of one connection
+        long[] measurementBuffer = new long[flow.getCntServerActions()];
+        // a failed connection counts as one failure, its complete handshakes are kept
+        RepetitionFailures repetitionFailures = new RepetitionFailures(flow.getCntServerActions());
+        int maxFailedConnections = (int)Math.ceil(repetition * options.maxFailureRate / handshakesPerConnection);
+        int cntConnections = 0;
+        int cntRep = 0;
+        while (cntRep < repetition) {
+            cntConnections++;
+            int cntCollectedMeasurements;
+            FailureReason failureReason = null;
+            String failureMessage = null;
+            try {
+                cntCollectedMeasurements = App.startTlsClient(config, trace, measurementBuffer);
+            } catch (RuntimeException e) {
+                failureReason = FailureReason.UNEXPECTED_EXCEPTION;
+                failureMessage = e.toString();
+                cntCollectedMeasurements = 0;
+            }
+            if (failureReason == null) {
+                failureReason = RepetitionFailures.classify(cntCollectedMeasurements, measurementBuffer.length);
+            }
+
+            // demultiplex the complete handshakes into repetitions, surplus measurements can not be assigned
+            // also for a connection which broke, the handshakes before the WorkflowExecutionException are complete
+            int cntCompleteHandshakes = (failureReason == FailureReason.SURPLUS_MEASUREMENTS) ? 0
+                : App.cntMeasurements(cntCollectedMeasurements) / totalCntServerActions;
+            for (int cntHandshake = 0; cntHandshake < cntCompleteHandshakes && cntRep < repetition; cntHandshake++) {
+                for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                    durationsForServerActions[cntServerAction][cntRep] = measurementBuffer[cntHandshake * totalCntServerActions + cntServerAction];
+                }
+                cntRep++;
+            }
+
+            if (failureReason != null) {
+                repetitionFailures.recordFailure(cntConnections, failureReason, cntCollectedMeasurements, failureMessage);
+                if (repetitionFailures.getCntFailures() > maxFailedConnections) {
+                    System.out.println("Stopping " + measurementDefinition + " after " + repetitionFailures.getCntFailures() + " failed connections, "
+                        + cntRep + " of " + repetition + " repetitions are complete.");
+                    break;
+                }
+            }
+        }
+
+        if (cntRep == 0) {
+            System.out.println("No repetition of " + measurementDefinition + " was successful.\n" + repetitionFailures.textualRepresentation(0));
+            return new long[totalCntServerActions][0];
+        }
+        if (cntRep < repetition) {
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                durationsForServerActions[cntServerAction] = Arrays.copyOf(durationsForServerActions[cntServerAction], cntRep);
+            }
+        }
+
+        Map<String, String> additionalSections = new LinkedHashMap<>();
+        // failures per connection, the server action counts across all handshakes of the connection
+        additionalSections.put("Failed Connections", repetitionFailures.textualRepresentation(cntConnections - repetitionFailures.getCntFailures()));
+        additionalSections.put("Connection Reuse", " Mode: " + options.connectionReuseMode + "\n Handshakes per Connection: " + handshakesPerConnection
+            + "\n Connections: " + cntConnections + "\n");
+        TimeMeasurement.evaluateMeasurement(measurementDefinition, repetition, ConfigFactory.getConfigOverview(config), String.valueOf(trace),
+            durationsForServerActions, shouldDocument, cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverName, options, additionalSections, null);
+        // stopped by the failure budget, a resumed campaign measures it again
+        if (cntRep == repetition) {
+            TimeMeasurement.completeJournalEntry(options, measurementDefinition, journalKey);
+        }
+        return durationsForServerActions;
+    }
+}
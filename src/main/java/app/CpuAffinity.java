@@ -0,0 +1,38 @@
+package app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// pins threads to cpu cores, Linux only as Java offers no affinity api
+public class CpuAffinity {
+
+    // pins the calling thread to the given core with taskset, returns whether pinning worked
+    public static boolean pinCurrentThread(int cpuCore) {
+        try {
+            // links to <pid>/task/<native thread id>
+            String threadPath = Files.readSymbolicLink(Paths.get("/proc/thread-self")).toString();
+            String nativeThreadId = threadPath.substring(threadPath.lastIndexOf('/') + 1);
+
+            Process taskset = new ProcessBuilder("taskset", "-pc", String.valueOf(cpuCore), nativeThreadId)
+                .redirectErrorStream(true)
+                .start();
+            // drain output so taskset can not block on a full pipe
+            try (InputStream tasksetOutput = taskset.getInputStream()) {
+                while (tasksetOutput.read() != -1) { }
+            }
+            if (taskset.waitFor() != 0) {
+                System.out.println("Pinning thread " + nativeThreadId + " to cpu core " + cpuCore + " failed.");
+                return false;
+            }
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            System.out.println("Pinning to cpu core " + cpuCore + " is not supported on this system: " + e);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
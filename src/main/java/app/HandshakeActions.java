@@ -1,39 +1,32 @@
 package app;
 
-import java.util.ArrayList;
-import java.util.List;
+import static app.HandshakeFlow.clientHelloWithout;
+import static app.HandshakeFlow.receiveTill;
+import static app.HandshakeFlow.send;
+import static app.HandshakeFlow.sendClientKeyExchange;
 
 import app.HandshakeTypes.HandshakeType;
-import app.TimeMeasurement.StatisticResult;
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.connection.AliasedConnection;
-import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
-import de.rub.nds.tlsattacker.core.constants.HandshakeMessageType;
+import de.rub.nds.tlsattacker.core.constants.KeyUpdateRequest;
 import de.rub.nds.tlsattacker.core.protocol.message.AlertMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.ApplicationMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.CertificateMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.CertificateVerifyMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.ChangeCipherSpecMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
-import de.rub.nds.tlsattacker.core.protocol.message.ClientKeyExchangeMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.EndOfEarlyDataMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.FinishedMessage;
-import de.rub.nds.tlsattacker.core.protocol.message.HelloMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.KeyUpdateMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.NewSessionTicketMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.ServerHelloDoneMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.EarlyDataExtensionMessage;
 import de.rub.nds.tlsattacker.core.protocol.message.extension.PreSharedKeyExtensionMessage;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
-import static de.rub.nds.tlsattacker.core.workflow.WorkflowTraceUtil.getFirstSendMessage;
-
 import de.rub.nds.tlsattacker.core.workflow.action.FlushSessionCacheAction;
-import de.rub.nds.tlsattacker.core.workflow.action.LogLastMeasurementAction;
 import de.rub.nds.tlsattacker.core.workflow.action.ReceiveTillAction;
 import de.rub.nds.tlsattacker.core.workflow.action.RenegotiationAction;
-import de.rub.nds.tlsattacker.core.workflow.action.ResetConnectionAction;
-import de.rub.nds.tlsattacker.core.workflow.action.SendAction;
-import de.rub.nds.tlsattacker.core.workflow.action.SendDynamicClientKeyExchangeAction;
-import de.rub.nds.tlsattacker.core.workflow.action.SetMeasuringActiveAction;
+import de.rub.nds.tlsattacker.core.workflow.action.TlsAction;
 
 public class HandshakeActions {
 
@@ -52,28 +45,15 @@ public class HandshakeActions {
             Config config,
             AliasedConnection connection) {
 
-                WorkflowTrace trace = new WorkflowTrace();
-                CertificateMessage certMsg = new CertificateMessage();
+                HandshakeFlow flow = new HandshakeFlow();
 
                 switch (handshakeType) {
                     case TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH:
                     case TLS12_STATIC_WITHOUT_CLIENTAUTH:
                         System.out.println(handshakeType + " is supported.");
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        this.trace = trace;
-                        this.serverCntActions = 2;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientFinished(receiveTill(new FinishedMessage())));
                         break;
 
                     case TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION:
@@ -81,121 +61,43 @@ public class HandshakeActions {
                         System.out.println(handshakeType + " is supported.");
 
                         // First handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        // Reset connection
-                        trace.addTlsAction(new ResetConnectionAction());
-                        
-                        // Second Handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 3;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientFinished(receiveTill(new FinishedMessage())))
+                            // Reset connection
+                            .resetConnection()
+                            // Second Handshake
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new ChangeCipherSpecMessage()), send(new FinishedMessage()));
                         break;
 
                     case TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RENEGOTIATION:
                     case TLS12_STATIC_WITHOUT_CLIENTAUTH_WITH_RENEGOTIATION:
-                            System.out.println(handshakeType + " is supported.");
-    
-                            // First handshake
-                            trace.addTlsAction(new SetMeasuringActiveAction(true));
-                            trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                            trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                            trace.addTlsAction(new LogLastMeasurementAction());
-                            
-                            trace.addTlsAction(new SetMeasuringActiveAction(true));
-                            trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                            trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                            trace.addTlsAction(new SendAction(new FinishedMessage()));
-                            trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                            trace.addTlsAction(new LogLastMeasurementAction());
-                            
+                        System.out.println(handshakeType + " is supported.");
+
+                        // First handshake
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientFinished(receiveTill(new FinishedMessage())))
                             // Intermediate steps preparring renegotiation
-                            trace.addTlsAction(new RenegotiationAction());
-                            trace.addTlsAction(new FlushSessionCacheAction());
-                            
+                            .then(new RenegotiationAction(), new FlushSessionCacheAction())
                             // Second Handshake
-                            trace.addTlsAction(new SetMeasuringActiveAction(true));
-                            trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                            trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                            trace.addTlsAction(new LogLastMeasurementAction());
-                            
-                            trace.addTlsAction(new SetMeasuringActiveAction(true));
-                            trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                            trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                            trace.addTlsAction(new SendAction(new FinishedMessage()));
-                            trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                            trace.addTlsAction(new LogLastMeasurementAction());
-                            
-                            this.trace = trace;
-                            this.serverCntActions = 4;
-                            break;
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientFinished(receiveTill(new FinishedMessage())));
+                        break;
 
                     case TLS12_EPHEMERAL_WITH_CLIENTAUTH:
                     case TLS12_STATIC_WITH_CLIENTAUTH:
                         System.out.println(handshakeType + " is supported.");
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        this.trace = trace;
-                        this.serverCntActions = 2;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientAuthFinished(config, receiveTill(new FinishedMessage())));
                         break;
 
                     case TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT:
                     case TLS12_STATIC_WITH_CLIENTAUTH_WITH_ALERT_CERT:
                     case TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY:
                     case TLS12_STATIC_WITH_CLIENTAUTH_WITH_ALERT_CERT_VERIFY:
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new AlertMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        this.trace = trace;
-                        this.serverCntActions = 2;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientAuthFinished(config, receiveTill(new AlertMessage())));
                         break;
 
                     case TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_RESUMPTION:
@@ -203,223 +105,128 @@ public class HandshakeActions {
                         System.out.println(handshakeType + " is supported.");
 
                         // First handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new ServerHelloDoneMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendDynamicClientKeyExchangeAction());
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        // Reset connection
-                        trace.addTlsAction(new ResetConnectionAction());
-
-                        // Second Handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new ChangeCipherSpecMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 3;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+                            .measure(tls12ClientAuthFinished(config, receiveTill(new FinishedMessage())))
+                            // Reset connection
+                            .resetConnection()
+                            // Second Handshake
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new ChangeCipherSpecMessage()), send(new FinishedMessage()));
                         break;
                          
                     case TLS13_WITHOUT_CLIENTAUTH:
                         System.out.println(handshakeType + " is supported.");
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 1;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new FinishedMessage()));
                         break;
 
                     case TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION:
                         System.out.println(handshakeType + " is supported.");
 
                         // first handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
                         // remove psk extension which only needed in second handshake flow
-                        HelloMessage<?> initialHello = (HelloMessage) getFirstSendMessage(
-                            HandshakeMessageType.CLIENT_HELLO,
-                            trace);
-                        PreSharedKeyExtensionMessage pskExtension = initialHello.getExtension(PreSharedKeyExtensionMessage.class);
-                        initialHello.getExtensions().remove(pskExtension);
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        // TODO: RFC states that SESSION_TICKET comes before FINISHED
-                        // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
-                        trace.addTlsAction(new ReceiveTillAction(new NewSessionTicketMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        // Reset connection and start with session resumption
-                        trace.addTlsAction(new ResetConnectionAction());
-
-                        // Second Handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 3;
+                        flow.measure(send(clientHelloWithout(config, PreSharedKeyExtensionMessage.class)), receiveTill(new FinishedMessage()))
+                            // TODO: RFC states that SESSION_TICKET comes before FINISHED
+                            // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
+                            .measure(send(new FinishedMessage()), receiveTill(new NewSessionTicketMessage()))
+                            // Reset connection and start with session resumption
+                            .resetConnection()
+                            // Second Handshake
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new FinishedMessage()));
                         break;
 
                     case TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT:
                         System.out.println(handshakeType + " is supported.");
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        // remove psk extension which only needed in second handshake flow
-                        HelloMessage<?> initialHello3 = (HelloMessage) getFirstSendMessage(
-                            HandshakeMessageType.CLIENT_HELLO,
-                            trace);
-                        PreSharedKeyExtensionMessage pskExtension3 = initialHello3.getExtension(PreSharedKeyExtensionMessage.class);
-                        EarlyDataExtensionMessage earlyDataExtension = initialHello3.getExtension(EarlyDataExtensionMessage.class);
-                        initialHello3.getExtensions().remove(pskExtension3);
-                        initialHello3.getExtensions().remove(earlyDataExtension);
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        // TODO: RFC states that SESSION_TICKET comes before FINISHED
-                        // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
-                        trace.addTlsAction(new ReceiveTillAction(new NewSessionTicketMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        // Reset connection and start with session resumption
-                        trace.addTlsAction(new ResetConnectionAction());
-
-                        // Second Handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
                         ApplicationMessage earlyDataMessage = new ApplicationMessage();
                         earlyDataMessage.setDataConfig(config.getEarlyData());
-                        trace.addTlsAction(new SendAction(earlyDataMessage));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new EndOfEarlyDataMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 3;
+                        // remove psk extension which only needed in second handshake flow
+                        flow.measure(send(clientHelloWithout(config, PreSharedKeyExtensionMessage.class, EarlyDataExtensionMessage.class)),
+                                receiveTill(new FinishedMessage()))
+                            // TODO: RFC states that SESSION_TICKET comes before FINISHED
+                            // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
+                            .measure(send(new FinishedMessage()), receiveTill(new NewSessionTicketMessage()))
+                            // Reset connection and start with session resumption
+                            .resetConnection()
+                            // Second Handshake
+                            .measure(send(new ClientHelloMessage(config)), send(earlyDataMessage), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new EndOfEarlyDataMessage()), send(new FinishedMessage()));
+                        break;
+
+                    case TLS13_WITHOUT_CLIENTAUTH_WITH_KEY_UPDATE:
+                        System.out.println(handshakeType + " is supported.");
+
+                        // the server answers a requested key update with its own key update
+                        KeyUpdateMessage keyUpdateMessage = new KeyUpdateMessage();
+                        keyUpdateMessage.setRequestUpdate(KeyUpdateRequest.UPDATE_REQUESTED);
+
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new FinishedMessage()))
+                            .measure(send(keyUpdateMessage), receiveTill(new KeyUpdateMessage()));
                         break;
 
                     case TLS13_WITH_CLIENTAUTH:
                         System.out.println(handshakeType + " is supported.");
 
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 1;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(clientCertificate(config)), send(new CertificateVerifyMessage()), send(new FinishedMessage()));
                         break;
 
                     case TLS13_WITH_CLIENTAUTH_WITH_ALERT_END:
                         System.out.println(handshakeType + " is supported.");
                         
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        trace.addTlsAction(new ReceiveTillAction(new AlertMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 2;
+                        flow.measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .measure(send(clientCertificate(config)), send(new CertificateVerifyMessage()), send(new FinishedMessage()),
+                                receiveTill(new AlertMessage()));
                         break;
 
                     case TLS13_WITH_CLIENTAUTH_WITH_RESUMPTION:
                         System.out.println(handshakeType + " is supported.");
 
                         // First handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
                         // remove psk extension which only needed in second handshake flow
-                        HelloMessage<?> initialHello2 = (HelloMessage) getFirstSendMessage(
-                            HandshakeMessageType.CLIENT_HELLO,
-                            trace);
-                        PreSharedKeyExtensionMessage pskExtension2 = initialHello2.getExtension(PreSharedKeyExtensionMessage.class);
-                        initialHello2.getExtensions().remove(pskExtension2);
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        certMsg = new CertificateMessage();
-                        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(certMsg));
-                        trace.addTlsAction(new SendAction(new CertificateVerifyMessage()));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        // TODO: RFC states that SESSION_TICKET comes before FINISHED
-                        // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
-                        trace.addTlsAction(new ReceiveTillAction(new NewSessionTicketMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        // Reset connection and start with session resumption
-                        trace.addTlsAction(new ResetConnectionAction());
-
-                        // Second Handshake
-                        trace.addTlsAction(new SetMeasuringActiveAction(true));
-                        trace.addTlsAction(new SendAction(new ClientHelloMessage(config)));
-                        trace.addTlsAction(new ReceiveTillAction(new FinishedMessage()));
-                        trace.addTlsAction(new LogLastMeasurementAction());
-
-                        trace.addTlsAction(new SetMeasuringActiveAction(false));
-                        trace.addTlsAction(new SendAction(new FinishedMessage()));
-                        
-                        this.trace = trace;
-                        this.serverCntActions = 3;
+                        flow.measure(send(clientHelloWithout(config, PreSharedKeyExtensionMessage.class)), receiveTill(new FinishedMessage()))
+                            // TODO: RFC states that SESSION_TICKET comes before FINISHED
+                            // Figure 1 in https://datatracker.ietf.org/doc/html/rfc5077
+                            .measure(send(clientCertificate(config)), send(new CertificateVerifyMessage()), send(new FinishedMessage()),
+                                receiveTill(new NewSessionTicketMessage()))
+                            // Reset connection and start with session resumption
+                            .resetConnection()
+                            // Second Handshake
+                            .measure(send(new ClientHelloMessage(config)), receiveTill(new FinishedMessage()))
+                            .unmeasured(send(new FinishedMessage()));
                         break;
  
                     default:
                         System.out.println(handshakeType + " is NOT supported.");
                         //return segmentedHandshake;
                 }
+
+                this.trace = flow.getTrace();
+                this.serverCntActions = flow.getCntServerActions();
+    }
+
+    // second TLS1.2 client flight without client authentication, followed by the receive of the server answer
+    static TlsAction[] tls12ClientFinished(ReceiveTillAction serverAnswer) {
+        return new TlsAction[] {
+            sendClientKeyExchange(), send(new ChangeCipherSpecMessage()), send(new FinishedMessage()), serverAnswer
+        };
+    }
+
+    // second TLS1.2 client flight with client certificate
+    private static TlsAction[] tls12ClientAuthFinished(Config config, ReceiveTillAction serverAnswer) {
+        return new TlsAction[] {
+            send(clientCertificate(config)), sendClientKeyExchange(), send(new CertificateVerifyMessage()),
+            send(new ChangeCipherSpecMessage()), send(new FinishedMessage()), serverAnswer
+        };
+    }
+
+    private static CertificateMessage clientCertificate(Config config) {
+        CertificateMessage certMsg = new CertificateMessage();
+        certMsg.setCertificateKeyPair(config.getDefaultExplicitCertificateKeyPair());
+        return certMsg;
     }
 }
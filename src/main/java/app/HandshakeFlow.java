@@ -0,0 +1,91 @@
+package app;
+
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.protocol.ProtocolMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.extension.ExtensionMessage;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+import de.rub.nds.tlsattacker.core.workflow.action.LogLastMeasurementAction;
+import de.rub.nds.tlsattacker.core.workflow.action.ReceiveTillAction;
+import de.rub.nds.tlsattacker.core.workflow.action.ReceivingAction;
+import de.rub.nds.tlsattacker.core.workflow.action.ResetConnectionAction;
+import de.rub.nds.tlsattacker.core.workflow.action.SendAction;
+import de.rub.nds.tlsattacker.core.workflow.action.SendDynamicClientKeyExchangeAction;
+import de.rub.nds.tlsattacker.core.workflow.action.SetMeasuringActiveAction;
+import de.rub.nds.tlsattacker.core.workflow.action.TlsAction;
+
+// builder for the measured handshake flows, e.g.
+//  new HandshakeFlow().measure(send(new ClientHelloMessage(config)), receiveTill(new ServerHelloDoneMessage()))
+// a measured segment is one server action: the client messages are sent and the time until the server answer is complete is logged
+// the number of server actions is counted from the measured segments
+public class HandshakeFlow {
+    private final WorkflowTrace trace = new WorkflowTrace();
+    private int cntServerActions = 0;
+
+    // one server action, the last action has to receive the server answer
+    public HandshakeFlow measure(TlsAction... actions) {
+        if (actions.length == 0 || !(actions[actions.length - 1] instanceof ReceivingAction)) {
+            throw new Error("Measured segment " + (this.cntServerActions + 1) + " does not end with receiving the server answer.");
+        }
+        this.trace.addTlsAction(new SetMeasuringActiveAction(true));
+        for (TlsAction action: actions) {
+            this.trace.addTlsAction(action);
+        }
+        this.trace.addTlsAction(new LogLastMeasurementAction());
+        this.cntServerActions++;
+        return this;
+    }
+
+    // client actions without measurement, e.g. the last client flight which gets no answer
+    public HandshakeFlow unmeasured(TlsAction... actions) {
+        this.trace.addTlsAction(new SetMeasuringActiveAction(false));
+        for (TlsAction action: actions) {
+            this.trace.addTlsAction(action);
+        }
+        return this;
+    }
+
+    // actions between the measured segments which do not change the measuring state, e.g. preparing a renegotiation
+    public HandshakeFlow then(TlsAction... actions) {
+        for (TlsAction action: actions) {
+            this.trace.addTlsAction(action);
+        }
+        return this;
+    }
+
+    // new tcp connection, e.g. before resuming the session
+    public HandshakeFlow resetConnection() {
+        return then(new ResetConnectionAction());
+    }
+
+    public WorkflowTrace getTrace() {
+        return this.trace;
+    }
+
+    public int getCntServerActions() {
+        return this.cntServerActions;
+    }
+
+    public static SendAction send(ProtocolMessage... messages) {
+        return new SendAction(messages);
+    }
+
+    public static ReceiveTillAction receiveTill(ProtocolMessage message) {
+        return new ReceiveTillAction(message);
+    }
+
+    // key exchange message matching the negotiated cipher suite
+    public static SendDynamicClientKeyExchangeAction sendClientKeyExchange() {
+        return new SendDynamicClientKeyExchangeAction();
+    }
+
+    // ClientHello without extensions of the config which are only meant for a later handshake, e.g. the psk of a resumption
+    @SafeVarargs
+    public static ClientHelloMessage clientHelloWithout(Config config, Class<? extends ExtensionMessage>... extensionClasses) {
+        ClientHelloMessage clientHello = new ClientHelloMessage(config);
+        for (Class<? extends ExtensionMessage> extensionClass: extensionClasses) {
+            clientHello.getExtensions().remove(clientHello.getExtension(extensionClass));
+        }
+        return clientHello;
+    }
+}
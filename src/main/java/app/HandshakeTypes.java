@@ -19,6 +19,7 @@ public class HandshakeTypes {
         TLS13_WITHOUT_CLIENTAUTH,
         TLS13_WITHOUT_CLIENTAUTH_WITH_RESUMPTION,
         TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT,
+        TLS13_WITHOUT_CLIENTAUTH_WITH_KEY_UPDATE,
         TLS13_WITH_CLIENTAUTH,
         TLS13_WITH_CLIENTAUTH_WITH_ALERT_END,
         TLS13_WITH_CLIENTAUTH_WITH_RESUMPTION,
@@ -0,0 +1,194 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import app.RepetitionFailures.FailureReason;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+
+// measures several tasks at once: every round runs one repetition of each unfinished task in a new random order
+// drift of the client (thermal state, background load, frequency scaling) is spread over all tasks instead of hitting the one
+// which is measured in a contiguous block at that moment, so no pauses between the tasks are needed
+// all repetitions run in the calling thread, optionally pinned to one core, the samples are collected per task
+// only raw samples are kept in this mode, warm-up detection, adaptive repetitions, sketches and histograms are not applied
+public class InterleavedScheduler {
+    private final long seed;
+    // core the measurement thread is pinned to, -1 to disable pinning
+    private final int cpuCore;
+    private final RepetitionRunner repetitionRunner;
+
+    // runs one repetition into the buffer and returns the startTlsClient result, replaced in tests
+    interface RepetitionRunner {
+        int runRepetition(Config config, WorkflowTrace handshakeTrace, long[] measurementBuffer);
+    }
+
+    public InterleavedScheduler(long seed, int cpuCore) {
+        this(seed, cpuCore, App::startTlsClient);
+    }
+
+    InterleavedScheduler(long seed, int cpuCore, RepetitionRunner repetitionRunner) {
+        this.seed = seed;
+        this.cpuCore = cpuCore;
+        this.repetitionRunner = repetitionRunner;
+    }
+
+    public void runInterleaved(List<MeasurementTask> tasks) {
+        if (this.cpuCore >= 0) {
+            CpuAffinity.pinCurrentThread(this.cpuCore);
+        }
+
+        // the connection is set on the config before every repetition, so every task needs its own config
+        Map<Object, Boolean> usedConfigs = new IdentityHashMap<>();
+        List<InterleavedTask> interleavedTasks = new ArrayList<>();
+        for (MeasurementTask task: tasks) {
+            String journalKey = CampaignJournal.measurementKey(task.getMeasurementDefinition(), task.getServerName(), task.getEndpoint(), task.getRepetition());
+            if (task.getOptions().journal != null && task.getOptions().journal.isCompleted(journalKey)) {
+                System.out.println("Skipping " + journalKey + " as it is completed according to the campaign journal.");
+                continue;
+            }
+            if (usedConfigs.put(task.getConfig(), Boolean.TRUE) != null) {
+                task.useConfigCopy();
+                usedConfigs.put(task.getConfig(), Boolean.TRUE);
+            }
+            interleavedTasks.add(new InterleavedTask(task, journalKey, this.repetitionRunner));
+        }
+
+        String interleavedTestsString = "";
+        for (InterleavedTask interleavedTask: interleavedTasks) {
+            interleavedTestsString += " " + interleavedTask.task.getMeasurementDefinition() + " with " + interleavedTask.task.getServerName()
+                + " (" + interleavedTask.task.getEndpoint() + "), " + interleavedTask.task.getRepetition() + " repetitions\n";
+        }
+        System.out.println("Interleave " + interleavedTasks.size() + " tasks with seed " + this.seed + ":\n" + interleavedTestsString);
+
+        Random random = new Random(this.seed);
+        List<Integer> unfinishedTasks = new ArrayList<>();
+        for (int cntTask = 0; cntTask < interleavedTasks.size(); cntTask++) {
+            unfinishedTasks.add(cntTask);
+        }
+        int cntRounds = 0;
+        while (!unfinishedTasks.isEmpty()) {
+            for (int cntTask: nextRound(unfinishedTasks, random)) {
+                interleavedTasks.get(cntTask).runRepetition();
+            }
+            unfinishedTasks.removeIf(cntTask -> interleavedTasks.get(cntTask).isFinished());
+            cntRounds++;
+        }
+
+        // de-multiplex: evaluate and log every task on its own like a contiguous measurement
+        String schedulingString = " Seed: " + this.seed + "\n Rounds: " + cntRounds + "\n Interleaved Tests:\n" + interleavedTestsString;
+        for (InterleavedTask interleavedTask: interleavedTasks) {
+            interleavedTask.evaluate(schedulingString);
+        }
+    }
+
+    // order of the next round, every unfinished task exactly once
+    static List<Integer> nextRound(List<Integer> unfinishedTasks, Random random) {
+        List<Integer> round = new ArrayList<>(unfinishedTasks);
+        Collections.shuffle(round, random);
+        return round;
+    }
+
+    // measurement state of one task
+    private static class InterleavedTask {
+        final MeasurementTask task;
+        final String journalKey;
+        final RepetitionRunner repetitionRunner;
+        final Config config;
+        final WorkflowTrace handshakeTrace;
+        final int totalCntServerActions;
+        final long[][] durationsForServerActions;
+        final long[] measurementBuffer;
+        final RepetitionFailures repetitionFailures;
+        final int maxFailedRepetitions;
+        int cntRep = 0;
+        int cntAttempt = 0;
+        boolean stopped = false;
+
+        InterleavedTask(MeasurementTask task, String journalKey, RepetitionRunner repetitionRunner) {
+            this.task = task;
+            this.journalKey = journalKey;
+            this.repetitionRunner = repetitionRunner;
+            HandshakeActions handshakeActions = task.prepareHandshakeActions();
+            this.config = task.getConfig();
+            this.handshakeTrace = handshakeActions.getTrace();
+            this.totalCntServerActions = handshakeActions.getCntServerActions();
+            this.durationsForServerActions = new long[this.totalCntServerActions][task.getRepetition()];
+            this.measurementBuffer = new long[this.totalCntServerActions];
+            this.repetitionFailures = new RepetitionFailures(this.totalCntServerActions);
+            this.maxFailedRepetitions = (int)Math.ceil(task.getRepetition() * task.getOptions().maxFailureRate);
+        }
+
+        boolean isFinished() {
+            return this.stopped || this.cntRep >= this.task.getRepetition();
+        }
+
+        // one attempt, a failed attempt is repeated in a later round
+        void runRepetition() {
+            this.cntAttempt++;
+            int cntCollectedMeasurements;
+            FailureReason failureReason = null;
+            String failureMessage = null;
+            try {
+                cntCollectedMeasurements = this.repetitionRunner.runRepetition(this.config, this.handshakeTrace, this.measurementBuffer);
+            } catch (RuntimeException e) {
+                failureReason = FailureReason.UNEXPECTED_EXCEPTION;
+                failureMessage = e.toString();
+                cntCollectedMeasurements = 0;
+            }
+            if (failureReason == null) {
+                failureReason = RepetitionFailures.classify(cntCollectedMeasurements, this.totalCntServerActions);
+            }
+
+            if (failureReason != null) {
+                this.repetitionFailures.recordFailure(this.cntAttempt, failureReason, cntCollectedMeasurements, failureMessage);
+                if (this.repetitionFailures.getCntFailures() > this.maxFailedRepetitions) {
+                    System.out.println("Stopping " + this.task.getMeasurementDefinition() + " with " + this.task.getServerName() + " after "
+                        + this.repetitionFailures.getCntFailures() + " failed repetitions, " + this.cntRep + " of " + this.task.getRepetition()
+                        + " repetitions are complete.");
+                    this.stopped = true;
+                }
+                return;
+            }
+            for (int cntServerAction = 0; cntServerAction < this.totalCntServerActions; cntServerAction++) {
+                this.durationsForServerActions[cntServerAction][this.cntRep] = this.measurementBuffer[cntServerAction];
+            }
+            this.cntRep++;
+        }
+
+        void evaluate(String schedulingString) {
+            String measurementDefinition = this.task.getMeasurementDefinition();
+            MeasurementOptions options = this.task.getOptions();
+            if (this.cntRep == 0) {
+                System.out.println("No repetition of " + measurementDefinition + " was successful.\n" + this.repetitionFailures.textualRepresentation(0));
+                this.task.setDurationsForServerActions(new long[this.totalCntServerActions][0]);
+                return;
+            }
+            long[][] durationsForServerActions = this.durationsForServerActions;
+            if (this.cntRep < this.task.getRepetition()) {
+                for (int cntServerAction = 0; cntServerAction < this.totalCntServerActions; cntServerAction++) {
+                    durationsForServerActions[cntServerAction] = Arrays.copyOf(durationsForServerActions[cntServerAction], this.cntRep);
+                }
+            }
+
+            Map<String, String> additionalSections = new LinkedHashMap<>();
+            additionalSections.put("Failed Repetitions", this.repetitionFailures.textualRepresentation(this.cntRep));
+            additionalSections.put("Interleaved Scheduling", schedulingString);
+            TimeMeasurement.evaluateMeasurement(measurementDefinition, this.task.getRepetition(),
+                ConfigFactory.getConfigOverview(this.config), String.valueOf(this.handshakeTrace), durationsForServerActions,
+                this.task.getShouldDocument(), this.task.getCleanDeviationOutlier(), this.task.getCleanIqrOutlier(),
+                this.task.getShouldCreateMetaLogging(), this.task.getServerName(), options, additionalSections, null);
+            // stopped by the failure budget, a resumed campaign measures it again
+            if (!this.stopped) {
+                TimeMeasurement.completeJournalEntry(options, measurementDefinition, this.journalKey);
+            }
+            this.task.setDurationsForServerActions(durationsForServerActions);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package app;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import app.TimeMeasurement.StatisticResult;
+
+// stamps every repetition with the GC pauses and safepoint time of the JVM during its execution, so samples disturbed
+// by the JVM are known instead of guessed by the outlier cleaning
+// GC: collection counts and times of the GarbageCollectorMXBeans which stop the application (not the concurrent cycles)
+// safepoints: HotSpot runtime counters of sun.management, on JDK 9+ only readable with
+// --add-exports java.management/sun.management=ALL-UNNAMED, otherwise only GC pauses are tracked
+// the counters are read before and after the workflow execution, the measured segments lie within this window, so a pause
+// during connect, teardown or between the measured segments tags the repetition as well
+// the counters have millisecond resolution, a repetition counts as disturbed with any GC or at least the threshold of safepoint time,
+// shorter safepoints are only counted in the log section, both limits are stated there
+public class JvmPauseTracker {
+    // disturbed repetitions listed in the log, the counts cover all
+    private static final int MAX_LISTED_REPETITIONS = 1000;
+
+    private final List<GarbageCollectorMXBean> pausingCollectors = new ArrayList<>();
+    private final long safepointThresholdMillis;
+    private Object hotspotRuntime = null;
+    private Method safepointCountMethod = null;
+    private Method totalSafepointTimeMethod = null;
+
+    // counters at the start of the running repetition
+    private long gcCountStart;
+    private long gcMillisStart;
+    private long safepointCountStart;
+    private long safepointMillisStart;
+
+    private int cntRepetitions = 0;
+    private int cntRepetitionsWithGc = 0;
+    private long totalGcMillis = 0;
+    private int cntRepetitionsWithSafepoints = 0;
+    private long totalSafepointMillis = 0;
+    private int cntRepetitionsBelowSafepointThreshold = 0;
+    private int cntExcludedRepetitions = 0;
+    // recorded samples (repetition index) taken while the JVM paused
+    private final List<Integer> disturbedRepetitions = new ArrayList<>();
+
+    public JvmPauseTracker(long safepointThresholdMillis) {
+        this.safepointThresholdMillis = safepointThresholdMillis;
+        for (GarbageCollectorMXBean collector: ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (isPausingCollector(collector.getName())) {
+                this.pausingCollectors.add(collector);
+            }
+        }
+        try {
+            this.hotspotRuntime = Class.forName("sun.management.ManagementFactoryHelper").getMethod("getHotspotRuntimeMBean").invoke(null);
+            Class<?> hotspotRuntimeInterface = Class.forName("sun.management.HotspotRuntimeMBean");
+            this.safepointCountMethod = hotspotRuntimeInterface.getMethod("getSafepointCount");
+            this.totalSafepointTimeMethod = hotspotRuntimeInterface.getMethod("getTotalSafepointTime");
+            this.safepointCountMethod.invoke(this.hotspotRuntime);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            System.out.println("Safepoint statistics are not available (" + e + "), only GC pauses are tracked. "
+                + "Start the JVM with --add-exports java.management/sun.management=ALL-UNNAMED to include safepoints.");
+            this.hotspotRuntime = null;
+        }
+    }
+
+    // the concurrent cycles of G1, ZGC and Shenandoah run beside the application, their pauses are reported separately
+    static boolean isPausingCollector(String collectorName) {
+        return !collectorName.contains("Concurrent") && !collectorName.contains("Cycles");
+    }
+
+    static boolean isDisturbed(long gcCount, long safepointMillis, long safepointThresholdMillis) {
+        return gcCount > 0 || safepointMillis >= safepointThresholdMillis;
+    }
+
+    public boolean hasSafepointStatistics() {
+        return this.hotspotRuntime != null;
+    }
+
+    public void beforeRepetition() {
+        this.gcCountStart = gcCount();
+        this.gcMillisStart = gcMillis();
+        this.safepointCountStart = safepointCounter(this.safepointCountMethod);
+        this.safepointMillisStart = safepointCounter(this.totalSafepointTimeMethod);
+    }
+
+    // returns whether the JVM paused the repetition since beforeRepetition
+    public boolean afterRepetition() {
+        long gcCount = gcCount() - this.gcCountStart;
+        long gcMillis = gcMillis() - this.gcMillisStart;
+        long safepointCount = safepointCounter(this.safepointCountMethod) - this.safepointCountStart;
+        long safepointMillis = safepointCounter(this.totalSafepointTimeMethod) - this.safepointMillisStart;
+        this.cntRepetitions++;
+        if (gcCount > 0) {
+            this.cntRepetitionsWithGc++;
+            this.totalGcMillis += gcMillis;
+        }
+        if (safepointCount > 0) {
+            this.cntRepetitionsWithSafepoints++;
+            this.totalSafepointMillis += safepointMillis;
+            if (gcCount == 0 && safepointMillis < this.safepointThresholdMillis) {
+                this.cntRepetitionsBelowSafepointThreshold++;
+            }
+        }
+        return isDisturbed(gcCount, safepointMillis, this.safepointThresholdMillis);
+    }
+
+    // a disturbed repetition which is kept in the samples
+    public void tagSample(int cntRep) {
+        this.disturbedRepetitions.add(cntRep);
+    }
+
+    // a disturbed repetition which is dropped and repeated
+    public void recordExclusion() {
+        this.cntExcludedRepetitions++;
+    }
+
+    public int getCntExcludedRepetitions() {
+        return this.cntExcludedRepetitions;
+    }
+
+    public List<Integer> getDisturbedRepetitions() {
+        return this.disturbedRepetitions;
+    }
+
+    private long gcCount() {
+        long gcCount = 0;
+        for (GarbageCollectorMXBean collector: this.pausingCollectors) {
+            gcCount += Math.max(collector.getCollectionCount(), 0);
+        }
+        return gcCount;
+    }
+
+    private long gcMillis() {
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector: this.pausingCollectors) {
+            gcMillis += Math.max(collector.getCollectionTime(), 0);
+        }
+        return gcMillis;
+    }
+
+    private long safepointCounter(Method counterMethod) {
+        if (this.hotspotRuntime == null) {
+            return 0;
+        }
+        try {
+            return (Long)counterMethod.invoke(this.hotspotRuntime);
+        } catch (ReflectiveOperationException e) {
+            return 0;
+        }
+    }
+
+    // creates text overview for the log, with the raw samples the medians of disturbed and undisturbed samples per server action
+    public String textualRepresentation(long[][] durationsForServerActions) {
+        List<String> collectorNames = new ArrayList<>();
+        for (GarbageCollectorMXBean collector: this.pausingCollectors) {
+            collectorNames.add(collector.getName());
+        }
+        String pauseString = " Pausing Collectors: " + collectorNames + "\n";
+        pauseString += " Safepoint Statistics: " + (hasSafepointStatistics() ? "available" : "not available") + "\n";
+        pauseString += " Window: whole workflow execution per repetition, pauses during connect, teardown or between the measured server actions tag it as well\n";
+        pauseString += " Resolution: 1 ms, Safepoint Threshold: " + this.safepointThresholdMillis + " ms, repetitions with only shorter safepoints (not tagged): "
+            + this.cntRepetitionsBelowSafepointThreshold + "\n";
+        pauseString += " Repetitions: " + this.cntRepetitions + ", with GC: " + this.cntRepetitionsWithGc + " (" + this.totalGcMillis + " ms)"
+            + ", with Safepoints: " + this.cntRepetitionsWithSafepoints + " (" + this.totalSafepointMillis + " ms)\n";
+        pauseString += " Excluded and repeated: " + this.cntExcludedRepetitions + ", Disturbed Samples kept: " + this.disturbedRepetitions.size() + "\n";
+        if (!this.disturbedRepetitions.isEmpty()) {
+            List<Integer> listedRepetitions = this.disturbedRepetitions.subList(0, Math.min(this.disturbedRepetitions.size(), MAX_LISTED_REPETITIONS));
+            pauseString += " Disturbed Repetitions: " + listedRepetitions + ((listedRepetitions.size() < this.disturbedRepetitions.size()) ? " ..." : "") + "\n";
+        }
+        if (durationsForServerActions != null && !this.disturbedRepetitions.isEmpty()) {
+            for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+                long[][] splitDurations = splitDisturbed(durationsForServerActions[cntServerAction]);
+                pauseString += " Server Action " + cntServerAction + ": Median undisturbed "
+                    + ((splitDurations[0].length > 0) ? StatisticResult.runStatisticAnalysis(splitDurations[0]).median + " ns" : "-")
+                    + ", disturbed " + ((splitDurations[1].length > 0) ? StatisticResult.runStatisticAnalysis(splitDurations[1]).median + " ns" : "-") + "\n";
+            }
+        }
+        return pauseString;
+    }
+
+    // [undisturbed samples, disturbed samples] of one server action
+    long[][] splitDisturbed(long[] durationsForOneAction) {
+        boolean[] disturbed = new boolean[durationsForOneAction.length];
+        int cntDisturbed = 0;
+        for (int cntRep: this.disturbedRepetitions) {
+            if (cntRep < disturbed.length && !disturbed[cntRep]) {
+                disturbed[cntRep] = true;
+                cntDisturbed++;
+            }
+        }
+        long[][] splitDurations = { new long[durationsForOneAction.length - cntDisturbed], new long[cntDisturbed] };
+        int cntUndisturbed = 0;
+        cntDisturbed = 0;
+        for (int cntRep = 0; cntRep < durationsForOneAction.length; cntRep++) {
+            if (disturbed[cntRep]) {
+                splitDurations[1][cntDisturbed++] = durationsForOneAction[cntRep];
+            } else {
+                splitDurations[0][cntUndisturbed++] = durationsForOneAction[cntRep];
+            }
+        }
+        return splitDurations;
+    }
+}
@@ -0,0 +1,107 @@
+package app;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+// one high dynamic range histogram per server action with nanosecond resolution
+// histograms auto resize, so memory only depends on the value range and the significant digits, not on the number of repetitions
+// stored as HdrHistogram log (compressed, base64 encoded), one tagged entry per server action
+public class LatencyHistograms {
+    private static final String TAG_PREFIX = "serverAction";
+
+    private final Histogram[] histogramsServerActions;
+
+    public LatencyHistograms(int totalCntServerActions, int numberOfSignificantValueDigits) {
+        this.histogramsServerActions = new Histogram[totalCntServerActions];
+        for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+            this.histogramsServerActions[cntServerAction] = new Histogram(numberOfSignificantValueDigits);
+        }
+    }
+
+    private LatencyHistograms(Histogram[] histogramsServerActions) {
+        this.histogramsServerActions = histogramsServerActions;
+    }
+
+    public void recordValue(int cntServerAction, long duration) {
+        this.histogramsServerActions[cntServerAction].recordValue(duration);
+    }
+
+    // adds the histograms of another run or server, both need the same number of server actions
+    public void merge(LatencyHistograms other) {
+        if (other.histogramsServerActions.length != this.histogramsServerActions.length) {
+            throw new Error("Can not merge histograms of " + this.histogramsServerActions.length + " and " + other.histogramsServerActions.length + " server actions");
+        }
+        for (int cntServerAction = 0; cntServerAction < this.histogramsServerActions.length; cntServerAction++) {
+            this.histogramsServerActions[cntServerAction].add(other.histogramsServerActions[cntServerAction]);
+        }
+    }
+
+    public int getCntServerActions() {
+        return this.histogramsServerActions.length;
+    }
+    public Histogram getHistogram(int cntServerAction) {
+        return this.histogramsServerActions[cntServerAction];
+    }
+
+    // value at the quantil q in [0, 1] in ns
+    public long getValueAtQuantil(int cntServerAction, double quantil) {
+        return this.histogramsServerActions[cntServerAction].getValueAtPercentile(quantil * 100.0);
+    }
+
+    public void writeTo(File histogramFile, String comment) throws FileNotFoundException {
+        try (PrintStream out = new PrintStream(histogramFile)) {
+            HistogramLogWriter histogramLogWriter = new HistogramLogWriter(out);
+            histogramLogWriter.outputComment(comment);
+            histogramLogWriter.outputLogFormatVersion();
+            histogramLogWriter.outputLegend();
+            for (int cntServerAction = 0; cntServerAction < this.histogramsServerActions.length; cntServerAction++) {
+                Histogram histogram = this.histogramsServerActions[cntServerAction];
+                histogram.setTag(TAG_PREFIX + cntServerAction);
+                histogramLogWriter.outputIntervalHistogram(histogram);
+            }
+        }
+    }
+
+    // reads histograms written by writeTo, server actions are ordered by their tag
+    public static LatencyHistograms readFrom(File histogramFile) throws FileNotFoundException {
+        HistogramLogReader histogramLogReader = new HistogramLogReader(histogramFile);
+        ArrayList<Histogram> histograms = new ArrayList<>();
+        try {
+            EncodableHistogram encodableHistogram;
+            while ((encodableHistogram = histogramLogReader.nextIntervalHistogram()) != null) {
+                int cntServerAction = Integer.parseInt(encodableHistogram.getTag().substring(TAG_PREFIX.length()));
+                while (histograms.size() <= cntServerAction) {
+                    histograms.add(null);
+                }
+                histograms.set(cntServerAction, (Histogram) encodableHistogram);
+            }
+        } finally {
+            histogramLogReader.close();
+        }
+        if (histograms.contains(null)) {
+            throw new Error("Histogram log " + histogramFile + " misses server actions");
+        }
+        return new LatencyHistograms(histograms.toArray(new Histogram[0]));
+    }
+
+    // creates text overview of the given percentiles for every server action
+    public String textualRepresentation(double[] percentiles) {
+        String percentilesString = "";
+        for (int cntServerAction = 0; cntServerAction < this.histogramsServerActions.length; cntServerAction++) {
+            Histogram histogram = this.histogramsServerActions[cntServerAction];
+            percentilesString += "\nServer Action " + cntServerAction + "\n";
+            percentilesString += " Elements: " + histogram.getTotalCount() + " (" + histogram.getNumberOfSignificantValueDigits() + " significant digits)\n";
+            for (double percentile: percentiles) {
+                percentilesString += " p" + String.valueOf(percentile * 100.0).replaceAll("\\.0$", "") + ": " + getValueAtQuantil(cntServerAction, percentile)/1000000.0 + " ms\n";
+            }
+        }
+        return percentilesString;
+    }
+}
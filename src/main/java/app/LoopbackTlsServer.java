@@ -0,0 +1,470 @@
+package app;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.pkcs.RSAPrivateKey;
+import org.bouncycastle.asn1.sec.ECPrivateKey;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x9.X9ObjectIdentifiers;
+import org.bouncycastle.crypto.params.AsymmetricKeyParameter;
+import org.bouncycastle.crypto.params.DSAPrivateKeyParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.util.PrivateKeyFactory;
+import org.bouncycastle.tls.Certificate;
+import org.bouncycastle.tls.CertificateEntry;
+import org.bouncycastle.tls.CertificateRequest;
+import org.bouncycastle.tls.CipherSuite;
+import org.bouncycastle.tls.ClientCertificateType;
+import org.bouncycastle.tls.DefaultTlsServer;
+import org.bouncycastle.tls.KeyExchangeAlgorithm;
+import org.bouncycastle.tls.NamedGroup;
+import org.bouncycastle.tls.ProtocolVersion;
+import org.bouncycastle.tls.SignatureAlgorithm;
+import org.bouncycastle.tls.SignatureAndHashAlgorithm;
+import org.bouncycastle.tls.TlsCredentials;
+import org.bouncycastle.tls.TlsServerProtocol;
+import org.bouncycastle.tls.TlsSession;
+import org.bouncycastle.tls.TlsUtils;
+import org.bouncycastle.tls.crypto.TlsCertificate;
+import org.bouncycastle.tls.crypto.TlsCryptoParameters;
+import org.bouncycastle.tls.crypto.impl.bc.BcDefaultTlsCredentialedDecryptor;
+import org.bouncycastle.tls.crypto.impl.bc.BcDefaultTlsCredentialedSigner;
+import org.bouncycastle.tls.crypto.impl.bc.BcTlsCrypto;
+import org.bouncycastle.util.encoders.Hex;
+
+// TLS server stand-in on the loopback interface built on the BouncyCastle TLS stack, the reference target for measuring
+// the overhead and resolution of the client side: its response time is BouncyCastle plus the injected delays
+// every server flight, i.e. the first write after the server read client data, waits for the delay of the flight
+// (TLS1.2: 0 = ServerHello..ServerHelloDone, 1 = ChangeCipherSpec/Finished, TLS1.3: 0 = ServerHello..Finished, then one per KeyUpdate)
+// speaks the TLS1.2 flows with (EC)DHE or RSA key exchange, session id resumption and client authentication
+// and the TLS1.3 flows with client authentication and KeyUpdate of HandshakeActions
+// not supported: renegotiation (refused by BouncyCastle), static (EC)DH, session tickets, TLS1.3 resumption and 0-RTT
+public class LoopbackTlsServer implements AutoCloseable {
+    // below the remaining delay is spun instead of parked, parking is too coarse for microsecond delays
+    private static final long SPIN_NANOS = 2000000;
+
+    private static final int[] CIPHER_SUITES = {
+        CipherSuite.TLS_AES_128_GCM_SHA256,
+        CipherSuite.TLS_AES_256_GCM_SHA384,
+        CipherSuite.TLS_CHACHA20_POLY1305_SHA256,
+        CipherSuite.TLS_AES_128_CCM_SHA256,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA256,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA384,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_128_CCM,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_AES_256_CCM,
+        CipherSuite.TLS_ECDHE_ECDSA_WITH_CHACHA20_POLY1305_SHA256,
+        CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256,
+        CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_GCM_SHA384,
+        CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA256,
+        CipherSuite.TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA384,
+        CipherSuite.TLS_ECDHE_RSA_WITH_CHACHA20_POLY1305_SHA256,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_128_GCM_SHA256,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_256_GCM_SHA384,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_128_CBC_SHA256,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_256_CBC_SHA256,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_128_CCM,
+        CipherSuite.TLS_DHE_RSA_WITH_AES_256_CCM,
+        CipherSuite.TLS_DHE_DSS_WITH_AES_128_GCM_SHA256,
+        CipherSuite.TLS_DHE_DSS_WITH_AES_256_GCM_SHA384,
+        CipherSuite.TLS_DHE_DSS_WITH_AES_128_CBC_SHA256,
+        CipherSuite.TLS_DHE_DSS_WITH_AES_256_CBC_SHA256,
+        CipherSuite.TLS_RSA_WITH_AES_128_GCM_SHA256,
+        CipherSuite.TLS_RSA_WITH_AES_256_GCM_SHA384,
+        CipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA256,
+        CipherSuite.TLS_RSA_WITH_AES_256_CBC_SHA256,
+        CipherSuite.TLS_RSA_WITH_AES_128_CCM,
+        CipherSuite.TLS_RSA_WITH_AES_256_CCM,
+    };
+
+    private static final int[] NAMED_GROUPS = {
+        NamedGroup.x25519, NamedGroup.x448, NamedGroup.secp256r1, NamedGroup.secp384r1, NamedGroup.secp521r1,
+        NamedGroup.ffdhe2048, NamedGroup.ffdhe3072, NamedGroup.ffdhe4096, NamedGroup.ffdhe6144, NamedGroup.ffdhe8192,
+    };
+
+    // delay of a server flight, the same arguments have to give the same delay
+    public interface FlightDelay {
+        long delayNanos(int cntConnection, int cntFlight);
+    }
+
+    private final BcTlsCrypto crypto = new BcTlsCrypto(new SecureRandom());
+    private final ServerSocket serverSocket;
+    private final TlsCertificate[] certificateChain;
+    private final AsymmetricKeyParameter privateKey;
+    private final boolean clientAuth;
+    private final FlightDelay flightDelay;
+    // sessions for the resumption by session id, shared by all connections
+    private final Map<String, TlsSession> sessionCache = new ConcurrentHashMap<>();
+    private final AtomicInteger cntConnections = new AtomicInteger();
+    private final AtomicInteger cntFailedConnections = new AtomicInteger();
+    // time from the last read of client data to the end of the last write of each flight without the injected delay
+    // (connection << 32 | flight), only if recorded
+    private final Map<Long, Long> processingNanos = new ConcurrentHashMap<>();
+    private volatile boolean recordProcessingTimes = false;
+    private final ExecutorService connectionHandlers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "loopback-tls-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed = false;
+
+    // port 0 binds a free port, see getPort
+    public LoopbackTlsServer(int port, String certificatePath, String privateKeyPath, boolean clientAuth, FlightDelay flightDelay) throws IOException {
+        Map<String, byte[]> certificateBlocks = readPem(certificatePath);
+        if (!certificateBlocks.containsKey("CERTIFICATE")) {
+            throw new IOException(certificatePath + " contains no certificate.");
+        }
+        this.certificateChain = new TlsCertificate[] { this.crypto.createCertificate(certificateBlocks.get("CERTIFICATE")) };
+        this.privateKey = PrivateKeyFactory.createKey(readPrivateKeyInfo(privateKeyPath));
+        this.clientAuth = clientAuth;
+        this.flightDelay = flightDelay;
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    }
+
+    // accepts connections in the background until close, the threads do not keep the JVM alive
+    public LoopbackTlsServer start() {
+        Thread acceptor = new Thread(() -> {
+            while (!this.closed) {
+                try {
+                    Socket socket = this.serverSocket.accept();
+                    int cntConnection = this.cntConnections.getAndIncrement();
+                    this.connectionHandlers.execute(() -> handleConnection(socket, cntConnection));
+                } catch (IOException e) {
+                    if (!this.closed) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }, "loopback-tls-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return this;
+    }
+
+    private void handleConnection(Socket socket, int cntConnection) {
+        try (Socket connection = socket) {
+            connection.setTcpNoDelay(true);
+            FlightStreams streams = new FlightStreams(connection.getInputStream(), connection.getOutputStream(), cntConnection);
+            TlsServerProtocol protocol = new TlsServerProtocol(streams.input, streams.output);
+            protocol.accept(new Server());
+            // keeps the connection for KeyUpdates and the alert of the client until it closes
+            InputStream applicationData = protocol.getInputStream();
+            byte[] buffer = new byte[4096];
+            while (applicationData.read(buffer) >= 0) {
+                // application data is ignored
+            }
+        } catch (IOException e) {
+            // aborted handshakes are part of the measured flows, e.g. the connection is reset after the measured server action
+            this.cntFailedConnections.incrementAndGet();
+        }
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    // records the processing time of the server for every flight from now on, see getProcessingNanos
+    public LoopbackTlsServer recordProcessingTimes() {
+        this.recordProcessingTimes = true;
+        return this;
+    }
+
+    // processing time of the server without the injected delay, -1 if the flight was not recorded
+    public long getProcessingNanos(int cntConnection, int cntFlight) {
+        return this.processingNanos.getOrDefault(((long)cntConnection << 32) | cntFlight, -1L);
+    }
+
+    // accepted connections, including the ones of the readiness probe
+    public int getCntConnections() {
+        return this.cntConnections.get();
+    }
+
+    // connections closed before the handshake was complete or with an alert
+    public int getCntFailedConnections() {
+        return this.cntFailedConnections.get();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        try {
+            this.serverSocket.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        this.connectionHandlers.shutdownNow();
+    }
+
+    // flight i waits delaysNanos[i], the last delay is used for all further flights, no delays means no delay
+    public static FlightDelay fixedDelays(long... delaysNanos) {
+        long[] delays = delaysNanos.clone();
+        return (cntConnection, cntFlight) -> (delays.length == 0) ? 0 : delays[Math.min(cntFlight, delays.length - 1)];
+    }
+
+    static void waitNanos(long delayNanos) {
+        long deadline = System.nanoTime() + delayNanos;
+        long remainingNanos;
+        while ((remainingNanos = deadline - System.nanoTime()) > 0) {
+            if (remainingNanos > SPIN_NANOS) {
+                LockSupport.parkNanos(remainingNanos - SPIN_NANOS);
+            }
+        }
+    }
+
+    // blocks of a pem file by type, e.g. CERTIFICATE or PRIVATE KEY, the first block of a type is kept
+    static Map<String, byte[]> readPem(String path) throws IOException {
+        Map<String, byte[]> blocks = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(Paths.get(path));
+        String type = null;
+        StringBuilder base64 = new StringBuilder();
+        for (String line: lines) {
+            line = line.trim();
+            if (line.startsWith("-----BEGIN ")) {
+                type = line.substring("-----BEGIN ".length(), line.length() - "-----".length());
+                base64.setLength(0);
+            } else if (line.startsWith("-----END ") && type != null) {
+                blocks.putIfAbsent(type, Base64.getDecoder().decode(base64.toString()));
+                type = null;
+            } else if (type != null) {
+                base64.append(line);
+            }
+        }
+        return blocks;
+    }
+
+    // PKCS#8, SEC1 EC or PKCS#1 RSA keys as written by openssl
+    static PrivateKeyInfo readPrivateKeyInfo(String path) throws IOException {
+        Map<String, byte[]> blocks = readPem(path);
+        if (blocks.containsKey("PRIVATE KEY")) {
+            return PrivateKeyInfo.getInstance(blocks.get("PRIVATE KEY"));
+        }
+        if (blocks.containsKey("EC PRIVATE KEY")) {
+            ECPrivateKey ecPrivateKey = ECPrivateKey.getInstance(blocks.get("EC PRIVATE KEY"));
+            return new PrivateKeyInfo(new AlgorithmIdentifier(X9ObjectIdentifiers.id_ecPublicKey, ecPrivateKey.getParametersObject()), ecPrivateKey);
+        }
+        if (blocks.containsKey("RSA PRIVATE KEY")) {
+            return new PrivateKeyInfo(new AlgorithmIdentifier(PKCSObjectIdentifiers.rsaEncryption, DERNull.INSTANCE),
+                RSAPrivateKey.getInstance(blocks.get("RSA PRIVATE KEY")));
+        }
+        throw new IOException(path + " contains no supported private key.");
+    }
+
+    // counts the flights of one connection: a write after the server read client data starts the next flight
+    // BouncyCastle writes one record per handshake message, the flight ends with its last write, e.g. after the signed ServerKeyExchange
+    private class FlightStreams {
+        final InputStream input;
+        final OutputStream output;
+        private final int cntConnection;
+        private int cntFlight = 0;
+        private boolean clientDataRead = false;
+        private long lastReadNanos;
+        // read that started the running flight and the delay actually waited before its first write
+        private long flightReadNanos;
+        private long flightDelayNanos;
+
+        FlightStreams(InputStream socketInput, OutputStream socketOutput, int cntConnection) {
+            this.cntConnection = cntConnection;
+            this.input = new FilterInputStream(socketInput) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value >= 0) {
+                        onClientData();
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int cntRead = super.read(buffer, offset, length);
+                    if (cntRead > 0) {
+                        onClientData();
+                    }
+                    return cntRead;
+                }
+            };
+            this.output = new FilterOutputStream(socketOutput) {
+                @Override
+                public void write(int value) throws IOException {
+                    beforeWrite();
+                    out.write(value);
+                    afterWrite();
+                }
+
+                @Override
+                public void write(byte[] buffer, int offset, int length) throws IOException {
+                    beforeWrite();
+                    out.write(buffer, offset, length);
+                    afterWrite();
+                }
+            };
+        }
+
+        private void onClientData() {
+            this.clientDataRead = true;
+            this.lastReadNanos = System.nanoTime();
+        }
+
+        private void beforeWrite() {
+            if (this.clientDataRead) {
+                this.clientDataRead = false;
+                this.flightReadNanos = this.lastReadNanos;
+                long delayStartNanos = System.nanoTime();
+                waitNanos(flightDelay.delayNanos(this.cntConnection, this.cntFlight));
+                this.flightDelayNanos = System.nanoTime() - delayStartNanos;
+                this.cntFlight++;
+            }
+        }
+
+        // every write of the flight overwrites the processing time, the last write of the flight remains
+        private void afterWrite() {
+            if (recordProcessingTimes && this.cntFlight > 0) {
+                processingNanos.put(((long)this.cntConnection << 32) | (this.cntFlight - 1),
+                    System.nanoTime() - this.flightReadNanos - this.flightDelayNanos);
+            }
+        }
+    }
+
+    private class Server extends DefaultTlsServer {
+        Server() {
+            super(crypto);
+        }
+
+        @Override
+        protected ProtocolVersion[] getSupportedVersions() {
+            return ProtocolVersion.TLSv13.downTo(ProtocolVersion.TLSv12);
+        }
+
+        // only the suites the key can authenticate, the server would otherwise choose e.g. ECDHE_ECDSA with an rsa key
+        @Override
+        protected int[] getSupportedCipherSuites() {
+            int[] keyExchanges = (privateKey instanceof ECPrivateKeyParameters) ? new int[] { KeyExchangeAlgorithm.ECDHE_ECDSA }
+                : (privateKey instanceof DSAPrivateKeyParameters) ? new int[] { KeyExchangeAlgorithm.DHE_DSS }
+                : new int[] { KeyExchangeAlgorithm.ECDHE_RSA, KeyExchangeAlgorithm.DHE_RSA, KeyExchangeAlgorithm.RSA };
+            List<Integer> cipherSuites = new ArrayList<>();
+            for (int cipherSuite: TlsUtils.getSupportedCipherSuites(getCrypto(), CIPHER_SUITES)) {
+                int keyExchange = TlsUtils.getKeyExchangeAlgorithm(cipherSuite);
+                // TLS1.3 suites do not define the key exchange
+                boolean fitsKey = keyExchange == KeyExchangeAlgorithm.NULL;
+                for (int fittingKeyExchange: keyExchanges) {
+                    fitsKey |= keyExchange == fittingKeyExchange;
+                }
+                if (fitsKey) {
+                    cipherSuites.add(cipherSuite);
+                }
+            }
+            return cipherSuites.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        @Override
+        public int[] getSupportedGroups() {
+            return NAMED_GROUPS;
+        }
+
+        @Override
+        public TlsCredentials getCredentials() throws IOException {
+            if (!TlsUtils.isTLSv13(this.context)
+                && this.context.getSecurityParametersHandshake().getKeyExchangeAlgorithm() == KeyExchangeAlgorithm.RSA) {
+                return new BcDefaultTlsCredentialedDecryptor(crypto, certificate(), privateKey);
+            }
+            return new BcDefaultTlsCredentialedSigner(new TlsCryptoParameters(this.context), crypto, privateKey, certificate(), selectSignatureAlgorithm());
+        }
+
+        private Certificate certificate() {
+            if (!TlsUtils.isTLSv13(this.context)) {
+                return new Certificate(certificateChain);
+            }
+            CertificateEntry[] entries = new CertificateEntry[certificateChain.length];
+            for (int cntCertificate = 0; cntCertificate < certificateChain.length; cntCertificate++) {
+                entries[cntCertificate] = new CertificateEntry(certificateChain[cntCertificate], null);
+            }
+            return new Certificate(TlsUtils.EMPTY_BYTES, entries);
+        }
+
+        // the first signature algorithm of the client which fits the key
+        private SignatureAndHashAlgorithm selectSignatureAlgorithm() throws IOException {
+            short defaultSignature = (privateKey instanceof ECPrivateKeyParameters) ? SignatureAlgorithm.ecdsa
+                : (privateKey instanceof DSAPrivateKeyParameters) ? SignatureAlgorithm.dsa : SignatureAlgorithm.rsa;
+            Vector<?> clientSigAlgs = this.context.getSecurityParametersHandshake().getClientSigAlgs();
+            if (clientSigAlgs == null) {
+                return TlsUtils.getDefaultSignatureAlgorithm(defaultSignature);
+            }
+            for (Object clientSigAlg: clientSigAlgs) {
+                SignatureAndHashAlgorithm sigAndHash = (SignatureAndHashAlgorithm)clientSigAlg;
+                short signature = sigAndHash.getSignature();
+                boolean fitsKey = (defaultSignature == SignatureAlgorithm.rsa)
+                    ? (signature == SignatureAlgorithm.rsa && !TlsUtils.isTLSv13(this.context))
+                        || signature == SignatureAlgorithm.rsa_pss_rsae_sha256
+                        || signature == SignatureAlgorithm.rsa_pss_rsae_sha384
+                        || signature == SignatureAlgorithm.rsa_pss_rsae_sha512
+                    : signature == defaultSignature;
+                if (fitsKey) {
+                    return sigAndHash;
+                }
+            }
+            throw new IOException("The client offers no signature algorithm for the key of the loopback server.");
+        }
+
+        @Override
+        public CertificateRequest getCertificateRequest() throws IOException {
+            if (!clientAuth) {
+                return null;
+            }
+            Vector<?> supportedSigAlgs = TlsUtils.getDefaultSupportedSignatureAlgorithms(this.context);
+            if (TlsUtils.isTLSv13(this.context)) {
+                return new CertificateRequest(TlsUtils.EMPTY_BYTES, supportedSigAlgs, null, null);
+            }
+            return new CertificateRequest(new short[] { ClientCertificateType.rsa_sign, ClientCertificateType.ecdsa_sign, ClientCertificateType.dss_sign },
+                supportedSigAlgs, null);
+        }
+
+        // the certificate is not validated, the flows with wrong certificates end at the CertificateVerify of the client
+        @Override
+        public void notifyClientCertificate(Certificate clientCertificate) {
+        }
+
+        @Override
+        public byte[] getNewSessionID() {
+            return this.context.getNonceGenerator().generateNonce(32);
+        }
+
+        @Override
+        public TlsSession getSessionToResume(byte[] sessionID) {
+            return sessionCache.get(Hex.toHexString(sessionID));
+        }
+
+        @Override
+        public void notifySession(TlsSession session) {
+            super.notifySession(session);
+            byte[] sessionID = session.getSessionID();
+            if (sessionID != null && sessionID.length > 0) {
+                sessionCache.putIfAbsent(Hex.toHexString(sessionID), session);
+            }
+        }
+    }
+}
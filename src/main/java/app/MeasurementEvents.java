@@ -0,0 +1,117 @@
+package app;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Java Flight Recorder events of the measurement, recorded together with the JVM events (GC pauses, safepoints, JIT compilation)
+// e.g. java -XX:StartFlightRecording=filename=logging/measurement.jfr,settings=profile -cp ... app.App campaign.json
+// without a recording the events are disabled and only cost the enabled check of the cached event type, no event object is created
+// stack traces are off, they are the same for every event and would only enlarge the recording
+public class MeasurementEvents {
+    private static final String CATEGORY = "Time Benchmarking";
+
+    @Name("app.Repetition")
+    @Label("Repetition")
+    @Description("One execution of the handshake trace of a measurement")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class RepetitionEvent extends Event {
+        @Label("Measurement")
+        public String measurementDefinition;
+        @Label("Server")
+        public String serverName;
+        @Label("Attempt")
+        public int attempt;
+        @Label("Collected Measurements")
+        public int cntCollectedMeasurements;
+        @Label("Failure Reason")
+        public String failureReason;
+        // the measured segments run inside the workflow execution of TLS-Attacker, which offers no hook at their boundaries,
+        // so they are no events of their own with begin and end, only their durations are carried here
+        @Label("Server Action Durations")
+        @Description("Durations of the collected server actions in ns, in the order of the flow, separated by spaces")
+        public String serverActionDurations;
+    }
+
+    @Name("app.WorkflowExecution")
+    @Label("Workflow Execution")
+    @Description("Execution of a handshake trace by TLS-Attacker in App.startTlsClient")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class WorkflowExecutionEvent extends Event {
+        @Label("Measurements")
+        public int cntMeasurements;
+        @Label("Completed")
+        public boolean completed;
+    }
+
+    @Name("app.Analysis")
+    @Label("Analysis Phase")
+    @Description("Statistics, outlier cleaning or logging of a finished measurement")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static class AnalysisEvent extends Event {
+        @Label("Measurement")
+        public String measurementDefinition;
+        @Label("Server")
+        public String serverName;
+        @Label("Phase")
+        public String phase;
+    }
+
+    // cached per event class, checking isEnabled() on them allocates nothing per repetition
+    private static final EventType REPETITION_EVENT_TYPE = EventType.getEventType(RepetitionEvent.class);
+    private static final EventType WORKFLOW_EXECUTION_EVENT_TYPE = EventType.getEventType(WorkflowExecutionEvent.class);
+    private static final EventType ANALYSIS_EVENT_TYPE = EventType.getEventType(AnalysisEvent.class);
+
+    // null if no recording enables the event
+    public static RepetitionEvent beginRepetition() {
+        if (!REPETITION_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        RepetitionEvent event = new RepetitionEvent();
+        event.begin();
+        return event;
+    }
+
+    // null if no recording enables the event
+    public static WorkflowExecutionEvent beginWorkflowExecution() {
+        if (!WORKFLOW_EXECUTION_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        WorkflowExecutionEvent event = new WorkflowExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    // null if no recording enables the event
+    public static AnalysisEvent beginAnalysis(String measurementDefinition, String serverName, String phase) {
+        if (!ANALYSIS_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        AnalysisEvent event = new AnalysisEvent();
+        event.measurementDefinition = measurementDefinition;
+        event.serverName = serverName;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    // durations of the server actions for RepetitionEvent, only built for a committed event
+    public static String serverActionDurations(long[] measurementBuffer, int cntServerActions) {
+        StringBuilder durations = new StringBuilder();
+        for (int cntServerAction = 0; cntServerAction < cntServerActions; cntServerAction++) {
+            if (cntServerAction > 0) {
+                durations.append(' ');
+            }
+            durations.append(measurementBuffer[cntServerAction]);
+        }
+        return durations.toString();
+    }
+}
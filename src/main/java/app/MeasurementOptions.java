@@ -0,0 +1,69 @@
+package app;
+
+// optional settings for one time measurement, the defaults keep the behaviour of the plain startTimeMeasurement call
+public class MeasurementOptions {
+    // reuse preallocated per-repetition buffers instead of collecting each repetition into a new list
+    public boolean reuseRepetitionObjects = false;
+    // record the bytes allocated per repetition by the workflow execution and by the measurement loop itself
+    public boolean reportAllocatedBytes = false;
+    // feed every sample into a fixed size, mergeable quantile sketch per server action and report percentiles from it
+    public boolean streamingQuantiles = false;
+    // relative error bound of the sketch quantiles
+    public double sketchRelativeAccuracy = 0.01;
+    public double[] reportedPercentiles = {0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+    // record every sample into a high dynamic range histogram per server action, stored as .hlog file next to the logs
+    public boolean recordHistograms = false;
+    // value precision of the histograms, 3 digits keep the error of every value below 0.1 %
+    public int histogramSignificantDigits = 3;
+    // false keeps the memory fixed for very high repetition counts, needs streamingQuantiles or recordHistograms and disables outlier cleaning
+    public boolean keepRawSamples = true;
+    // store the raw and cleaned samples in a delta/varint encoded columnar file (<log file>.tbc) instead of text dumps in the log
+    public boolean binaryResults = false;
+    // plain 8 byte columns in the columnar file, larger but readable as zero-copy LongBuffer views of a memory mapped file
+    public boolean binaryResultsFixedWidth = false;
+    // hand the finished results to the background AsyncResultWriter, the next measurement starts while the log files are written
+    public boolean asyncResultWriting = false;
+    // progress journal: completed test/server pairs are skipped, interrupted ones continue after the last stored batch of repetitions
+    public CampaignJournal journal = null;
+    public int journalBatchSize = 1000;
+    // failed repetitions are repeated until more than this share of the planned repetitions failed, then the measurement stops with the complete ones
+    public double maxFailureRate = 0.1;
+    // stop as soon as the confidence interval of the quantil is narrow enough for every server action, the repetition count becomes the upper limit
+    public boolean adaptiveRepetitions = false;
+    public double adaptiveQuantil = 0.5;
+    // width of the confidence interval relative to the quantil
+    public double adaptiveTargetRelativeWidth = 0.01;
+    // 1.96 for 95 %, 2.576 for 99 % confidence
+    public double adaptiveConfidenceZ = 1.96;
+    public int adaptiveMinRepetitions = 1000;
+    // repetitions between two checks, with raw samples at least a tenth of the repetitions done
+    public int adaptiveCheckInterval = 500;
+    // repeat handshakes before the measurement until the window medians are stable, the warm-up samples are logged separately
+    public boolean warmupDetection = false;
+    public int warmupWindowSize = 100;
+    // allowed relative change of the median between consecutive windows
+    public double warmupTolerance = 0.02;
+    public int warmupStableWindows = 3;
+    public int maxWarmupRepetitions = 5000;
+    // repeat the measured handshake over one tcp connection (renegotiation, resumption or KeyUpdate) instead of one connection per repetition
+    public ConnectionReuseMeasurement.ConnectionReuseMode connectionReuseMode = ConnectionReuseMeasurement.ConnectionReuseMode.NONE;
+    public int handshakesPerConnection = 100;
+    // watch the ephemeral ports used for connections to the target (Linux), pause when they run out and log the socket pressure
+    public boolean socketPressureMonitoring = false;
+    public int socketPressureCheckInterval = 500;
+    // share of the ephemeral port range in use which pauses the measurement, it continues once the share dropped to the resume share
+    public double socketPressurePauseThreshold = 0.8;
+    public double socketPressureResumeThreshold = 0.5;
+    public long maxSocketPressurePauseMillis = 120000;
+    // result of the calibration pass before the campaign, logged with every measurement
+    public TimerCalibration calibration = null;
+    // subtract the calibrated harness overhead from every duration before the analysis, only for raw samples
+    public boolean subtractHarnessOverhead = false;
+    // stamp every repetition with the GC pauses and safepoint time of the JVM during it and log the disturbed samples
+    public boolean jvmPauseTracking = false;
+    // safepoint time within one repetition from which it counts as disturbed, any GC pause does
+    public long jvmPauseSafepointThresholdMillis = 1;
+    // drop and repeat disturbed repetitions instead of only tagging them, at most this share of the planned repetitions
+    public boolean excludeJvmPauseSamples = false;
+    public double maxJvmPauseExclusionRate = 0.1;
+}
@@ -0,0 +1,135 @@
+package app;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+
+// one test case against one server, bundles the arguments of TimeMeasurement.startTimeMeasurement
+public class MeasurementTask {
+    private final String measurementDefinition;
+    private final int repetition;
+    private Config config;
+    private final HandshakeType handshakeType;
+    private final OutboundConnection connection;
+    private final Boolean shouldDocument;
+    private final int cleanDeviationOutlier;
+    private final double cleanIqrOutlier;
+    private final Boolean shouldCreateMetaLogging;
+    private final String serverName;
+    private final MeasurementOptions options;
+    // prepared handshake flow, null to take it from the WorkflowTraceTemplates of the thread running the task
+    private HandshakeActions handshakeActions;
+
+    // filled after the task was run
+    private long[][] durationsForServerActions;
+
+    public MeasurementTask(
+            String measurementDefinition,
+            int repetition,
+            Config config,
+            HandshakeType handshakeType,
+            OutboundConnection connection,
+            Boolean shouldDocument,
+            int cleanDeviationOutlier,
+            double cleanIqrOutlier,
+            Boolean shouldCreateMetaLogging,
+            String serverName,
+            MeasurementOptions options) {
+        this(measurementDefinition, repetition, config, handshakeType, connection, shouldDocument,
+            cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverName, options, null);
+    }
+
+    public MeasurementTask(
+            String measurementDefinition,
+            int repetition,
+            Config config,
+            HandshakeType handshakeType,
+            OutboundConnection connection,
+            Boolean shouldDocument,
+            int cleanDeviationOutlier,
+            double cleanIqrOutlier,
+            Boolean shouldCreateMetaLogging,
+            String serverName,
+            MeasurementOptions options,
+            HandshakeActions handshakeActions) {
+        this.measurementDefinition = measurementDefinition;
+        this.repetition = repetition;
+        this.config = config;
+        this.handshakeType = handshakeType;
+        this.connection = connection;
+        this.shouldDocument = shouldDocument;
+        this.cleanDeviationOutlier = cleanDeviationOutlier;
+        this.cleanIqrOutlier = cleanIqrOutlier;
+        this.shouldCreateMetaLogging = shouldCreateMetaLogging;
+        this.serverName = serverName;
+        this.options = options;
+        this.handshakeActions = handshakeActions;
+    }
+
+    public String getMeasurementDefinition() {
+        return this.measurementDefinition;
+    }
+    public String getServerName() {
+        return this.serverName;
+    }
+    public Config getConfig() {
+        return this.config;
+    }
+    public OutboundConnection getConnection() {
+        return this.connection;
+    }
+    public int getRepetition() {
+        return this.repetition;
+    }
+    public Boolean getShouldDocument() {
+        return this.shouldDocument;
+    }
+    public int getCleanDeviationOutlier() {
+        return this.cleanDeviationOutlier;
+    }
+    public double getCleanIqrOutlier() {
+        return this.cleanIqrOutlier;
+    }
+    public Boolean getShouldCreateMetaLogging() {
+        return this.shouldCreateMetaLogging;
+    }
+    public MeasurementOptions getOptions() {
+        return this.options;
+    }
+    public long[][] getDurationsForServerActions() {
+        return this.durationsForServerActions;
+    }
+    void setDurationsForServerActions(long[][] durationsForServerActions) {
+        this.durationsForServerActions = durationsForServerActions;
+    }
+
+    // identifies the server endpoint, tasks with the same endpoint must not run concurrently
+    public String getEndpoint() {
+        return this.connection.getHostname() + ":" + this.connection.getPort();
+    }
+
+    // tasks running concurrently must not share a config as the connection is set on it
+    public void useConfigCopy() {
+        this.config = this.config.createCopy();
+        // the shared trace belongs to the original config and is modified during execution
+        this.handshakeActions = null;
+    }
+
+    // sets the connection on the config and returns the handshake flow to run
+    public HandshakeActions prepareHandshakeActions() {
+        this.config.setDefaultClientConnection(this.connection);
+        if (this.handshakeActions == null) {
+            return WorkflowTraceTemplates.get(this.handshakeType, this.config);
+        }
+        return this.handshakeActions;
+    }
+
+    public long[][] run() {
+        HandshakeActions handshakeActions = prepareHandshakeActions();
+        System.out.println("Start " + this.measurementDefinition + " with " + this.serverName + " (" + getEndpoint() + ")");
+        this.durationsForServerActions = TimeMeasurement.startTimeMeasurement(this.measurementDefinition, this.repetition, this.config,
+            handshakeActions, this.shouldDocument, this.cleanDeviationOutlier, this.cleanIqrOutlier, this.shouldCreateMetaLogging,
+            this.serverName, this.options);
+        return this.durationsForServerActions;
+    }
+}
@@ -0,0 +1,125 @@
+package app;
+
+// single pass accumulator for count, min, max, mean and the central moments up to the fourth
+// update as in Welford / Terriberry, merge as in Pebay (https://www.osti.gov/biblio/1028931), so partial results of threads or runs can be combined
+// variance, skewness and kurtosis are the sample estimators (as Excel VAR.S, SKEW and KURT)
+// they need at least 2, 3 and 4 samples and skewness and kurtosis a spread, otherwise they are undefined and NaN (never Infinity)
+public class OnlineStatistics {
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private double mean = 0.0;
+    // sums of the 2., 3. and 4. power of the differences to the mean
+    private double m2 = 0.0;
+    private double m3 = 0.0;
+    private double m4 = 0.0;
+
+    public void add(long value) {
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+
+        double countBefore = this.count;
+        this.count++;
+        double n = this.count;
+        double delta = value - this.mean;
+        double deltaN = delta / n;
+        double deltaN2 = deltaN * deltaN;
+        double term1 = delta * deltaN * countBefore;
+
+        this.mean += deltaN;
+        this.m4 += term1 * deltaN2 * (n * n - 3.0 * n + 3.0) + 6.0 * deltaN2 * this.m2 - 4.0 * deltaN * this.m3;
+        this.m3 += term1 * deltaN * (n - 2.0) - 3.0 * deltaN * this.m2;
+        this.m2 += term1;
+    }
+
+    public void addAll(long[] values) {
+        for (long value: values) {
+            add(value);
+        }
+    }
+
+    // adds all values of another accumulator
+    public void merge(OnlineStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            this.count = other.count;
+            this.min = other.min;
+            this.max = other.max;
+            this.mean = other.mean;
+            this.m2 = other.m2;
+            this.m3 = other.m3;
+            this.m4 = other.m4;
+            return;
+        }
+
+        double nA = this.count;
+        double nB = other.count;
+        double n = nA + nB;
+        double delta = other.mean - this.mean;
+        double delta2 = delta * delta;
+        double delta3 = delta2 * delta;
+        double delta4 = delta2 * delta2;
+
+        double m4 = this.m4 + other.m4
+            + delta4 * nA * nB * (nA * nA - nA * nB + nB * nB) / (n * n * n)
+            + 6.0 * delta2 * (nA * nA * other.m2 + nB * nB * this.m2) / (n * n)
+            + 4.0 * delta * (nA * other.m3 - nB * this.m3) / n;
+        double m3 = this.m3 + other.m3
+            + delta3 * nA * nB * (nA - nB) / (n * n)
+            + 3.0 * delta * (nA * other.m2 - nB * this.m2) / n;
+        double m2 = this.m2 + other.m2 + delta2 * nA * nB / n;
+
+        this.count += other.count;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        this.mean += delta * nB / n;
+        this.m2 = m2;
+        this.m3 = m3;
+        this.m4 = m4;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+    public long getMin() {
+        return this.min;
+    }
+    public long getMax() {
+        return this.max;
+    }
+    public double getMean() {
+        return this.mean;
+    }
+    public double getVariance() {
+        if (this.count < 2) {
+            return Double.NaN;
+        }
+        return this.m2 / (double)(this.count - 1);
+    }
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    // sample skewness (https://365datascience.com/calculators/skewness-calculator/)
+    public double getSkewness() {
+        double n = this.count;
+        double standardDeviation = getStandardDeviation();
+        if (this.count < 3 || standardDeviation == 0.0) {
+            return Double.NaN;
+        }
+        return n / ((n - 1.0) * (n - 2.0)) * this.m3 / (standardDeviation * standardDeviation * standardDeviation);
+    }
+
+    // sample excess kurtosis, 0 for a normal distribution
+    public double getKurtosis() {
+        double n = this.count;
+        double variance = getVariance();
+        if (this.count < 4 || variance == 0.0) {
+            return Double.NaN;
+        }
+        return n * (n + 1.0) / ((n - 1.0) * (n - 2.0) * (n - 3.0)) * this.m4 / (variance * variance)
+            - 3.0 * (n - 1.0) * (n - 1.0) / ((n - 2.0) * (n - 3.0));
+    }
+}
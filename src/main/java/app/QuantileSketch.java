@@ -0,0 +1,161 @@
+package app;
+
+// mergeable quantile sketch with a relative error guarantee, logarithmic buckets as in DDSketch (https://arxiv.org/abs/1908.10693)
+// a value v > 0 is counted in bucket ceil(log_gamma(v)) with gamma = (1 + alpha) / (1 - alpha)
+// error bound: quantile(q) lies within +/- alpha * x of x, the exact order statistic at rank floor(q * (count - 1))
+// memory only depends on the value range, not on the count: 1 ns to 1000 s with alpha = 1 % needs less than 1600 buckets
+public class QuantileSketch {
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    // bucketCounts[i] holds the count of bucket (minBucketIndex + i)
+    private long[] bucketCounts = new long[0];
+    private int minBucketIndex = 0;
+    // values <= 0 can not be mapped to a logarithmic bucket
+    private long zeroCount = 0;
+
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private double sum = 0.0;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0.0 || relativeAccuracy >= 1.0) {
+            throw new Error("Relative accuracy of quantile sketch must be in (0, 1) but is " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1.0 + relativeAccuracy) / (1.0 - relativeAccuracy);
+        this.logGamma = Math.log(this.gamma);
+    }
+
+    public void add(long value) {
+        this.count++;
+        this.sum += value;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+
+        if (value <= 0) {
+            this.zeroCount++;
+            return;
+        }
+        int bucketIndex = (int) Math.ceil(Math.log(value) / this.logGamma);
+        ensureBucket(bucketIndex);
+        this.bucketCounts[bucketIndex - this.minBucketIndex]++;
+    }
+
+    // adds all values of another sketch, e.g. of another run or server
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != this.relativeAccuracy) {
+            throw new Error("Can not merge quantile sketches with relative accuracy " + this.relativeAccuracy + " and " + other.relativeAccuracy);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        this.count += other.count;
+        this.sum += other.sum;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        this.zeroCount += other.zeroCount;
+
+        for (int cntBucket = 0; cntBucket < other.bucketCounts.length; cntBucket++) {
+            if (other.bucketCounts[cntBucket] != 0) {
+                int bucketIndex = other.minBucketIndex + cntBucket;
+                ensureBucket(bucketIndex);
+                this.bucketCounts[bucketIndex - this.minBucketIndex] += other.bucketCounts[cntBucket];
+            }
+        }
+    }
+
+    // estimate of the quantil q in [0, 1], NaN for an empty sketch
+    public double quantile(double quantil) {
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (quantil <= 0.0) {
+            return this.min;
+        }
+        if (quantil >= 1.0) {
+            return this.max;
+        }
+
+        return valueAtRank((long) Math.floor(quantil * (this.count - 1)));
+    }
+
+    // estimate of the order statistic at the 0-based rank, NaN for an empty sketch
+    public double valueAtRank(long rank) {
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (rank <= 0) {
+            return this.min;
+        }
+        if (rank >= this.count - 1) {
+            return this.max;
+        }
+        if (rank < this.zeroCount) {
+            return Math.max(this.min, 0);
+        }
+        long cumulativeCount = this.zeroCount;
+        for (int cntBucket = 0; cntBucket < this.bucketCounts.length; cntBucket++) {
+            cumulativeCount += this.bucketCounts[cntBucket];
+            if (cumulativeCount > rank) {
+                // bucket covers (gamma^(i-1), gamma^i], this value is within alpha of both bounds
+                double estimate = 2.0 * Math.pow(this.gamma, this.minBucketIndex + cntBucket) / (this.gamma + 1.0);
+                return Math.min(Math.max(estimate, this.min), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    public double getRelativeAccuracy() {
+        return this.relativeAccuracy;
+    }
+    public long getCount() {
+        return this.count;
+    }
+    public long getMin() {
+        return this.min;
+    }
+    public long getMax() {
+        return this.max;
+    }
+    public double getMean() {
+        return this.sum / this.count;
+    }
+
+    // creates text overview of the given percentiles
+    public String textualRepresentation(double[] percentiles) {
+        String percentilesString = " Elements: " + this.count + " (relative error <= " + (this.relativeAccuracy * 100.0) + " %)\n";
+        for (double percentile: percentiles) {
+            percentilesString += " p" + String.valueOf(percentile * 100.0).replaceAll("\\.0$", "") + ": " + quantile(percentile)/1000000.0 + " ms\n";
+        }
+        return percentilesString;
+    }
+
+    // grows the bucket array so that it covers the given bucket index
+    private void ensureBucket(int bucketIndex) {
+        if (this.bucketCounts.length == 0) {
+            this.bucketCounts = new long[64];
+            this.minBucketIndex = bucketIndex - 32;
+            return;
+        }
+        int maxBucketIndex = this.minBucketIndex + this.bucketCounts.length - 1;
+        if (bucketIndex >= this.minBucketIndex && bucketIndex <= maxBucketIndex) {
+            return;
+        }
+
+        int newMinBucketIndex = Math.min(this.minBucketIndex, bucketIndex);
+        int newMaxBucketIndex = Math.max(maxBucketIndex, bucketIndex);
+        // grow at least by factor 2 to keep the number of copies low
+        int newLength = Math.max(newMaxBucketIndex - newMinBucketIndex + 1, 2 * this.bucketCounts.length);
+        if (bucketIndex < this.minBucketIndex) {
+            newMinBucketIndex = newMaxBucketIndex - newLength + 1;
+        }
+
+        long[] newBucketCounts = new long[newLength];
+        System.arraycopy(this.bucketCounts, 0, newBucketCounts, this.minBucketIndex - newMinBucketIndex, this.bucketCounts.length);
+        this.bucketCounts = newBucketCounts;
+        this.minBucketIndex = newMinBucketIndex;
+    }
+}
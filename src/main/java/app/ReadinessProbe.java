@@ -0,0 +1,207 @@
+package app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+
+// waits until a target endpoint answers and its response latency is back at its baseline, replaces fixed pauses between tests
+// a tcp connect alone is completed by the kernel from the listen backlog, also while a single threaded server is still busy,
+// so every probe sends a ClientHello record and times the first bytes of the answer (ServerHello or alert) before it aborts the connection
+// the baseline of an endpoint is the median response latency of the first successful probes against it
+public class ReadinessProbe {
+    public static final long DEFAULT_TIMEOUT_MILLIS = 10000;
+    private static final int PROBE_CONNECT_TIMEOUT_MILLIS = 500;
+    // a busy server answers late, the probe then counts as failed and is repeated
+    private static final int PROBE_RESPONSE_TIMEOUT_MILLIS = 1000;
+    // TLS record content types of a ServerHello and of an alert
+    private static final int CONTENT_TYPE_HANDSHAKE = 22;
+    private static final int CONTENT_TYPE_ALERT = 21;
+    private static final long PROBE_INTERVAL_MILLIS = 20;
+
+    private final long timeoutMillis;
+    // probes per median, for the baseline and for the comparison
+    private final int cntProbes;
+    // allowed relative excess over the baseline
+    private final double tolerance;
+    // response latencies on loopback are a few hundred microseconds, the absolute slack keeps the relative tolerance from being too strict
+    private final long minSlackNanos;
+
+    // "host:port" mapped to the baseline response latency in ns, one probe is shared by the endpoint workers of the CampaignExecutor
+    private final Map<String, Long> baselineNanosForEndpoints = new ConcurrentHashMap<>();
+
+    public ReadinessProbe(long timeoutMillis) {
+        this(timeoutMillis, 5, 0.5, 200000);
+    }
+
+    public ReadinessProbe(long timeoutMillis, int cntProbes, double tolerance, long minSlackNanos) {
+        if (cntProbes < 1) {
+            throw new Error("Readiness probe needs at least 1 probe but has " + cntProbes);
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.cntProbes = cntProbes;
+        this.tolerance = tolerance;
+        this.minSlackNanos = minSlackNanos;
+    }
+
+    // blocks until the endpoint is ready or the timeout passed, returns whether it is ready
+    // a timeout is reported but does not stop the campaign, the next test then shows the connection problems itself
+    // not synchronized, concurrent workers probe their endpoints independently
+    public boolean awaitReady(OutboundConnection connection) {
+        String endpoint = connection.getHostname() + ":" + connection.getPort();
+        long startMillis = System.currentTimeMillis();
+        long deadlineMillis = startMillis + this.timeoutMillis;
+        long[] latencyNanos = new long[this.cntProbes];
+        int cntLatencies = 0;
+        long lastMedianNanos = -1;
+
+        while (System.currentTimeMillis() < deadlineMillis) {
+            long responseNanos = probe(connection.getHostname(), connection.getPort());
+            if (responseNanos < 0) {
+                // not answering yet, also forget latencies of an earlier instance
+                cntLatencies = 0;
+            } else {
+                latencyNanos[cntLatencies % this.cntProbes] = responseNanos;
+                cntLatencies++;
+            }
+
+            if (cntLatencies >= this.cntProbes) {
+                lastMedianNanos = median(latencyNanos);
+                Long baselineNanos = this.baselineNanosForEndpoints.putIfAbsent(endpoint, lastMedianNanos);
+                if (baselineNanos == null) {
+                    baselineNanos = lastMedianNanos;
+                }
+                if (isSettled(lastMedianNanos, baselineNanos)) {
+                    System.out.println("Endpoint " + endpoint + " ready after " + (System.currentTimeMillis() - startMillis) + " ms (response "
+                        + lastMedianNanos/1000.0 + " us, baseline " + baselineNanos/1000.0 + " us)");
+                    return true;
+                }
+            }
+            try {
+                Thread.sleep(PROBE_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        System.out.println("Endpoint " + endpoint + " not ready after " + this.timeoutMillis + " ms"
+            + ((lastMedianNanos >= 0) ? " (response " + lastMedianNanos/1000.0 + " us, baseline " + this.baselineNanosForEndpoints.get(endpoint)/1000.0 + " us)" : ", no answer"));
+        return false;
+    }
+
+    boolean isSettled(long medianNanos, long baselineNanos) {
+        return medianNanos <= Math.max(baselineNanos * (1.0 + this.tolerance), baselineNanos + this.minSlackNanos);
+    }
+
+    // ns from sending the ClientHello until the first byte of a TLS record of the server, -1 if the connection was refused,
+    // closed without a TLS record or the server did not answer in time
+    static long probe(String hostname, int port) {
+        try (Socket socket = new Socket()) {
+            // reset instead of fin on close, the probes leave no TIME_WAIT sockets behind and the server drops the handshake
+            socket.setSoLinger(true, 0);
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(hostname, port), PROBE_CONNECT_TIMEOUT_MILLIS);
+            socket.setSoTimeout(PROBE_RESPONSE_TIMEOUT_MILLIS);
+            byte[] clientHello = clientHelloRecord();
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            long startNanos = System.nanoTime();
+            out.write(clientHello);
+            out.flush();
+            int contentType = in.read();
+            long responseNanos = System.nanoTime() - startNanos;
+            if (contentType != CONTENT_TYPE_HANDSHAKE && contentType != CONTENT_TYPE_ALERT) {
+                return -1;
+            }
+            return responseNanos;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // ClientHello offering TLS1.3 (x25519 key share) and TLS1.2 with the usual ECDHE and RSA suites, so the test servers answer
+    // with a ServerHello, a HelloRetryRequest or at least an alert
+    static byte[] clientHelloRecord() {
+        SecureRandom random = new SecureRandom();
+        ByteArrayOutputStream extensions = new ByteArrayOutputStream();
+        // supported_versions: TLS1.3, TLS1.2
+        writeExtension(extensions, 43, new byte[] { 4, 3, 4, 3, 3 });
+        // supported_groups: x25519, secp256r1, secp384r1, secp521r1
+        writeExtension(extensions, 10, new byte[] { 0, 8, 0, 29, 0, 23, 0, 24, 0, 25 });
+        // ec_point_formats: uncompressed
+        writeExtension(extensions, 11, new byte[] { 1, 0 });
+        // signature_algorithms: ecdsa sha256/384/512, rsa_pss_rsae sha256/384/512, rsa_pkcs1 sha256/384/512
+        writeExtension(extensions, 13, new byte[] { 0, 18, 4, 3, 5, 3, 6, 3, 8, 4, 8, 5, 8, 6, 4, 1, 5, 1, 6, 1 });
+        // key_share: x25519 with a random public value, the handshake is aborted before it is used
+        byte[] keyShare = new byte[2 + 4 + 32];
+        keyShare[1] = 36;
+        keyShare[3] = 29;
+        keyShare[5] = 32;
+        byte[] publicValue = new byte[32];
+        random.nextBytes(publicValue);
+        System.arraycopy(publicValue, 0, keyShare, 6, 32);
+        writeExtension(extensions, 51, keyShare);
+        // renegotiation_info: empty
+        writeExtension(extensions, 0xff01, new byte[] { 0 });
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        // legacy version TLS1.2 and random
+        body.write(3);
+        body.write(3);
+        byte[] clientRandom = new byte[32];
+        random.nextBytes(clientRandom);
+        body.write(clientRandom, 0, clientRandom.length);
+        // empty session id
+        body.write(0);
+        // TLS_AES_128_GCM_SHA256, TLS_AES_256_GCM_SHA384, ECDHE_ECDSA/ECDHE_RSA with AES_128/256_GCM and AES_128_CBC_SHA256,
+        // RSA with AES_128_GCM and AES_128_CBC_SHA
+        int[] cipherSuites = { 0x1301, 0x1302, 0xc02b, 0xc02f, 0xc02c, 0xc030, 0xc023, 0xc027, 0x009c, 0x002f };
+        writeUint16(body, cipherSuites.length * 2);
+        for (int cipherSuite: cipherSuites) {
+            writeUint16(body, cipherSuite);
+        }
+        // null compression
+        body.write(1);
+        body.write(0);
+        writeUint16(body, extensions.size());
+        body.write(extensions.toByteArray(), 0, extensions.size());
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        record.write(CONTENT_TYPE_HANDSHAKE);
+        // record version TLS1.0 for compatibility
+        record.write(3);
+        record.write(1);
+        writeUint16(record, body.size() + 4);
+        // handshake type ClientHello with 24 bit length
+        record.write(1);
+        record.write(0);
+        writeUint16(record, body.size());
+        record.write(body.toByteArray(), 0, body.size());
+        return record.toByteArray();
+    }
+
+    private static void writeExtension(ByteArrayOutputStream out, int extensionType, byte[] extensionData) {
+        writeUint16(out, extensionType);
+        writeUint16(out, extensionData.length);
+        out.write(extensionData, 0, extensionData.length);
+    }
+
+    private static void writeUint16(ByteArrayOutputStream out, int value) {
+        out.write((value >> 8) & 0xff);
+        out.write(value & 0xff);
+    }
+
+    private static long median(long[] values) {
+        long[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        return sortedValues[sortedValues.length / 2];
+    }
+}
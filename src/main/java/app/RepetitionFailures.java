@@ -0,0 +1,95 @@
+package app;
+
+// failed repetitions of one measurement, a failed repetition is repeated and its partial durations are not used
+// every failure is counted at the server action it stopped at, i.e. after how many durations of the repetition it failed
+public class RepetitionFailures {
+    public enum FailureReason {
+        // WorkflowExecutionException, the handshake was not executed completely
+        WORKFLOW_EXCEPTION,
+        // handshake executed but fewer durations than server actions, e.g. after an alert of the server
+        MISSING_MEASUREMENTS,
+        // more durations than server actions, the trace does not match the handshake actions
+        SURPLUS_MEASUREMENTS,
+        // any other exception thrown by the workflow execution
+        UNEXPECTED_EXCEPTION
+    }
+
+    // only the first failures are kept in detail, the counters cover all of them
+    private static final int MAX_DETAILED_FAILURES = 100;
+
+    private final int totalCntServerActions;
+    // [reason][server action the repetition failed at], totalCntServerActions for surplus measurements
+    private final long[][] cntFailuresForReasons;
+    private int cntFailures = 0;
+    private String detailedFailures = "";
+
+    public RepetitionFailures(int totalCntServerActions) {
+        this.totalCntServerActions = totalCntServerActions;
+        this.cntFailuresForReasons = new long[FailureReason.values().length][totalCntServerActions + 1];
+    }
+
+    // reason why a handshake with the startTlsClient result cntMeasurements (negative for an incomplete workflow) is not usable, null if it is complete
+    public static FailureReason classify(int cntMeasurements, int totalCntServerActions) {
+        if (cntMeasurements < 0) {
+            return FailureReason.WORKFLOW_EXCEPTION;
+        } else if (cntMeasurements < totalCntServerActions) {
+            return FailureReason.MISSING_MEASUREMENTS;
+        } else if (cntMeasurements > totalCntServerActions) {
+            return FailureReason.SURPLUS_MEASUREMENTS;
+        }
+        return null;
+    }
+
+    // cntAttempt counts all tries including the failed ones, cntMeasurements is the startTlsClient result of the try
+    // an incomplete workflow is counted at the server action after its last measured one
+    public void recordFailure(int cntAttempt, FailureReason reason, int cntMeasurements, String message) {
+        int failedServerAction = Math.min(App.cntMeasurements(cntMeasurements), this.totalCntServerActions);
+        this.cntFailuresForReasons[reason.ordinal()][failedServerAction]++;
+        this.cntFailures++;
+        if (this.cntFailures <= MAX_DETAILED_FAILURES) {
+            this.detailedFailures += " Attempt " + cntAttempt + ": " + reason + " at server action " + failedServerAction
+                + ((message != null) ? " (" + message + ")" : "") + "\n";
+        }
+    }
+
+    public int getCntFailures() {
+        return this.cntFailures;
+    }
+
+    public long getCntFailures(FailureReason reason) {
+        long cntFailuresForReason = 0;
+        for (long cntFailuresForAction: this.cntFailuresForReasons[reason.ordinal()]) {
+            cntFailuresForReason += cntFailuresForAction;
+        }
+        return cntFailuresForReason;
+    }
+
+    // share of failed tries among all tries
+    public double getFailureRate(int cntSuccessfulRepetitions) {
+        int cntAttempts = cntSuccessfulRepetitions + this.cntFailures;
+        return (cntAttempts == 0) ? 0.0 : (double)this.cntFailures / cntAttempts;
+    }
+
+    // creates text overview of the failures per reason and server action
+    public String textualRepresentation(int cntSuccessfulRepetitions) {
+        String failuresString = " Successful Repetitions: " + cntSuccessfulRepetitions + "\n";
+        failuresString += " Failed Repetitions: " + this.cntFailures + "\n";
+        failuresString += " Failure Rate: " + String.format("%.3f", getFailureRate(cntSuccessfulRepetitions) * 100.0) + " %\n";
+        for (FailureReason reason: FailureReason.values()) {
+            if (getCntFailures(reason) == 0) {
+                continue;
+            }
+            failuresString += " " + reason + ": " + getCntFailures(reason) + "\n";
+            for (int cntServerAction = 0; cntServerAction <= this.totalCntServerActions; cntServerAction++) {
+                long cntFailuresForAction = this.cntFailuresForReasons[reason.ordinal()][cntServerAction];
+                if (cntFailuresForAction > 0) {
+                    failuresString += "  at Server Action " + cntServerAction + ": " + cntFailuresForAction + "\n";
+                }
+            }
+        }
+        if (this.cntFailures > 0) {
+            failuresString += " First Failures:\n" + this.detailedFailures;
+        }
+        return failuresString;
+    }
+}
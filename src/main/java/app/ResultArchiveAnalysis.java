@@ -0,0 +1,64 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import app.ColumnarResultReader.ColumnarResult;
+
+// recomputes statistics for all columnar result files below a directory (e.g. logging/) without parsing text
+// files are memory mapped, samples are streamed from the mapped columns into single pass accumulators, no sample array is built
+// usage: java -cp <jar> app.ResultArchiveAnalysis logging/ [relative accuracy of the quantiles, default 0.01]
+public class ResultArchiveAnalysis {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: app.ResultArchiveAnalysis <directory> [relative accuracy]");
+            return;
+        }
+        double relativeAccuracy = (args.length > 1) ? Double.parseDouble(args[1]) : 0.01;
+        try {
+            analyseArchive(new File(args[0]), relativeAccuracy, System.out);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // prints one csv line per result file, group and server action
+    public static void analyseArchive(File archiveDirectory, double relativeAccuracy, PrintStream out) throws IOException {
+        ArrayList<Path> resultPaths;
+        try (Stream<Path> paths = Files.walk(archiveDirectory.toPath())) {
+            resultPaths = paths.filter(path -> path.toString().endsWith(".tbc")).collect(Collectors.toCollection(ArrayList::new));
+        }
+        Collections.sort(resultPaths);
+
+        out.println("file;measurement;group;serverAction;count;min;max;mean;stdDeviation;median;p90;p99;p99.9");
+        for (Path resultPath: resultPaths) {
+            ColumnarResult columnarResult = ColumnarResultReader.map(resultPath.toFile());
+            for (String groupTitle: columnarResult.getGroupTitles()) {
+                LongBuffer[] durationsForServerActions = columnarResult.getColumnBuffers(groupTitle);
+                for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+                    LongBuffer durationsForOneAction = durationsForServerActions[cntServerAction];
+                    OnlineStatistics onlineStatistics = new OnlineStatistics();
+                    QuantileSketch sketch = new QuantileSketch(relativeAccuracy);
+                    while (durationsForOneAction.hasRemaining()) {
+                        long duration = durationsForOneAction.get();
+                        onlineStatistics.add(duration);
+                        sketch.add(duration);
+                    }
+                    out.println(resultPath.getFileName() + ";" + columnarResult.getMeasurementDefinition() + ";" + groupTitle + ";" + cntServerAction
+                        + ";" + onlineStatistics.getCount() + ";" + onlineStatistics.getMin() + ";" + onlineStatistics.getMax()
+                        + ";" + onlineStatistics.getMean() + ";" + onlineStatistics.getStandardDeviation()
+                        + ";" + sketch.quantile(0.5) + ";" + sketch.quantile(0.9) + ";" + sketch.quantile(0.99) + ";" + sketch.quantile(0.999));
+                }
+            }
+        }
+    }
+}
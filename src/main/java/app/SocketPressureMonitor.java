@@ -0,0 +1,184 @@
+package app;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// watches the ephemeral ports taken by connections to the target, every repetition opens a new connection which stays in TIME_WAIT
+// after closing, at high rates against localhost the ports of the local range run out and connects fail
+// reads the socket table from /proc/net/tcp and /proc/net/tcp6 (Linux only, the monitor is inactive elsewhere),
+// pauses the measurement when the share of used ports reaches the threshold until it dropped to the resume share
+public class SocketPressureMonitor {
+    // tcp states in /proc/net/tcp
+    private static final int STATE_ESTABLISHED = 0x01;
+    private static final int STATE_TIME_WAIT = 0x06;
+    private static final String[] SOCKET_TABLES = { "/proc/net/tcp", "/proc/net/tcp6" };
+    private static final long PAUSE_STEP_MILLIS = 100;
+
+    private final int targetPort;
+    private final int checkInterval;
+    private final double pauseThreshold;
+    private final double resumeThreshold;
+    private final long maxPauseMillis;
+    private final int firstEphemeralPort;
+    private final int lastEphemeralPort;
+    private final boolean active;
+
+    private int cntConnections = 0;
+    private int cntFailedConnections = 0;
+    private long lastCheckNanos = System.nanoTime();
+    private int cntConnectionsAtLastCheck = 0;
+    private double maxConnectionRate = 0;
+    private SocketCounts lastCounts = new SocketCounts();
+    private int maxUsedPorts = 0;
+    private int maxTimeWait = 0;
+    private int cntPauses = 0;
+    private long totalPauseMillis = 0;
+    private int cntFailuresUnderPressure = 0;
+
+    public SocketPressureMonitor(int targetPort, MeasurementOptions options) {
+        this.targetPort = targetPort;
+        this.checkInterval = Math.max(options.socketPressureCheckInterval, 1);
+        this.pauseThreshold = options.socketPressurePauseThreshold;
+        this.resumeThreshold = options.socketPressureResumeThreshold;
+        this.maxPauseMillis = options.maxSocketPressurePauseMillis;
+        int[] portRange = readEphemeralPortRange();
+        this.firstEphemeralPort = portRange[0];
+        this.lastEphemeralPort = portRange[1];
+        this.active = Files.isReadable(Paths.get(SOCKET_TABLES[0]));
+        if (!this.active) {
+            System.out.println("Socket pressure monitoring is not supported on this system, " + SOCKET_TABLES[0] + " is not readable.");
+        }
+    }
+
+    // called before every connection, checks the socket table every checkInterval connections and pauses if needed
+    public void beforeConnection() {
+        if (!this.active || this.cntConnections % this.checkInterval != 0 || this.cntConnections == 0) {
+            return;
+        }
+        long nowNanos = System.nanoTime();
+        double connectionRate = (this.cntConnections - this.cntConnectionsAtLastCheck) / ((nowNanos - this.lastCheckNanos) / 1e9);
+        this.maxConnectionRate = Math.max(this.maxConnectionRate, connectionRate);
+
+        updateCounts();
+        if (getUsedPortShare() >= this.pauseThreshold) {
+            System.out.println("Socket pressure: " + describe() + ", pausing until at most " + this.resumeThreshold * 100.0 + " % of the ports are used.");
+            long pauseStartMillis = System.currentTimeMillis();
+            while (getUsedPortShare() > this.resumeThreshold && System.currentTimeMillis() - pauseStartMillis < this.maxPauseMillis) {
+                try {
+                    Thread.sleep(PAUSE_STEP_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                updateCounts();
+            }
+            long pauseMillis = System.currentTimeMillis() - pauseStartMillis;
+            this.cntPauses++;
+            this.totalPauseMillis += pauseMillis;
+            System.out.println("Socket pressure: resumed after " + pauseMillis + " ms, " + describe());
+        }
+        // the pause does not count into the rate
+        this.lastCheckNanos = System.nanoTime();
+        this.cntConnectionsAtLastCheck = this.cntConnections;
+    }
+
+    public void afterConnection(boolean failed) {
+        this.cntConnections++;
+        if (failed) {
+            this.cntFailedConnections++;
+            if (this.active && getUsedPortShare() >= this.pauseThreshold) {
+                this.cntFailuresUnderPressure++;
+            }
+        }
+    }
+
+    // current state for the message of a failed repetition, reads the socket table again
+    public String describeFailure() {
+        if (!this.active) {
+            return null;
+        }
+        updateCounts();
+        return describe();
+    }
+
+    private void updateCounts() {
+        SocketCounts counts = new SocketCounts();
+        for (String socketTable: SOCKET_TABLES) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(socketTable))) {
+                countSockets(reader, this.targetPort, this.firstEphemeralPort, this.lastEphemeralPort, counts);
+            } catch (IOException e) {
+                // tcp6 is missing without ipv6
+            }
+        }
+        this.lastCounts = counts;
+        this.maxUsedPorts = Math.max(this.maxUsedPorts, counts.cntUsedPorts);
+        this.maxTimeWait = Math.max(this.maxTimeWait, counts.cntTimeWait);
+    }
+
+    double getUsedPortShare() {
+        return (double)this.lastCounts.cntUsedPorts / (this.lastEphemeralPort - this.firstEphemeralPort + 1);
+    }
+
+    private String describe() {
+        return this.lastCounts.cntUsedPorts + " of " + (this.lastEphemeralPort - this.firstEphemeralPort + 1) + " ephemeral ports used for port " + this.targetPort
+            + " (" + this.lastCounts.cntTimeWait + " TIME_WAIT, " + this.lastCounts.cntEstablished + " ESTABLISHED)";
+    }
+
+    // adds the client sockets to the target port of one socket table, lines as in /proc/net/tcp:
+    //  sl  local_address rem_address   st ...
+    //   0: 0100007F:C350 0100007F:0457 06 ...
+    static void countSockets(Reader socketTable, int targetPort, int firstEphemeralPort, int lastEphemeralPort, SocketCounts counts) throws IOException {
+        BufferedReader reader = new BufferedReader(socketTable);
+        // header
+        String line = reader.readLine();
+        while ((line = reader.readLine()) != null) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length < 4) {
+                continue;
+            }
+            int localPort = Integer.parseInt(fields[1].substring(fields[1].indexOf(':') + 1), 16);
+            int remotePort = Integer.parseInt(fields[2].substring(fields[2].indexOf(':') + 1), 16);
+            if (remotePort != targetPort || localPort < firstEphemeralPort || localPort > lastEphemeralPort) {
+                continue;
+            }
+            int state = Integer.parseInt(fields[3], 16);
+            counts.cntUsedPorts++;
+            if (state == STATE_TIME_WAIT) {
+                counts.cntTimeWait++;
+            } else if (state == STATE_ESTABLISHED) {
+                counts.cntEstablished++;
+            }
+        }
+    }
+
+    private static int[] readEphemeralPortRange() {
+        try {
+            String[] range = new String(Files.readAllBytes(Paths.get("/proc/sys/net/ipv4/ip_local_port_range"))).trim().split("\\s+");
+            return new int[] { Integer.parseInt(range[0]), Integer.parseInt(range[1]) };
+        } catch (IOException | RuntimeException e) {
+            // Linux default
+            return new int[] { 32768, 60999 };
+        }
+    }
+
+    // creates text overview for the log
+    public String textualRepresentation() {
+        String pressureString = " Target Port: " + this.targetPort + ", Ephemeral Ports: " + this.firstEphemeralPort + "-" + this.lastEphemeralPort + "\n";
+        pressureString += " Connections: " + this.cntConnections + ", Failed: " + this.cntFailedConnections
+            + " (" + this.cntFailuresUnderPressure + " above the pause threshold)\n";
+        pressureString += " Max. Connection Rate: " + String.format("%.1f", this.maxConnectionRate) + " per second\n";
+        pressureString += " Max. Used Ports: " + this.maxUsedPorts + ", Max. TIME_WAIT: " + this.maxTimeWait + "\n";
+        pressureString += " Pauses: " + this.cntPauses + ", Total Pause: " + this.totalPauseMillis + " ms\n";
+        return pressureString;
+    }
+
+    static class SocketCounts {
+        int cntUsedPorts = 0;
+        int cntTimeWait = 0;
+        int cntEstablished = 0;
+    }
+}
@@ -2,6 +2,7 @@ package app;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URISyntaxException;
 import java.text.SimpleDateFormat;
@@ -9,15 +10,26 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
-import java.util.LongSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import app.MeasurementEvents.AnalysisEvent;
+import app.MeasurementEvents.RepetitionEvent;
+import app.RepetitionFailures.FailureReason;
 
 import de.rub.nds.tlsattacker.core.config.Config;
 import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
 
 public class TimeMeasurement {
+    // options of the calls without explicit options, e.g. to set a campaign journal for all measurements in App.main
+    public static MeasurementOptions defaultOptions = new MeasurementOptions();
+    // group of the columnar result file with the samples of the warm-up
+    static final String WARMUP_GROUP = "Warm-up";
+
     // perform measurement for one config and one segmented handshake collection
-    public static Long[][] startTimeMeasurement(
+    public static long[][] startTimeMeasurement(
         String measurementDefinition,
         int repetition,
         Config config,
@@ -29,126 +41,610 @@ public class TimeMeasurement {
         Boolean shouldCreateMetaLogging,
         String serverName
     ) {
+        return startTimeMeasurement(measurementDefinition, repetition, config, handshakeActions, shouldDocument,
+            cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverName, defaultOptions);
+    }
+
+    // perform measurement for one config and one segmented handshake collection with additional measurement options
+    public static long[][] startTimeMeasurement(
+        String measurementDefinition,
+        int repetition,
+        Config config,
+        HandshakeActions handshakeActions,
+        Boolean shouldDocument,
+        // outlier treatment is ignored if both of them are <= 0
+        int cleanDeviationOutlier,
+        double cleanIqrOutlier,
+        Boolean shouldCreateMetaLogging,
+        String serverName,
+        MeasurementOptions options
+    ) {
+        if (options.connectionReuseMode != ConnectionReuseMeasurement.ConnectionReuseMode.NONE) {
+            // the mode defines the measured handshakes
+            return ConnectionReuseMeasurement.startTimeMeasurement(measurementDefinition, repetition, config, shouldDocument,
+                cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverName, options);
+        }
         int totalCntServerActions = handshakeActions.getCntServerActions();
         WorkflowTrace handshakeTrace = handshakeActions.getTrace();
 
-        Long[][] durationsForServerActions = new Long[totalCntServerActions][repetition];
+        if (!options.keepRawSamples && !options.streamingQuantiles && !options.recordHistograms) {
+            throw new Error("Raw samples can only be dropped if streaming quantiles or histograms are enabled.");
+        }
+
+        // skip or continue measurements recorded in the campaign journal
+        String journalKey = CampaignJournal.measurementKey(measurementDefinition, serverName,
+            config.getDefaultClientConnection().getHostname() + ":" + config.getDefaultClientConnection().getPort(), repetition);
+        long[][] resumedDurationsForServerActions = null;
+        if (options.journal != null) {
+            if (options.journal.isCompleted(journalKey)) {
+                System.out.println("Skipping " + journalKey + " as it is completed according to the campaign journal.");
+                return new long[totalCntServerActions][0];
+            }
+            try {
+                resumedDurationsForServerActions = options.journal.loadBatches(journalKey, totalCntServerActions);
+            } catch (IOException e) {
+                // measure from the start
+                e.printStackTrace();
+            }
+        }
+        int cntResumedRepetitions = (resumedDurationsForServerActions != null) ? Math.min(resumedDurationsForServerActions[0].length, repetition) : 0;
+        if (cntResumedRepetitions > 0) {
+            System.out.println("Resuming " + journalKey + " after " + cntResumedRepetitions + " repetitions stored in the campaign journal.");
+        }
+        // samples since the last stored batch
+        long[][] journalBatch = (options.journal != null) ? new long[totalCntServerActions][options.journalBatchSize] : null;
+
+        // primitive storage, boxed values would put one object per sample on the heap during the measurement
+        // not allocated at all if only the streaming statistics are kept
+        long[][] durationsForServerActions = options.keepRawSamples ? new long[totalCntServerActions][repetition] : null;
+        // fixed size sketches updated after every repetition
+        QuantileSketch[] sketchesForServerActions = null;
+        if (options.streamingQuantiles) {
+            sketchesForServerActions = new QuantileSketch[totalCntServerActions];
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                sketchesForServerActions[cntServerAction] = new QuantileSketch(options.sketchRelativeAccuracy);
+            }
+        }
+        // single pass moments, only needed if the raw samples are not kept, otherwise the analysis computes them from the samples
+        OnlineStatistics[] onlineStatisticsServerActions = null;
+        if (!options.keepRawSamples) {
+            onlineStatisticsServerActions = new OnlineStatistics[totalCntServerActions];
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                onlineStatisticsServerActions[cntServerAction] = new OnlineStatistics();
+            }
+        }
+        LatencyHistograms histogramsServerActions = options.recordHistograms
+            ? new LatencyHistograms(totalCntServerActions, options.histogramSignificantDigits) : null;
+
+        // preallocated objects reused by every repetition
+        long[] measurementBuffer = new long[totalCntServerActions];
+        AllocationTracker allocationTracker = null;
+        if (options.reportAllocatedBytes) {
+            allocationTracker = new AllocationTracker(repetition, options.reuseRepetitionObjects);
+        }
        
+        // warm-up until the durations reach steady state, these samples are kept apart from the measured ones
+        // also run when a measurement continues from the journal, the JIT state of the interrupted run is lost with the restart
+        // the warm-up samples are logged like the raw samples: not kept without them, as columnar group "Warm-up" with binaryResults
+        WarmupDetector warmupDetector = null;
+        long[][] warmupDurationsForServerActions = null;
+        if (options.warmupDetection) {
+            warmupDetector = new WarmupDetector(totalCntServerActions, options.warmupWindowSize, options.warmupTolerance, options.warmupStableWindows);
+            if (options.keepRawSamples) {
+                warmupDurationsForServerActions = new long[totalCntServerActions][options.maxWarmupRepetitions];
+            }
+            int cntWarmupAttempts = 0;
+            while (!warmupDetector.isConverged() && cntWarmupAttempts < options.maxWarmupRepetitions) {
+                cntWarmupAttempts++;
+                int cntWarmupMeasurements;
+                try {
+                    // same TLS-Attacker code paths as in the measurement, the harness variant does not matter here
+                    cntWarmupMeasurements = App.startTlsClient(config, handshakeTrace, measurementBuffer);
+                } catch (RuntimeException e) {
+                    cntWarmupMeasurements = -1;
+                }
+                // incomplete warm-up repetitions are not used
+                if (cntWarmupMeasurements != totalCntServerActions) {
+                    continue;
+                }
+                if (warmupDurationsForServerActions != null) {
+                    int cntWarmupRep = warmupDetector.getCntRepetitions();
+                    for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                        warmupDurationsForServerActions[cntServerAction][cntWarmupRep] = measurementBuffer[cntServerAction];
+                    }
+                }
+                warmupDetector.addRepetition(measurementBuffer);
+            }
+            if (warmupDurationsForServerActions != null) {
+                for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                    warmupDurationsForServerActions[cntServerAction] = Arrays.copyOf(warmupDurationsForServerActions[cntServerAction], warmupDetector.getCntRepetitions());
+                }
+            }
+            System.out.println("Warm-up of " + measurementDefinition + (warmupDetector.isConverged() ? " reached steady state after " : " stopped without steady state after ")
+                + warmupDetector.getCntRepetitions() + " repetitions.");
+        }
+
+        // failed repetitions are repeated until the failure budget is used up, only complete repetitions are recorded
+        RepetitionFailures repetitionFailures = new RepetitionFailures(totalCntServerActions);
+        int maxFailedRepetitions = (int)Math.ceil(repetition * options.maxFailureRate);
+        int cntAttempt = 0;
+        // repetition is the upper limit in adaptive mode
+        AdaptiveRepetitions adaptiveRepetitions = options.adaptiveRepetitions ? new AdaptiveRepetitions(options) : null;
+
+        // pauses before the ephemeral ports to the target run out
+        SocketPressureMonitor socketPressureMonitor = options.socketPressureMonitoring
+            ? new SocketPressureMonitor(config.getDefaultClientConnection().getPort(), options) : null;
+
+        // GC pauses and safepoints of the JVM per repetition, disturbed ones are tagged or repeated
+        JvmPauseTracker jvmPauseTracker = (options.jvmPauseTracking || options.excludeJvmPauseSamples)
+            ? new JvmPauseTracker(options.jvmPauseSafepointThresholdMillis) : null;
+        int maxJvmPauseExclusions = (int)Math.ceil(repetition * options.maxJvmPauseExclusionRate);
+        boolean jvmPaused = false;
+        // a measurement stopped by its failure budget is not completed, a resumed campaign continues it
+        boolean stoppedOnFailures = false;
+
         // run repeatedly through handshake
         // collect logs of duration measurements for the different server actions
-        for (int cntRep = 0; cntRep < repetition; cntRep++) {
-            // results in list with [duration for 0. server action, duration for 1. server action, duration for 2. server action, ...]
-            // [0. server action, 1. server action, ...]
-            ArrayList<Long> collectedMeasurements = App.startTlsClient(config, handshakeTrace);
+        int cntRep = 0;
+        while (cntRep < repetition) {
+            if (socketPressureMonitor != null && cntRep >= cntResumedRepetitions) {
+                socketPressureMonitor.beforeConnection();
+            }
+            long allocatedBytesStart = (allocationTracker != null) ? allocationTracker.currentAllocatedBytes() : 0;
+            cntAttempt++;
+
+            // results in buffer with [duration for 0. server action, duration for 1. server action, duration for 2. server action, ...]
+            int cntCollectedMeasurements = 0;
+            FailureReason failureReason = null;
+            String failureMessage = null;
+            jvmPaused = false;
+            if (cntRep < cntResumedRepetitions) {
+                // repetition measured before the restart
+                for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                    measurementBuffer[cntServerAction] = resumedDurationsForServerActions[cntServerAction][cntRep];
+                }
+                cntCollectedMeasurements = totalCntServerActions;
+            } else {
+                // null without a recording, no event object per repetition
+                RepetitionEvent repetitionEvent = MeasurementEvents.beginRepetition();
+                if (jvmPauseTracker != null) {
+                    jvmPauseTracker.beforeRepetition();
+                }
+                try {
+                    if (options.reuseRepetitionObjects) {
+                        cntCollectedMeasurements = App.startTlsClient(config, handshakeTrace, measurementBuffer);
+                    } else {
+                        ArrayList<Long> collectedMeasurements = new ArrayList<>();
+                        cntCollectedMeasurements = App.startTlsClient(config, handshakeTrace, collectedMeasurements);
+                        for (int cntServerAction = 0; cntServerAction < Math.min(collectedMeasurements.size(), totalCntServerActions); cntServerAction++) {
+                            measurementBuffer[cntServerAction] = collectedMeasurements.get(cntServerAction);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    failureReason = FailureReason.UNEXPECTED_EXCEPTION;
+                    failureMessage = e.toString();
+                    cntCollectedMeasurements = 0;
+                }
+                if (jvmPauseTracker != null) {
+                    jvmPaused = jvmPauseTracker.afterRepetition();
+                }
+                if (failureReason == null) {
+                    failureReason = RepetitionFailures.classify(cntCollectedMeasurements, totalCntServerActions);
+                }
+                if (repetitionEvent != null) {
+                    repetitionEvent.end();
+                    if (repetitionEvent.shouldCommit()) {
+                        repetitionEvent.measurementDefinition = measurementDefinition;
+                        repetitionEvent.serverName = serverName;
+                        repetitionEvent.attempt = cntAttempt;
+                        repetitionEvent.cntCollectedMeasurements = App.cntMeasurements(cntCollectedMeasurements);
+                        repetitionEvent.failureReason = (failureReason == null) ? null : failureReason.name();
+                        repetitionEvent.serverActionDurations = MeasurementEvents.serverActionDurations(measurementBuffer,
+                            Math.min(App.cntMeasurements(cntCollectedMeasurements), totalCntServerActions));
+                        repetitionEvent.commit();
+                    }
+                }
+                if (socketPressureMonitor != null) {
+                    socketPressureMonitor.afterConnection(failureReason != null);
+                    // a connect failing for lack of ports only shows up as incomplete workflow
+                    if (failureReason == FailureReason.WORKFLOW_EXCEPTION) {
+                        failureMessage = socketPressureMonitor.describeFailure();
+                    }
+                }
+            }
+            long allocatedBytesWorkflow = (allocationTracker != null) ? allocationTracker.currentAllocatedBytes() : 0;
+
+            if (failureReason != null) {
+                repetitionFailures.recordFailure(cntAttempt, failureReason, cntCollectedMeasurements, failureMessage);
+                if (repetitionFailures.getCntFailures() > maxFailedRepetitions) {
+                    System.out.println("Stopping " + measurementDefinition + " after " + repetitionFailures.getCntFailures() + " failed repetitions, "
+                        + cntRep + " of " + repetition + " repetitions are complete.");
+                    stoppedOnFailures = true;
+                    storeLastBatch(options, journalKey, journalBatch, cntRep - cntResumedRepetitions);
+                    break;
+                }
+                continue;
+            }
 
-            // split list and distribute results in list bucketing all results for 0. server action, for 1. server action, ...
+            if (jvmPaused) {
+                if (options.excludeJvmPauseSamples && jvmPauseTracker.getCntExcludedRepetitions() < maxJvmPauseExclusions) {
+                    jvmPauseTracker.recordExclusion();
+                    continue;
+                }
+                jvmPauseTracker.tagSample(cntRep);
+            }
+
+            // split results and distribute them bucketing all results for 0. server action, for 1. server action, ...
             // [[0. server action of 0. rep, 1. server action of 0. rep, ...], [0. server action of 0. rep, 1. server action of 0. rep, ...], ...]
-            int cntServerAction = 0;
-            for (Long durationOneServerAction: collectedMeasurements) {
-                durationsForServerActions[cntServerAction][cntRep] = durationOneServerAction;
-                cntServerAction++;
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                if (durationsForServerActions != null) {
+                    durationsForServerActions[cntServerAction][cntRep] = measurementBuffer[cntServerAction];
+                }
+                if (onlineStatisticsServerActions != null) {
+                    onlineStatisticsServerActions[cntServerAction].add(measurementBuffer[cntServerAction]);
+                }
+                if (sketchesForServerActions != null) {
+                    sketchesForServerActions[cntServerAction].add(measurementBuffer[cntServerAction]);
+                }
+                if (histogramsServerActions != null) {
+                    histogramsServerActions.recordValue(cntServerAction, measurementBuffer[cntServerAction]);
+                }
+            }
+
+            // store a batch of repetitions in the journal, the last one is covered by the completion entry
+            if (journalBatch != null && cntRep >= cntResumedRepetitions) {
+                int cntRepInBatch = (cntRep - cntResumedRepetitions) % options.journalBatchSize;
+                for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                    journalBatch[cntServerAction][cntRepInBatch] = measurementBuffer[cntServerAction];
+                }
+                if (cntRepInBatch == options.journalBatchSize - 1 && cntRep < repetition - 1) {
+                    try {
+                        options.journal.appendBatch(journalKey, journalBatch);
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
             }
+
+            if (allocationTracker != null) {
+                long allocatedBytesEnd = allocationTracker.currentAllocatedBytes();
+                allocationTracker.recordRepetition(cntRep, allocatedBytesWorkflow - allocatedBytesStart, allocatedBytesEnd - allocatedBytesWorkflow);
+            }
+            cntRep++;
+
+            // stop early once the quantil is precise enough for every server action
+            if (adaptiveRepetitions != null && adaptiveRepetitions.isCheckDue(cntRep)) {
+                double[] relativeWidths = new double[totalCntServerActions];
+                for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                    if (durationsForServerActions != null) {
+                        relativeWidths[cntServerAction] = adaptiveRepetitions.relativeWidth(durationsForServerActions[cntServerAction], cntRep);
+                    } else if (histogramsServerActions != null) {
+                        relativeWidths[cntServerAction] = adaptiveRepetitions.relativeWidth(histogramsServerActions.getHistogram(cntServerAction));
+                    } else {
+                        relativeWidths[cntServerAction] = adaptiveRepetitions.relativeWidth(sketchesForServerActions[cntServerAction]);
+                    }
+                }
+                if (adaptiveRepetitions.hasReachedTarget(cntRep, relativeWidths)) {
+                    System.out.println("Stopping " + measurementDefinition + " after " + cntRep + " of at most " + repetition + " repetitions, target precision reached.");
+                    break;
+                }
+            }
+        }
+
+        // statistics only on the complete repetitions, without gaps in the sample matrix
+        int cntSuccessfulRepetitions = cntRep;
+        if (cntSuccessfulRepetitions == 0) {
+            System.out.println("No repetition of " + measurementDefinition + " was successful.\n" + repetitionFailures.textualRepresentation(0));
+            return new long[totalCntServerActions][0];
+        }
+        if (durationsForServerActions != null && cntSuccessfulRepetitions < repetition) {
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                durationsForServerActions[cntServerAction] = Arrays.copyOf(durationsForServerActions[cntServerAction], cntSuccessfulRepetitions);
+            }
+        }
+
+        // snapshot for the log files, config and trace are reused by following measurements while results may still be written
+        String configOverview = ConfigFactory.getConfigOverview(config);
+        String handshakeTraceString = String.valueOf(handshakeTrace);
+        if (options.asyncResultWriting) {
+            System.out.println(AsyncResultWriter.getSharedWriter().metricsOverview());
+        }
+
+        // further result sections for the log files, title mapped to text
+        Map<String, String> additionalSections = new LinkedHashMap<>();
+        if (repetitionFailures.getCntFailures() > 0) {
+            System.out.println("Failed repetitions:\n" + repetitionFailures.textualRepresentation(cntSuccessfulRepetitions));
+        }
+        additionalSections.put("Failed Repetitions", repetitionFailures.textualRepresentation(cntSuccessfulRepetitions));
+        if (warmupDetector != null) {
+            additionalSections.put("Warm-up", warmupDetector.textualRepresentation());
+            if (warmupDurationsForServerActions != null) {
+                additionalSections.put("Warm-up Detailed Measurement Results", options.binaryResults
+                    ? "Stored in group " + WARMUP_GROUP + " of the columnar result file" : Arrays.deepToString(warmupDurationsForServerActions));
+            }
+        }
+        if (adaptiveRepetitions != null) {
+            System.out.println("Adaptive repetitions:\n" + adaptiveRepetitions.textualRepresentation());
+            additionalSections.put("Adaptive Repetitions", adaptiveRepetitions.textualRepresentation());
+        }
+        if (socketPressureMonitor != null) {
+            System.out.println("Socket pressure:\n" + socketPressureMonitor.textualRepresentation());
+            additionalSections.put("Socket Pressure", socketPressureMonitor.textualRepresentation());
+        }
+        if (jvmPauseTracker != null) {
+            String jvmPauseString = jvmPauseTracker.textualRepresentation(durationsForServerActions);
+            System.out.println("JVM pauses:\n" + jvmPauseString);
+            additionalSections.put("JVM Pauses", jvmPauseString);
+        }
+        if (allocationTracker != null) {
+            System.out.println("Allocated bytes per repetition:\n" + allocationTracker.textualRepresentation());
+            additionalSections.put("Allocated Bytes per Repetition", allocationTracker.textualRepresentation());
+        }
+        if (sketchesForServerActions != null) {
+            String percentilesString = "";
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                percentilesString += "\nServer Action " + cntServerAction + "\n";
+                percentilesString += sketchesForServerActions[cntServerAction].textualRepresentation(options.reportedPercentiles);
+            }
+            System.out.println("Streaming percentiles for each server action:" + percentilesString);
+            additionalSections.put("Streaming Percentiles for each server action", percentilesString);
+        }
+        if (histogramsServerActions != null) {
+            String percentilesString = histogramsServerActions.textualRepresentation(options.reportedPercentiles);
+            System.out.println("Histogram percentiles for each server action:" + percentilesString);
+            additionalSections.put("Histogram Percentiles for each server action", percentilesString);
+            if (shouldDocument) {
+                writeResults(options, measurementDefinition, () -> logHistograms(measurementDefinition, repetition, histogramsServerActions));
+            }
+        }
+
+        // without raw samples only the streaming statistics are available, cleaning outliers needs the raw samples
+        if (durationsForServerActions == null) {
+            StatisticResult[] statisticResultsServerActions = new StatisticResult[totalCntServerActions];
+            for (int cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                if (histogramsServerActions != null) {
+                    statisticResultsServerActions[cntServerAction] = StatisticResult.fromHistogram(
+                        histogramsServerActions.getHistogram(cntServerAction), onlineStatisticsServerActions[cntServerAction]);
+                } else {
+                    statisticResultsServerActions[cntServerAction] = StatisticResult.fromSketch(
+                        sketchesForServerActions[cntServerAction], onlineStatisticsServerActions[cntServerAction]);
+                }
+            }
+            if (cleanDeviationOutlier > 0 || cleanIqrOutlier > 0 || shouldCreateMetaLogging) {
+                System.out.println("Outlier cleaning and meta logging are skipped as raw samples are not kept.");
+            }
+            if (options.calibration != null) {
+                // the streaming statistics are built during the measurement, the overhead can not be removed afterwards
+                additionalSections.put("Calibration", options.calibration.textualRepresentation(false));
+            }
+            if (shouldDocument) {
+                writeResults(options, measurementDefinition, () -> logRawMeasurement(measurementDefinition, configOverview, handshakeTraceString,
+                    totalCntServerActions, null, statisticResultsServerActions,
+                    additionalSections, null, options.binaryResults, options.binaryResultsFixedWidth));
+            }
+            if (!stoppedOnFailures) {
+                completeJournalEntry(options, measurementDefinition, journalKey);
+            }
+            return new long[totalCntServerActions][0];
         }
 
 
-        // run statistical analysis on duration measurements for server actions
+        evaluateMeasurement(measurementDefinition, repetition, configOverview, handshakeTraceString, durationsForServerActions, shouldDocument,
+            cleanDeviationOutlier, cleanIqrOutlier, shouldCreateMetaLogging, serverName, options, additionalSections, warmupDurationsForServerActions);
+        if (!stoppedOnFailures) {
+            completeJournalEntry(options, measurementDefinition, journalKey);
+        }
+        return durationsForServerActions;
+    }
+
+    // statistical analysis, outlier cleaning and logging of complete raw samples [server action][repetition]
+    // also used for samples measured elsewhere, e.g. by the InterleavedScheduler
+    static void evaluateMeasurement(
+        String measurementDefinition,
+        int repetition,
+        String configOverview,
+        String handshakeTraceString,
+        long[][] durationsForServerActions,
+        Boolean shouldDocument,
+        int cleanDeviationOutlier,
+        double cleanIqrOutlier,
+        Boolean shouldCreateMetaLogging,
+        String serverName,
+        MeasurementOptions options,
+        Map<String, String> additionalSections,
+        // samples of the warm-up before the measurement, null without warm-up
+        long[][] warmupDurationsForServerActions
+    ) {
+        int totalCntServerActions = durationsForServerActions.length;
+        // the statistics and the outlier cleaning run on the corrected copy, the raw samples are logged and returned unchanged
+        long[][] analyzedDurationsForServerActions = durationsForServerActions;
+        if (options.calibration != null) {
+            if (options.subtractHarnessOverhead) {
+                analyzedDurationsForServerActions = options.calibration.subtractFrom(durationsForServerActions);
+            }
+            additionalSections.put("Calibration", options.calibration.textualRepresentation(options.subtractHarnessOverhead));
+        }
+
+        // run statistical analysis on duration measurements for server actions, the analysis events are null without a recording
+        AnalysisEvent analysisEvent = MeasurementEvents.beginAnalysis(measurementDefinition, serverName, "statistics");
         StatisticResult[] statisticResultsServerActions = new StatisticResult[totalCntServerActions];
         int cntServerAction = 0;
-        for (Long[] durationsForOneAction: durationsForServerActions) {
+        for (long[] durationsForOneAction: analyzedDurationsForServerActions) {
             statisticResultsServerActions[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForOneAction);
             cntServerAction++;
         }
+        if (analysisEvent != null) {
+            analysisEvent.commit();
+        }
 
         // check whether data should also be cleaned from outliers
         if (cleanDeviationOutlier > 0 || cleanIqrOutlier > 0) {            
             // ## remove outliers by deleting everything with z-score above/below +/- factor ##
-            ArrayList<ArrayList<Long>> durationsForServerActionsCleanDeviation = new ArrayList<>();
-
-            // go through all durations of each server actions and only copy it if it's within the valid range
-            cntServerAction = 0;
-            for (Long[] durationsForOneAction: durationsForServerActions) {
-                ArrayList<Long> durationsForOneActionCleanDeviation = new ArrayList<>();
-                for (Long duration: durationsForOneAction) {
-                    // calculate z-score
-                    double zScore = (duration - statisticResultsServerActions[cntServerAction].mean) / statisticResultsServerActions[cntServerAction].standardDeviation;
-                    // check whether z score lies within +/- range
-                    if (zScore >= -cleanDeviationOutlier && zScore <= cleanDeviationOutlier) {
-                        durationsForOneActionCleanDeviation.add(duration);
-                    }
-                }
-                durationsForServerActionsCleanDeviation.add(durationsForOneActionCleanDeviation);
-                cntServerAction++;
-            }
-
-            // run statistical analysis on duration measurements for server actions
+            analysisEvent = MeasurementEvents.beginAnalysis(measurementDefinition, serverName, "clean deviation outliers");
+            long[][] durationsForServerActionsCleanDeviation = new long[totalCntServerActions][];
             StatisticResult[] statisticResultsServerActionsCleanDeviation = new StatisticResult[totalCntServerActions];
-            // transform ArrayList to Array
-            Long[][] durationsForServerActionsCleanDeviationArray = durationsForServerActionsCleanDeviation.stream().map(u -> u.toArray(new Long[0])).toArray(Long[][]::new);
-            cntServerAction = 0;
-            for (Long[] durationsForOneActionCleanDeviation: durationsForServerActionsCleanDeviationArray) {
-                statisticResultsServerActionsCleanDeviation[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForOneActionCleanDeviation);
-                cntServerAction++;
+            for (cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                durationsForServerActionsCleanDeviation[cntServerAction] = cleanDeviationOutliers(
+                    analyzedDurationsForServerActions[cntServerAction], statisticResultsServerActions[cntServerAction], cleanDeviationOutlier);
+                // run statistical analysis on cleaned duration measurements
+                statisticResultsServerActionsCleanDeviation[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForServerActionsCleanDeviation[cntServerAction]);
+            }
+            if (analysisEvent != null) {
+                analysisEvent.commit();
             }
 
 
             // ## remove outliers by deleting everything outside a multiple of interquartil range (iqr) ##
-            ArrayList<ArrayList<Long>> durationsForServerActionsCleanIqr = new ArrayList<>();
-
-            // go through all durations of each server actions and only copy it if it's within the valid range
-            cntServerAction = 0;
-            for (Long[] durationsForOneAction: durationsForServerActions) {
-                double iqr = statisticResultsServerActions[cntServerAction].quantil75 - statisticResultsServerActions[cntServerAction].quantil25;
-                ArrayList<Long> durationsForOneActionCleanIqr = new ArrayList<>();
-                for (Long duration: durationsForOneAction) {
-                    // check whether value lies within (q_25-factor*iqr, q_75+factor*iqr) range
-                    if (duration >= (statisticResultsServerActions[cntServerAction].quantil25 - cleanIqrOutlier * iqr)
-                    && duration <= (statisticResultsServerActions[cntServerAction].quantil75 + cleanIqrOutlier * iqr)) {
-                        durationsForOneActionCleanIqr.add(duration);
-                    }
-                }
-                durationsForServerActionsCleanIqr.add(durationsForOneActionCleanIqr);
-                cntServerAction++;
-            }
-
-            // run statistical analysis on duration measurements for server actions
+            analysisEvent = MeasurementEvents.beginAnalysis(measurementDefinition, serverName, "clean iqr outliers");
+            long[][] durationsForServerActionsCleanIqr = new long[totalCntServerActions][];
             StatisticResult[] statisticResultsServerActionsCleanIqr = new StatisticResult[totalCntServerActions];
-            // transform ArrayList to Array
-            Long[][] durationsForServerActionsCleanIqrArray = durationsForServerActionsCleanIqr.stream().map(u -> u.toArray(new Long[0])).toArray(Long[][]::new);
-            
-            cntServerAction = 0;
-            for (Long[] durationsForOneActionCleanIqr: durationsForServerActionsCleanIqrArray) {
-                statisticResultsServerActionsCleanIqr[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForOneActionCleanIqr);
-                cntServerAction++;
+            for (cntServerAction = 0; cntServerAction < totalCntServerActions; cntServerAction++) {
+                durationsForServerActionsCleanIqr[cntServerAction] = cleanIqrOutliers(
+                    analyzedDurationsForServerActions[cntServerAction], statisticResultsServerActions[cntServerAction], cleanIqrOutlier);
+                // run statistical analysis on cleaned duration measurements
+                statisticResultsServerActionsCleanIqr[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForServerActionsCleanIqr[cntServerAction]);
             }
 
 
-            // log results if wished
+            if (analysisEvent != null) {
+                analysisEvent.commit();
+            }
+
+            // log results if wished, with asyncResultWriting the logging phase only covers handing over the results
+            analysisEvent = MeasurementEvents.beginAnalysis(measurementDefinition, serverName, "logging");
             if (shouldDocument) {
-                logRawAndCleanMeasurement(measurementDefinition, config, handshakeTrace, totalCntServerActions,
+                writeResults(options, measurementDefinition, () -> logRawAndCleanMeasurement(measurementDefinition, configOverview, handshakeTraceString,
+                    totalCntServerActions,
                     durationsForServerActions, statisticResultsServerActions,
-                    cleanDeviationOutlier, durationsForServerActionsCleanDeviationArray, statisticResultsServerActionsCleanDeviation,
-                    cleanIqrOutlier, durationsForServerActionsCleanIqrArray, statisticResultsServerActionsCleanIqr);
+                    cleanDeviationOutlier, durationsForServerActionsCleanDeviation, statisticResultsServerActionsCleanDeviation,
+                    cleanIqrOutlier, durationsForServerActionsCleanIqr, statisticResultsServerActionsCleanIqr,
+                    additionalSections, warmupDurationsForServerActions, options.binaryResults, options.binaryResultsFixedWidth));
             }
             if (shouldCreateMetaLogging) {
-                logMetaMeasurement(measurementDefinition, config, handshakeTrace, totalCntServerActions, repetition, serverName,
+                writeResults(options, measurementDefinition, () -> logMetaMeasurement(measurementDefinition, totalCntServerActions, repetition, serverName,
                     statisticResultsServerActions,
                     cleanDeviationOutlier, statisticResultsServerActionsCleanDeviation,
-                    cleanIqrOutlier, statisticResultsServerActionsCleanIqr);
+                    cleanIqrOutlier, statisticResultsServerActionsCleanIqr));
+            }
+            if (analysisEvent != null) {
+                analysisEvent.commit();
             }
         } else {
             // log results if wished
+            analysisEvent = MeasurementEvents.beginAnalysis(measurementDefinition, serverName, "logging");
             if (shouldDocument == true) {
-                logRawMeasurement(measurementDefinition, config, handshakeTrace, totalCntServerActions, durationsForServerActions, statisticResultsServerActions);
+                writeResults(options, measurementDefinition, () -> logRawMeasurement(measurementDefinition, configOverview, handshakeTraceString,
+                    totalCntServerActions, durationsForServerActions, statisticResultsServerActions,
+                    additionalSections, warmupDurationsForServerActions, options.binaryResults, options.binaryResultsFixedWidth));
+            }
+            if (analysisEvent != null) {
+                analysisEvent.commit();
             }
         }
+    }
 
-        return durationsForServerActions;
+    // stores the repetitions since the last batch when a measurement stops early, a resumed campaign continues after them
+    static void storeLastBatch(MeasurementOptions options, String journalKey, long[][] journalBatch, int cntNewRepetitions) {
+        if (journalBatch == null || cntNewRepetitions <= 0) {
+            return;
+        }
+        int cntRepInBatch = cntNewRepetitions % options.journalBatchSize;
+        if (cntRepInBatch == 0) {
+            // the last batch is stored already
+            return;
+        }
+        long[][] lastBatch = new long[journalBatch.length][];
+        for (int cntServerAction = 0; cntServerAction < journalBatch.length; cntServerAction++) {
+            lastBatch[cntServerAction] = Arrays.copyOf(journalBatch[cntServerAction], cntRepInBatch);
+        }
+        try {
+            options.journal.appendBatch(journalKey, lastBatch);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // marks the measurement as completed once its results are written, with an asynchronous writer after its queued results
+    // only for measurements which reached their repetitions or the precision of the adaptive mode
+    static void completeJournalEntry(MeasurementOptions options, String measurementDefinition, String journalKey) {
+        if (options.journal == null) {
+            return;
+        }
+        writeResults(options, measurementDefinition, () -> {
+            try {
+                options.journal.markCompleted(journalKey);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    // writes the results in the background if wished, the measurement thread only waits if the writer queue is full
+    private static void writeResults(MeasurementOptions options, String measurementDefinition, Runnable writeTask) {
+        if (options.asyncResultWriting) {
+            AsyncResultWriter.getSharedWriter().submit(measurementDefinition, writeTask);
+        } else {
+            writeTask.run();
+        }
+    }
+
+    // go through all durations of one server action and only copy it if its z-score lies within +/- factor
+    static long[] cleanDeviationOutliers(long[] durationsForOneAction, StatisticResult statisticResult, int cleanDeviationOutlier) {
+        long[] durationsForOneActionCleanDeviation = new long[durationsForOneAction.length];
+        int cntKept = 0;
+        for (long duration: durationsForOneAction) {
+            // calculate z-score
+            double zScore = (duration - statisticResult.mean) / statisticResult.standardDeviation;
+            // check whether z score lies within +/- range
+            if (zScore >= -cleanDeviationOutlier && zScore <= cleanDeviationOutlier) {
+                durationsForOneActionCleanDeviation[cntKept] = duration;
+                cntKept++;
+            }
+        }
+        return Arrays.copyOf(durationsForOneActionCleanDeviation, cntKept);
+    }
+
+    // go through all durations of one server action and only copy it if it lies within (q_25-factor*iqr, q_75+factor*iqr)
+    static long[] cleanIqrOutliers(long[] durationsForOneAction, StatisticResult statisticResult, double cleanIqrOutlier) {
+        double iqr = statisticResult.quantil75 - statisticResult.quantil25;
+        long[] durationsForOneActionCleanIqr = new long[durationsForOneAction.length];
+        int cntKept = 0;
+        for (long duration: durationsForOneAction) {
+            if (duration >= (statisticResult.quantil25 - cleanIqrOutlier * iqr)
+            && duration <= (statisticResult.quantil75 + cleanIqrOutlier * iqr)) {
+                durationsForOneActionCleanIqr[cntKept] = duration;
+                cntKept++;
+            }
+        }
+        return Arrays.copyOf(durationsForOneActionCleanIqr, cntKept);
+    }
+
+    // compatibility adapter for callers still working with boxed measurement results
+    public static Long[][] toBoxedSamples(long[][] durationsForServerActions) {
+        Long[][] boxedDurationsForServerActions = new Long[durationsForServerActions.length][];
+        for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+            long[] durationsForOneAction = durationsForServerActions[cntServerAction];
+            boxedDurationsForServerActions[cntServerAction] = new Long[durationsForOneAction.length];
+            for (int cntRep = 0; cntRep < durationsForOneAction.length; cntRep++) {
+                boxedDurationsForServerActions[cntServerAction][cntRep] = durationsForOneAction[cntRep];
+            }
+        }
+        return boxedDurationsForServerActions;
+    }
+
+    // counterpart of toBoxedSamples, missing (null) measurements are not allowed
+    public static long[] toPrimitiveSamples(Long[] durationsForOneAction) {
+        long[] primitiveDurationsForOneAction = new long[durationsForOneAction.length];
+        for (int cntRep = 0; cntRep < durationsForOneAction.length; cntRep++) {
+            primitiveDurationsForOneAction[cntRep] = durationsForOneAction[cntRep];
+        }
+        return primitiveDurationsForOneAction;
     }
 
     public static class StatisticResult {
-        Long count;
-        Long min;
-        Long max;
+        long count;
+        long min;
+        long max;
         double mean;
         double median;
         double quantil25;
@@ -157,6 +653,7 @@ public class TimeMeasurement {
         double standardDeviation;
         double variationCoefficient;
         double skewness;
+        double kurtosis;
         double pearsonSkewness;
         //Long confidenceInterval95Min;
         //Long confidenceInterval95Max;
@@ -164,66 +661,88 @@ public class TimeMeasurement {
         //Long confidenceInterval99Max;
 
 
-        // performs statistical analysis for one data set
+        // performs statistical analysis for one boxed data set
         public static StatisticResult runStatisticAnalysis(Long[] dataSet) {
-            StatisticResult statisticResult = new StatisticResult();
+            return runStatisticAnalysis(toPrimitiveSamples(dataSet));
+        }
 
-            statisticResult.count = (long)dataSet.length;
+        // performs statistical analysis for one data set
+        public static StatisticResult runStatisticAnalysis(long[] dataSet) {
+            StatisticResult statisticResult = new StatisticResult();
 
-            // get few statistic values
-            //new ArrayList<>(Arrays.asList(array));
-            LongSummaryStatistics lss = new ArrayList<>(Arrays.asList(dataSet)).stream().mapToLong((a) -> a).summaryStatistics();
-            statisticResult.min = lss.getMin();
-            statisticResult.max = lss.getMax();
-            statisticResult.mean = lss.getAverage();
+            // get moment based statistic values in one pass
+            OnlineStatistics onlineStatistics = new OnlineStatistics();
+            onlineStatistics.addAll(dataSet);
 
             // get more advanced statistic values
             // Median, 25 and 75 % percentil (https://studyflix.de/statistik/quantile-1040)
-            // use copied data set as calcQuantil modifies data (sorting)
-            Long[] clonedDataSet = dataSet.clone();
-            statisticResult.median = calcQuantil(clonedDataSet, 0.5);
-            statisticResult.quantil25 = calcQuantil(clonedDataSet, 0.25);
-            statisticResult.quantil75 = calcQuantil(clonedDataSet, 0.75);
+            // use copied data set as sorting modifies data, sorted once for all quantils
+            long[] sortedDataSet = dataSet.clone();
+            Arrays.sort(sortedDataSet);
+            statisticResult.median = calcQuantil(sortedDataSet, 0.5);
+            statisticResult.quantil25 = calcQuantil(sortedDataSet, 0.25);
+            statisticResult.quantil75 = calcQuantil(sortedDataSet, 0.75);
 
-            // variance (https://studyflix.de/statistik/empirische-varianz-2016)
-            double tempSum = 0.0;
-            for (Long dataPoint: dataSet) {
-                tempSum += (((double)dataPoint - statisticResult.mean) * ((double)dataPoint - statisticResult.mean));
-            }
-            double variance = tempSum / (double)(dataSet.length - 1);
+            applyMoments(statisticResult, onlineStatistics);
+
+            return statisticResult;
+        }
 
-            // standard deviation (https://studyflix.de/statistik/standardabweichung-1042)
-            // TODO: Problem dass hier Wurzel aus double??
-            statisticResult.standardDeviation = Math.sqrt(variance);
+        // takes the values of a single pass accumulator, the median has to be set before
+        static void applyMoments(StatisticResult statisticResult, OnlineStatistics onlineStatistics) {
+            statisticResult.count = onlineStatistics.getCount();
+            statisticResult.min = onlineStatistics.getMin();
+            statisticResult.max = onlineStatistics.getMax();
+            statisticResult.mean = onlineStatistics.getMean();
+
+            // standard deviation (https://studyflix.de/statistik/standardabweichung-1042) of the sample variance (https://studyflix.de/statistik/empirische-varianz-2016)
+            statisticResult.standardDeviation = onlineStatistics.getStandardDeviation();
 
             // coefficient of variation (https://studyflix.de/statistik/variationskoeffizient-1043)
             statisticResult.variationCoefficient = statisticResult.standardDeviation / statisticResult.mean;
 
-            // TODO: check skewness and pearson formula
-            // sample skewness
-            double tempSumFloat = 0.0;
-            for (Long dataPoint: dataSet) {
-                tempSumFloat += Math.pow(((double)dataPoint - statisticResult.mean) / statisticResult.standardDeviation, 3.0);
-            }
-            statisticResult.skewness = tempSumFloat * (double)dataSet.length / (double)((dataSet.length - 1) * (dataSet.length - 2));
+            // sample skewness and excess kurtosis
+            statisticResult.skewness = onlineStatistics.getSkewness();
+            statisticResult.kurtosis = onlineStatistics.getKurtosis();
 
-            // pearson skewness
-            statisticResult.pearsonSkewness = 3.0 * (statisticResult.mean - statisticResult.median) / statisticResult.standardDeviation;
+            // pearson skewness, undefined without spread like the other moments
+            statisticResult.pearsonSkewness = (statisticResult.standardDeviation == 0.0) ? Double.NaN
+                : 3.0 * (statisticResult.mean - statisticResult.median) / statisticResult.standardDeviation;
+        }
+
+        // statistic values available from a streaming quantile sketch and the single pass accumulator fed during the run
+        public static StatisticResult fromSketch(QuantileSketch sketch, OnlineStatistics onlineStatistics) {
+            StatisticResult statisticResult = new StatisticResult();
+
+            statisticResult.median = sketch.quantile(0.5);
+            statisticResult.quantil25 = sketch.quantile(0.25);
+            statisticResult.quantil75 = sketch.quantile(0.75);
+            applyMoments(statisticResult, onlineStatistics);
 
             return statisticResult;
         }
 
-        // helper function for quantils
-        private static double calcQuantil(Long[] dataSet, Double quantil) {
-            Arrays.sort(dataSet);
-            
-            int countDataPoints = dataSet.length;
+        // statistic values available from a histogram and the single pass accumulator fed during the run
+        public static StatisticResult fromHistogram(Histogram histogram, OnlineStatistics onlineStatistics) {
+            StatisticResult statisticResult = new StatisticResult();
+
+            statisticResult.median = histogram.getValueAtPercentile(50.0);
+            statisticResult.quantil25 = histogram.getValueAtPercentile(25.0);
+            statisticResult.quantil75 = histogram.getValueAtPercentile(75.0);
+            applyMoments(statisticResult, onlineStatistics);
+
+            return statisticResult;
+        }
+
+        // helper function for quantils, expects an ascending sorted data set
+        static double calcQuantil(long[] sortedDataSet, double quantil) {
+            int countDataPoints = sortedDataSet.length;
     
             if (((countDataPoints * quantil) - (int)(countDataPoints * quantil)) == 0) {
                 // number of data points times quantil is a whole number
-                return (dataSet[(int)(countDataPoints * quantil - 1)] + dataSet[(int)(countDataPoints * quantil)]) / 2.0;
+                return (sortedDataSet[(int)(countDataPoints * quantil - 1)] + sortedDataSet[(int)(countDataPoints * quantil)]) / 2.0;
             } else {
-                return dataSet[(int)(countDataPoints * quantil)];
+                return sortedDataSet[(int)(countDataPoints * quantil)];
             }
         }
 
@@ -241,6 +760,7 @@ public class TimeMeasurement {
             analysisResultsString += " Std Deviation: " + statisticResult.standardDeviation/1000000.0 + " ms\n";
             analysisResultsString += " Variant Coef: " + String.format("%.3f", statisticResult.variationCoefficient*100.0) + " %\n";
             analysisResultsString += " Skewness: " + String.format("%.3f", statisticResult.skewness) + "\n";
+            analysisResultsString += " Kurtosis: " + String.format("%.3f", statisticResult.kurtosis) + "\n";
             analysisResultsString += " Pearson's Skewness: " + String.format("%.3f", statisticResult.pearsonSkewness) + "\n";
 
             return analysisResultsString;
@@ -248,8 +768,8 @@ public class TimeMeasurement {
     }
     
     private static class MergedStatisticResult {
-        Long[] mins;
-        Long[] maxs;
+        long[] mins;
+        long[] maxs;
         double[] means;
         double[] medians;
         double[] quantils25;
@@ -269,8 +789,8 @@ public class TimeMeasurement {
             MergedStatisticResult mergedStatisticResult = new MergedStatisticResult();
 
             // initialize all fields
-            mergedStatisticResult.mins = new Long[statisticResults.length];
-            mergedStatisticResult.maxs = new Long[statisticResults.length];
+            mergedStatisticResult.mins = new long[statisticResults.length];
+            mergedStatisticResult.maxs = new long[statisticResults.length];
             mergedStatisticResult.means = new double[statisticResults.length];
             mergedStatisticResult.medians = new double[statisticResults.length];
             mergedStatisticResult.quantils25 = new double[statisticResults.length];
@@ -300,24 +820,202 @@ public class TimeMeasurement {
         }
     }
 
+    // creates the log file, appends a counter if the name is taken already (e.g. by a concurrent measurement in the same second)
+    private static File createUniqueLogFile(String basePath, String pathString) {
+        File logFile = new File(basePath + "logging/" + pathString);
+        try {
+            int cntDuplicate = 1;
+            while (!logFile.createNewFile()) {
+                logFile = new File(basePath + "logging/" + pathString + "_" + cntDuplicate);
+                cntDuplicate++;
+            }
+        } catch (IOException e) {
+            // keep the path, opening the writer reports the problem
+        }
+        return logFile;
+    }
+
+    // directory of the project the jar was built in (path of the JAR file without target/...), logging/ is relative to it
+    static String getBasePath() throws URISyntaxException {
+        String jarPath = App.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation()
+                .toURI()
+                .getPath();
+        return jarPath.substring(0, jarPath.lastIndexOf("target"));
+    }
+
+    // stores the histograms next to the log files, readable with LatencyHistograms.readFrom or the HdrHistogram tools
+    private static void logHistograms(
+        String measurementDefinition,
+        int repetition,
+        LatencyHistograms histogramsServerActions
+    ) {
+        try {
+            String basePath = getBasePath();
+            
+            Date now = Calendar.getInstance().getTime();
+            String nowAsString = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-mmmm").format(now);
+            String pathString = nowAsString;
+            if (measurementDefinition != null) {
+                pathString += ("_" + measurementDefinition);
+            }
+            pathString += ("_" + repetition + "rep_histograms.hlog");
+
+            File histogramFile = createUniqueLogFile(basePath, pathString);
+            histogramsServerActions.writeTo(histogramFile, "TIME MEASUREMENT HISTOGRAMS " + nowAsString + " " + measurementDefinition);
+        } catch (FileNotFoundException e) {
+            e.printStackTrace();
+        } catch (URISyntaxException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // text layout of the result logs up to the detailed results, also used by the ColumnarResultConverter
+    // without cleaned results (null) only the raw statistic results are listed
+    static void printResults(
+        PrintWriter out,
+        String nowAsString,
+        String configOverview,
+        String handshakeTraceString,
+        Map<String, String> additionalSections,
+        StatisticResult[] statisticResultsServerActions,
+        int removedStdDevRange,
+        StatisticResult[] statisticResultsServerActionsCleanDeviation,
+        double removedIqrRange,
+        StatisticResult[] statisticResultsServerActionsCleanIqr
+    ) {
+        out.println("TIME MEASUREMENT RESULTS\n" + nowAsString);
+
+        out.println("\n\n#################################");
+        out.println("Used Configuration\n");
+        out.print(configOverview);
+
+        out.println("\n\n#################################");
+        out.println("Used Handshake Trace\n");
+        out.print(handshakeTraceString);
+
+        out.println("\n\n#################################");
+        out.println("Used Repititions\n");
+        out.print(statisticResultsServerActions[0].count);
+
+        for (Map.Entry<String, String> additionalSection: additionalSections.entrySet()) {
+            out.println("\n\n#################################");
+            out.println(additionalSection.getKey() + "\n");
+            out.print(additionalSection.getValue());
+        }
+
+        if (statisticResultsServerActionsCleanDeviation == null) {
+            out.println("\n\n#################################");
+            out.println("Statistic results for each server action.");
+            printStatisticResults(out, statisticResultsServerActions);
+            return;
+        }
+
+        out.println("\n\n##################################################################");
+        out.println("\n\nRAW RESULTS");
+        out.println("Statistic results for each server action.");
+        printStatisticResults(out, statisticResultsServerActions);
+
+        out.println("\n\n##################################################################");
+        out.println("\n\nCLEANED RESULTS (by removing everything with z-score above/below +/-" + String.valueOf(removedStdDevRange) + ")");
+        out.println("Statistic results cleaned by removing everything outside z-score range");
+        printStatisticResults(out, statisticResultsServerActionsCleanDeviation);
+
+        out.println("\n\n##################################################################");
+        out.println("\n\nCLEANED RESULTS (by removing everything outside (Q_25 - " + String.valueOf(removedIqrRange) + "*IQR, Q_75 + " + String.valueOf(removedIqrRange) + "*IQR)");
+        out.println("Statistic results cleaned by removing everything outside iqr range");
+        printStatisticResults(out, statisticResultsServerActionsCleanIqr);
+    }
+
+    private static void printStatisticResults(PrintWriter out, StatisticResult[] statisticResultsServerActions) {
+        int cntServerAction = 0;
+        for (StatisticResult oneResult: statisticResultsServerActions) {
+            out.println("\nServer Action " + cntServerAction);
+            out.print(StatisticResult.textualRepresentation(oneResult));
+            cntServerAction++;
+        }
+    }
+
+    // detailed results section, the samples as text dump or a reference to the columnar result file (columnarFileName not null)
+    // without cleaned samples (null) in the layout of the raw logger
+    static void printDetailedResults(
+        PrintWriter out,
+        String columnarFileName,
+        long[][] durationsForServerActions,
+        long[][] durationsForServerActionsCleanDeviation,
+        long[][] durationsForServerActionsCleanIqr
+    ) {
+        if (durationsForServerActionsCleanDeviation == null) {
+            out.println("\n\n#################################");
+            out.println("Detailed Measurement Results");
+            if (durationsForServerActions == null) {
+                out.print("Raw samples were not kept.");
+            } else if (columnarFileName != null) {
+                out.print("Stored in columnar result file " + columnarFileName);
+            } else {
+                out.print(Arrays.deepToString(durationsForServerActions));
+            }
+            return;
+        }
+
+        out.println("\n\n##################################################################");
+        out.println("Detailed Measurement Results");
+        if (columnarFileName != null) {
+            out.print("Stored in columnar result file " + columnarFileName);
+            return;
+        }
+        out.println("\n\n#################################");
+        out.println("Raw Detailed Measurement Results");
+        out.print(Arrays.deepToString(durationsForServerActions));
+
+        out.println("\n\n#################################");
+        out.println("Deviation Cleaned Detailed Measurement Results");
+        out.print(Arrays.deepToString(durationsForServerActionsCleanDeviation));
+
+        out.println("\n\n#################################");
+        out.println("IQR Cleaned Detailed Measurement Results");
+        out.print(Arrays.deepToString(durationsForServerActionsCleanIqr));
+    }
+
+    // the warm-up samples follow the measured groups in the columnar result file
+    static String[] withWarmupGroupTitle(String[] groupTitles, long[][] warmupDurationsForServerActions) {
+        if (warmupDurationsForServerActions == null) {
+            return groupTitles;
+        }
+        String[] extendedGroupTitles = Arrays.copyOf(groupTitles, groupTitles.length + 1);
+        extendedGroupTitles[groupTitles.length] = WARMUP_GROUP;
+        return extendedGroupTitles;
+    }
+
+    static long[][][] withWarmupGroup(long[][][] groups, long[][] warmupDurationsForServerActions) {
+        if (warmupDurationsForServerActions == null) {
+            return groups;
+        }
+        long[][][] extendedGroups = Arrays.copyOf(groups, groups.length + 1);
+        extendedGroups[groups.length] = warmupDurationsForServerActions;
+        return extendedGroups;
+    }
+
     // logs raw data and statistical analysis results into file
     private static void logRawMeasurement(
         String measurementDefinition,
-        Config config,
-        WorkflowTrace handshakeTrace,
+        String configOverview,
+        String handshakeTraceString,
         int totalCntServerActions,
-        Long[][] durationsForServerActions,
-        StatisticResult[] statisticResultsServerActions
+        long[][] durationsForServerActions,
+        StatisticResult[] statisticResultsServerActions,
+        // title and text of further result sections
+        Map<String, String> additionalSections,
+        // stored as further group of the columnar result file, null without warm-up
+        long[][] warmupDurationsForServerActions,
+        // store the samples in a columnar result file instead of the text dump
+        boolean binaryResults,
+        boolean binaryResultsFixedWidth
     ) {
         try {
-            // Get path of the JAR file and strip unnecessary folders
-            String jarPath = App.class
-                    .getProtectionDomain()
-                    .getCodeSource()
-                    .getLocation()
-                    .toURI()
-                    .getPath();
-            String basePath = jarPath.substring(0, jarPath.lastIndexOf("target"));
+            String basePath = getBasePath();
             
             Date now = Calendar.getInstance().getTime();
             String nowAsString = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-mmmm").format(now);
@@ -325,37 +1023,29 @@ public class TimeMeasurement {
             if (measurementDefinition != null) {
                 pathString += ("_" + measurementDefinition);
             }
-            pathString += ("_" + durationsForServerActions[0].length + "rep_measurement-results");
+            pathString += ("_" + statisticResultsServerActions[0].count + "rep_measurement-results");
 
-            File logFile = new File(basePath + "logging/" + pathString);
+            File logFile = createUniqueLogFile(basePath, pathString);
 
             try (PrintWriter out = new PrintWriter(logFile)) {
-                out.println("TIME MEASUREMENT RESULTS\n" + nowAsString);
-                
-                out.println("\n\n#################################");
-                out.println("Used Configuration\n");
-                out.print(ConfigFactory.getConfigOverview(config));
-
-                out.println("\n\n#################################");
-                out.println("Used Handshake Trace\n");
-                out.print(handshakeTrace);
-
-                out.println("\n\n#################################");
-                out.println("Used Repititions\n");
-                out.print(durationsForServerActions[0].length);
-                
-                out.println("\n\n#################################");
-                out.println("Statistic results for each server action.");
-                int cntServerAction = 0;
-                for (StatisticResult oneResult: statisticResultsServerActions) {
-                    out.println("\nServer Action " + cntServerAction);
-                    out.print(StatisticResult.textualRepresentation(oneResult));
-                    cntServerAction++;
+                printResults(out, nowAsString, configOverview, handshakeTraceString, additionalSections, statisticResultsServerActions,
+                    0, null, 0, null);
+
+                String columnarFileName = null;
+                if (durationsForServerActions != null && binaryResults) {
+                    File resultFile = new File(logFile.getPath() + ".tbc");
+                    try {
+                        ColumnarResultWriter.write(resultFile, nowAsString, measurementDefinition, configOverview, handshakeTraceString,
+                            additionalSections, 0, 0,
+                            withWarmupGroupTitle(new String[] { "Raw" }, warmupDurationsForServerActions),
+                            withWarmupGroup(new long[][][] { durationsForServerActions }, warmupDurationsForServerActions),
+                            binaryResultsFixedWidth);
+                        columnarFileName = resultFile.getName();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
                 }
-                
-                out.println("\n\n#################################");
-                out.println("Detailed Measurement Results");
-                out.print(Arrays.deepToString(durationsForServerActions));
+                printDetailedResults(out, columnarFileName, durationsForServerActions, null, null);
 
             } catch (FileNotFoundException e) {
                 e.printStackTrace();
@@ -368,30 +1058,31 @@ public class TimeMeasurement {
     // logs raw data and statistical analysis as well as the cleaned results into file
     private static void logRawAndCleanMeasurement(
         String measurementDefinition,
-        Config config,
-        WorkflowTrace handshakeTrace,
+        String configOverview,
+        String handshakeTraceString,
         int totalCntServerActions,
 
-        Long[][] durationsForServerActions,
+        long[][] durationsForServerActions,
         StatisticResult[] statisticResultsServerActions,
 
         int removedStdDevRange,
-        Long[][] durationsForServerActionsCleanDeviation,
+        long[][] durationsForServerActionsCleanDeviation,
         StatisticResult[] statisticResultsServerActionsCleanDeviation,
 
         double removedIqrRange,
-        Long[][] durationsForServerActionsCleanIqr,
-        StatisticResult[] statisticResultsServerActionsCleanIqr
+        long[][] durationsForServerActionsCleanIqr,
+        StatisticResult[] statisticResultsServerActionsCleanIqr,
+
+        // title and text of further result sections
+        Map<String, String> additionalSections,
+        // stored as further group of the columnar result file, null without warm-up
+        long[][] warmupDurationsForServerActions,
+        // store the samples in a columnar result file instead of the text dumps
+        boolean binaryResults,
+        boolean binaryResultsFixedWidth
     ) {
         try {
-            // Get path of the JAR file and strip unnecessary folders
-            String jarPath = App.class
-                    .getProtectionDomain()
-                    .getCodeSource()
-                    .getLocation()
-                    .toURI()
-                    .getPath();
-            String basePath = jarPath.substring(0, jarPath.lastIndexOf("target"));
+            String basePath = getBasePath();
             
             Date now = Calendar.getInstance().getTime();
             String nowAsString = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-mmmm").format(now);
@@ -399,72 +1090,30 @@ public class TimeMeasurement {
             if (measurementDefinition != null) {
                 pathString += ("_" + measurementDefinition);
             }
-            pathString += ("_" + durationsForServerActions[0].length + "rep_measurement-results");
+            pathString += ("_" + statisticResultsServerActions[0].count + "rep_measurement-results");
 
-            File logFile = new File(basePath + "logging/" + pathString);
+            File logFile = createUniqueLogFile(basePath, pathString);
 
             try (PrintWriter out = new PrintWriter(logFile)) {
-                out.println("TIME MEASUREMENT RESULTS\n" + nowAsString);
-                
-                out.println("\n\n#################################");
-                out.println("Used Configuration\n");
-                out.print(ConfigFactory.getConfigOverview(config));
-
-                out.println("\n\n#################################");
-                out.println("Used Handshake Trace\n");
-                out.print(handshakeTrace);
-
-                out.println("\n\n#################################");
-                out.println("Used Repititions\n");
-                out.print(durationsForServerActions[0].length);
-
-                
-                out.println("\n\n##################################################################");
-                out.println("\n\nRAW RESULTS");
-                out.println("Statistic results for each server action.");
-                int cntServerAction = 0;
-                for (StatisticResult oneResult: statisticResultsServerActions) {
-                    out.println("\nServer Action " + cntServerAction);
-                    out.print(StatisticResult.textualRepresentation(oneResult));
-                    cntServerAction++;
-                }
-                
-
-                out.println("\n\n##################################################################");
-                out.println("\n\nCLEANED RESULTS (by removing everything with z-score above/below +/-" + String.valueOf(removedStdDevRange) + ")");
-                out.println("Statistic results cleaned by removing everything outside z-score range");
-                cntServerAction = 0;
-                for (StatisticResult oneResult: statisticResultsServerActionsCleanDeviation) {
-                    out.println("\nServer Action " + cntServerAction);
-                    out.print(StatisticResult.textualRepresentation(oneResult));
-                    cntServerAction++;
-                }
-
-                out.println("\n\n##################################################################");
-                out.println("\n\nCLEANED RESULTS (by removing everything outside (Q_25 - " + String.valueOf(removedIqrRange) + "*IQR, Q_75 + " + String.valueOf(removedIqrRange) + "*IQR)");
-                out.println("Statistic results cleaned by removing everything outside iqr range");
-                cntServerAction = 0;
-                for (StatisticResult oneResult: statisticResultsServerActionsCleanIqr) {
-                    out.println("\nServer Action " + cntServerAction);
-                    out.print(StatisticResult.textualRepresentation(oneResult));
-                    cntServerAction++;
+                printResults(out, nowAsString, configOverview, handshakeTraceString, additionalSections, statisticResultsServerActions,
+                    removedStdDevRange, statisticResultsServerActionsCleanDeviation, removedIqrRange, statisticResultsServerActionsCleanIqr);
+
+                String columnarFileName = null;
+                if (binaryResults) {
+                    File resultFile = new File(logFile.getPath() + ".tbc");
+                    try {
+                        ColumnarResultWriter.write(resultFile, nowAsString, measurementDefinition, configOverview, handshakeTraceString,
+                            additionalSections, removedStdDevRange, removedIqrRange,
+                            withWarmupGroupTitle(new String[] { "Raw", "Deviation Cleaned", "IQR Cleaned" }, warmupDurationsForServerActions),
+                            withWarmupGroup(new long[][][] { durationsForServerActions, durationsForServerActionsCleanDeviation, durationsForServerActionsCleanIqr },
+                                warmupDurationsForServerActions),
+                            binaryResultsFixedWidth);
+                        columnarFileName = resultFile.getName();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
                 }
-
-
-                out.println("\n\n##################################################################");
-                out.println("Detailed Measurement Results");
-
-                out.println("\n\n#################################");
-                out.println("Raw Detailed Measurement Results");
-                out.print(Arrays.deepToString(durationsForServerActions));
-
-                out.println("\n\n#################################");
-                out.println("Deviation Cleaned Detailed Measurement Results");
-                out.print(Arrays.deepToString(durationsForServerActionsCleanDeviation));
-
-                out.println("\n\n#################################");
-                out.println("IQR Cleaned Detailed Measurement Results");
-                out.print(Arrays.deepToString(durationsForServerActionsCleanIqr));
+                printDetailedResults(out, columnarFileName, durationsForServerActions, durationsForServerActionsCleanDeviation, durationsForServerActionsCleanIqr);
 
             } catch (FileNotFoundException e) {
                 e.printStackTrace();
@@ -479,8 +1128,6 @@ public class TimeMeasurement {
     // create meta logging for statistical visualization script
     private static void logMetaMeasurement(
         String measurementDefinition,
-        Config config,
-        WorkflowTrace handshakeTrace,
         int totalCntServerActions,
         int repititions,
         String serverName,
@@ -499,14 +1146,7 @@ public class TimeMeasurement {
         MergedStatisticResult mergedStatisticResultCleanIqr = MergedStatisticResult.mergeStatisticResults(statisticResultsServerActionsCleanIqr);
 
         try {
-            // Get path of the JAR file and strip unnecessary folders
-            String jarPath = App.class
-                    .getProtectionDomain()
-                    .getCodeSource()
-                    .getLocation()
-                    .toURI()
-                    .getPath();
-            String basePath = jarPath.substring(0, jarPath.lastIndexOf("target"));
+            String basePath = getBasePath();
             
             Date now = Calendar.getInstance().getTime();
             String nowAsString = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss-mmmm").format(now);
@@ -528,7 +1168,7 @@ public class TimeMeasurement {
 
             pathString += ("_" + repititions + "rep_python-meta");
 
-            File logFile = new File(basePath + "logging/" + pathString);
+            File logFile = createUniqueLogFile(basePath, pathString);
 
             try (PrintWriter out = new PrintWriter(logFile)) {
                 out.println("# version\n2.1");
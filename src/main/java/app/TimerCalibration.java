@@ -0,0 +1,213 @@
+package app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import app.TimeMeasurement.StatisticResult;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+import de.rub.nds.tlsattacker.core.protocol.message.ApplicationMessage;
+import de.rub.nds.tlsattacker.core.workflow.WorkflowTrace;
+import de.rub.nds.tlsattacker.transport.TransportHandlerType;
+
+// calibration pass before a campaign: resolution and cost of System.nanoTime, the jitter floor of the loopback tcp path
+// and the fixed overhead of a measured segment (SetMeasuringActiveAction .. LogLastMeasurementAction)
+// the overhead is measured around a trivial exchange: one fixed plaintext record which a loopback peer echoes unchanged,
+// so it contains TLS-Attacker sending and parsing one record, the loopback path and the timer, but no work of a cipher suite
+// or of a server, and the same overhead is subtracted from every server action of every test
+public class TimerCalibration {
+    private static final int CNT_TIMER_CALLS = 1000000;
+    private static final int CNT_ROUND_TRIPS = 10000;
+    // first share of the exchanges and round trips which only warms up the JIT and is not evaluated
+    private static final double WARMUP_SHARE = 0.1;
+    // keeps the timer calls of the cost loop from being removed
+    private static volatile long timerSink;
+
+    public long nanoTimeGranularityNanos;
+    public double nanoTimeCostNanos;
+    public StatisticResult loopbackRoundTrip;
+    // measured segment around the echoed record, null if not calibrated
+    public StatisticResult harnessOverhead;
+
+    // complete pass, repetitions 0 skips the harness overhead
+    public static TimerCalibration calibrate(int repetitions) {
+        TimerCalibration calibration = new TimerCalibration();
+        calibration.nanoTimeGranularityNanos = measureNanoTimeGranularity(CNT_TIMER_CALLS);
+        calibration.nanoTimeCostNanos = measureNanoTimeCost(CNT_TIMER_CALLS);
+        try {
+            calibration.loopbackRoundTrip = measureLoopbackRoundTrips(CNT_ROUND_TRIPS);
+            if (repetitions > 0) {
+                calibration.harnessOverhead = measureHarnessOverhead(repetitions);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        System.out.println("Calibration:\n" + calibration.textualRepresentation(false));
+        return calibration;
+    }
+
+    // smallest step between two different readings, bounded below by the cost of one call
+    static long measureNanoTimeGranularity(int cntCalls) {
+        long granularity = Long.MAX_VALUE;
+        long lastNanos = System.nanoTime();
+        for (int cntCall = 0; cntCall < cntCalls; cntCall++) {
+            long nowNanos = System.nanoTime();
+            if (nowNanos != lastNanos) {
+                granularity = Math.min(granularity, nowNanos - lastNanos);
+                lastNanos = nowNanos;
+            }
+        }
+        return (granularity == Long.MAX_VALUE) ? 0 : granularity;
+    }
+
+    static double measureNanoTimeCost(int cntCalls) {
+        long sink = 0;
+        long startNanos = System.nanoTime();
+        for (int cntCall = 0; cntCall < cntCalls; cntCall++) {
+            sink ^= System.nanoTime();
+        }
+        long endNanos = System.nanoTime();
+        timerSink = sink;
+        return (double)(endNanos - startNanos) / cntCalls;
+    }
+
+    // one byte ping-pong over a loopback tcp connection to the echo server
+    static StatisticResult measureLoopbackRoundTrips(int cntRoundTrips) throws IOException {
+        int cntWarmup = (int)(cntRoundTrips * WARMUP_SHARE);
+        long[] roundTripNanos = new long[cntRoundTrips];
+        try (ServerSocket serverSocket = startEchoServer()) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+                socket.setTcpNoDelay(true);
+                InputStream input = socket.getInputStream();
+                OutputStream output = socket.getOutputStream();
+                for (int cntRoundTrip = -cntWarmup; cntRoundTrip < cntRoundTrips; cntRoundTrip++) {
+                    long startNanos = System.nanoTime();
+                    output.write(1);
+                    if (input.read() < 0) {
+                        throw new IOException("Echo connection closed after " + cntRoundTrip + " round trips.");
+                    }
+                    if (cntRoundTrip >= 0) {
+                        roundTripNanos[cntRoundTrip] = System.nanoTime() - startNanos;
+                    }
+                }
+            }
+        }
+        return StatisticResult.runStatisticAnalysis(roundTripNanos);
+    }
+
+    // one measured segment per connection which sends a fixed application data record and receives it back from the echo server
+    // the record is sent before any handshake, so it is plaintext and its parsing does not depend on a cipher suite
+    static StatisticResult measureHarnessOverhead(int repetitions) throws IOException {
+        int cntWarmup = (int)(repetitions * WARMUP_SHARE);
+        long[] overheadNanos = new long[repetitions];
+        int cntOverheadSamples = 0;
+        try (ServerSocket serverSocket = startEchoServer()) {
+            Config config = Config.createConfig();
+            OutboundConnection connection = new OutboundConnection();
+            connection.setHostname(InetAddress.getLoopbackAddress().getHostAddress());
+            connection.setPort(serverSocket.getLocalPort());
+            connection.setTransportHandlerType(TransportHandlerType.TCP_TIMING);
+            config.setDefaultClientConnection(connection);
+            WorkflowTrace trace = new HandshakeFlow()
+                .measure(HandshakeFlow.send(calibrationRecord()), HandshakeFlow.receiveTill(new ApplicationMessage()))
+                .getTrace();
+            long[] measurementBuffer = new long[1];
+
+            for (int cntRep = -cntWarmup; cntRep < repetitions; cntRep++) {
+                int cntMeasurements = App.startTlsClient(config, trace, measurementBuffer);
+                if (cntRep >= 0 && cntMeasurements == measurementBuffer.length) {
+                    overheadNanos[cntOverheadSamples++] = measurementBuffer[0];
+                }
+            }
+        }
+        if (cntOverheadSamples == 0) {
+            throw new IOException("No exchange with the echo server was successful.");
+        }
+        return StatisticResult.runStatisticAnalysis(Arrays.copyOf(overheadNanos, cntOverheadSamples));
+    }
+
+    private static ApplicationMessage calibrationRecord() {
+        ApplicationMessage applicationMessage = new ApplicationMessage();
+        applicationMessage.setDataConfig("calibration".getBytes(StandardCharsets.US_ASCII));
+        return applicationMessage;
+    }
+
+    // loopback server which echoes every byte of every connection unchanged, until the returned socket is closed
+    static ServerSocket startEchoServer() throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                Socket acceptedSocket;
+                try {
+                    acceptedSocket = serverSocket.accept();
+                } catch (IOException e) {
+                    // closed after the calibration
+                    return;
+                }
+                Thread echo = new Thread(() -> {
+                    try (Socket socket = acceptedSocket) {
+                        socket.setTcpNoDelay(true);
+                        InputStream input = socket.getInputStream();
+                        OutputStream output = socket.getOutputStream();
+                        byte[] buffer = new byte[4096];
+                        int cntRead;
+                        while ((cntRead = input.read(buffer)) >= 0) {
+                            output.write(buffer, 0, cntRead);
+                        }
+                    } catch (IOException e) {
+                        // connection aborted by the client
+                    }
+                }, "calibration-echo");
+                echo.setDaemon(true);
+                echo.start();
+            }
+        }, "calibration-echo-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return serverSocket;
+    }
+
+    // median harness overhead of a measured segment, 0 without calibration
+    public long getHarnessOverheadNanos() {
+        if (this.harnessOverhead == null) {
+            return 0;
+        }
+        return Math.round(this.harnessOverhead.median);
+    }
+
+    // copy of the durations without the harness overhead, durations below the overhead become 0
+    // the given raw samples are not changed
+    public long[][] subtractFrom(long[][] durationsForServerActions) {
+        long overheadNanos = getHarnessOverheadNanos();
+        long[][] correctedDurations = new long[durationsForServerActions.length][];
+        for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+            correctedDurations[cntServerAction] = new long[durationsForServerActions[cntServerAction].length];
+            for (int cntRep = 0; cntRep < durationsForServerActions[cntServerAction].length; cntRep++) {
+                correctedDurations[cntServerAction][cntRep] = Math.max(durationsForServerActions[cntServerAction][cntRep] - overheadNanos, 0);
+            }
+        }
+        return correctedDurations;
+    }
+
+    // creates text overview for the log
+    public String textualRepresentation(boolean subtracted) {
+        String calibrationString = " System.nanoTime Granularity: " + this.nanoTimeGranularityNanos + " ns, Cost: "
+            + String.format("%.1f", this.nanoTimeCostNanos) + " ns per call\n";
+        if (this.loopbackRoundTrip != null) {
+            calibrationString += " Loopback TCP Round Trip: Median " + this.loopbackRoundTrip.median + " ns, IQR "
+                + (this.loopbackRoundTrip.quantil75 - this.loopbackRoundTrip.quantil25) + " ns, Min " + this.loopbackRoundTrip.min + " ns\n";
+        }
+        if (this.harnessOverhead != null) {
+            calibrationString += " Harness Overhead of a Measured Segment (echoed plaintext record): Median " + this.harnessOverhead.median + " ns, IQR "
+                + (this.harnessOverhead.quantil75 - this.harnessOverhead.quantil25) + " ns (" + this.harnessOverhead.count + " samples)\n";
+        }
+        calibrationString += " Overhead subtracted from the Statistics: " + subtracted + (subtracted ? " (the raw samples are logged unchanged)" : "") + "\n";
+        return calibrationString;
+    }
+}
@@ -0,0 +1,87 @@
+package app;
+
+import java.util.Arrays;
+
+// detects the end of the warm-up phase (JIT compilation, class loading, server caches) from the durations of each repetition
+// the repetitions are split into windows, steady state is reached once the window median of every server action
+// changed by at most the tolerance (relative) for a number of consecutive windows
+public class WarmupDetector {
+    private final int totalCntServerActions;
+    private final int windowSize;
+    private final double tolerance;
+    private final int requiredStableWindows;
+
+    // [server action][repetition in window]
+    private final long[][] currentWindow;
+    private final double[] previousWindowMedians;
+    private int cntRepetitionsInWindow = 0;
+    private int cntWindows = 0;
+    private int cntStableWindows = 0;
+    private int cntRepetitions = 0;
+    private boolean converged = false;
+    // window medians of all windows, for the log
+    private String windowMediansString = "";
+
+    public WarmupDetector(int totalCntServerActions, int windowSize, double tolerance, int requiredStableWindows) {
+        this.totalCntServerActions = totalCntServerActions;
+        this.windowSize = windowSize;
+        this.tolerance = tolerance;
+        this.requiredStableWindows = requiredStableWindows;
+        this.currentWindow = new long[totalCntServerActions][windowSize];
+        this.previousWindowMedians = new double[totalCntServerActions];
+    }
+
+    // adds the durations of one complete repetition, returns true once steady state is reached
+    public boolean addRepetition(long[] measurementBuffer) {
+        if (this.converged) {
+            return true;
+        }
+        for (int cntServerAction = 0; cntServerAction < this.totalCntServerActions; cntServerAction++) {
+            this.currentWindow[cntServerAction][this.cntRepetitionsInWindow] = measurementBuffer[cntServerAction];
+        }
+        this.cntRepetitionsInWindow++;
+        this.cntRepetitions++;
+        if (this.cntRepetitionsInWindow < this.windowSize) {
+            return false;
+        }
+
+        // window complete, compare its medians to the ones of the previous window
+        boolean stable = this.cntWindows > 0;
+        this.windowMediansString += " Window " + this.cntWindows + ":";
+        for (int cntServerAction = 0; cntServerAction < this.totalCntServerActions; cntServerAction++) {
+            long[] sortedWindow = this.currentWindow[cntServerAction].clone();
+            Arrays.sort(sortedWindow);
+            double median = TimeMeasurement.StatisticResult.calcQuantil(sortedWindow, 0.5);
+            if (this.cntWindows > 0 && Math.abs(median - this.previousWindowMedians[cntServerAction]) > this.tolerance * this.previousWindowMedians[cntServerAction]) {
+                stable = false;
+            }
+            this.previousWindowMedians[cntServerAction] = median;
+            this.windowMediansString += " " + median/1000000.0;
+        }
+        this.windowMediansString += " ms\n";
+        this.cntWindows++;
+        this.cntRepetitionsInWindow = 0;
+
+        this.cntStableWindows = stable ? this.cntStableWindows + 1 : 0;
+        this.converged = this.cntStableWindows >= this.requiredStableWindows;
+        return this.converged;
+    }
+
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    // repetitions added until steady state (or until the warm-up was stopped)
+    public int getCntRepetitions() {
+        return this.cntRepetitions;
+    }
+
+    // creates text overview of the detection
+    public String textualRepresentation() {
+        String warmupString = " Steady State Reached: " + this.converged + "\n";
+        warmupString += " Warm-up Repetitions: " + this.cntRepetitions + "\n";
+        warmupString += " Window Size: " + this.windowSize + ", Tolerance: " + this.tolerance * 100.0 + " %, Stable Windows: " + this.requiredStableWindows + "\n";
+        warmupString += " Window Medians per Server Action:\n" + this.windowMediansString;
+        return warmupString;
+    }
+}
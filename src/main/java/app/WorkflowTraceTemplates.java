@@ -0,0 +1,37 @@
+package app;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+
+// cache of the built handshake flows keyed by handshake type and config fingerprint, a flow is only built once instead of per test/server pair
+// TLS-Attacker mutates the trace while executing it, so the cached trace is reset before every repetition (see App.startTlsClient)
+// instead of copying it, resetting only clears the values computed during the last execution and keeps the built actions and messages
+// every thread has its own templates, concurrent measurements never execute the same trace
+public class WorkflowTraceTemplates {
+    private static final ThreadLocal<Map<String, HandshakeActions>> templatesOfThread = ThreadLocal.withInitial(HashMap::new);
+
+    // the handshake flow for the type and config, built on the first request of this thread
+    public static HandshakeActions get(HandshakeType handshakeType, Config config) {
+        return templatesOfThread.get().computeIfAbsent(templateKey(handshakeType, config),
+            key -> new HandshakeActions(handshakeType, config, null));
+    }
+
+    // everything the flow is built from: the messages are created from the protocol settings of the config
+    // and the client certificate, which is compared by identity
+    static String templateKey(HandshakeType handshakeType, Config config) {
+        return handshakeType + "|" + ConfigFactory.getConfigOverview(config)
+            + "|" + System.identityHashCode(config.getDefaultExplicitCertificateKeyPair());
+    }
+
+    public static int getCntTemplates() {
+        return templatesOfThread.get().size();
+    }
+
+    // drops the templates of this thread, e.g. after changing a config in place
+    public static void clear() {
+        templatesOfThread.get().clear();
+    }
+}
@@ -0,0 +1,93 @@
+package app;
+
+import java.util.Random;
+
+import org.HdrHistogram.Histogram;
+import org.junit.Test;
+
+public class AdaptiveRepetitionsTest 
+{
+    // fraction of data sets whose median interval covers the true median
+    @Test
+    public void medianIntervalHoldsConfidence()
+    {
+        AdaptiveRepetitions adaptiveRepetitions = new AdaptiveRepetitions(new MeasurementOptions());
+        Random random = new Random(13);
+        int cntCovered = 0;
+        for (int cntDataSet = 0; cntDataSet < 1000; cntDataSet++) {
+            // exponential distribution with median 1000000 * ln 2
+            long[] sortedDataSet = new long[1000];
+            for (int i = 0; i < sortedDataSet.length; i++) {
+                sortedDataSet[i] = (long)(-Math.log(1.0 - random.nextDouble()) * 1000000.0);
+            }
+            java.util.Arrays.sort(sortedDataSet);
+            int[] ranks = adaptiveRepetitions.confidenceRanks(sortedDataSet.length);
+            double trueMedian = Math.log(2.0) * 1000000.0;
+            if (sortedDataSet[ranks[0]] <= trueMedian && trueMedian <= sortedDataSet[ranks[1]]) {
+                cntCovered++;
+            }
+        }
+        junit.framework.Assert.assertTrue("covered " + cntCovered, cntCovered >= 930 && cntCovered <= 990);
+    }
+
+    @Test
+    public void stopsOnlyIfAllServerActionsArePrecise()
+    {
+        AdaptiveRepetitions adaptiveRepetitions = new AdaptiveRepetitions(new MeasurementOptions());
+        junit.framework.Assert.assertTrue(!adaptiveRepetitions.isCheckDue(999));
+        junit.framework.Assert.assertTrue(adaptiveRepetitions.isCheckDue(1000));
+        junit.framework.Assert.assertTrue(!adaptiveRepetitions.isCheckDue(1200));
+        junit.framework.Assert.assertTrue(adaptiveRepetitions.isCheckDue(1500));
+        junit.framework.Assert.assertTrue(!adaptiveRepetitions.hasReachedTarget(1000, new double[] { 0.005, 0.02 }));
+        junit.framework.Assert.assertTrue(!adaptiveRepetitions.hasReachedTarget(1000, new double[] { 0.005, Double.NaN }));
+        junit.framework.Assert.assertTrue(adaptiveRepetitions.hasReachedTarget(1500, new double[] { 0.005, 0.009 }));
+    }
+
+    // raw samples, histogram and sketch read the interval at the same ranks
+    @Test
+    public void summariesUseSameRanks()
+    {
+        AdaptiveRepetitions adaptiveRepetitions = new AdaptiveRepetitions(new MeasurementOptions());
+        // 1000 distinct values 1000000, 1001000, ..., the histogram keeps them exactly with 3 digits of 1000 ns steps
+        long[] durations = new long[1000];
+        Histogram histogram = new Histogram(3);
+        QuantileSketch sketch = new QuantileSketch(0.001);
+        for (int i = 0; i < durations.length; i++) {
+            durations[durations.length - 1 - i] = 1000000L + 1000L * i;
+            histogram.recordValue(1000000L + 1000L * i);
+            sketch.add(1000000L + 1000L * i);
+        }
+        int[] ranks = adaptiveRepetitions.confidenceRanks(durations.length);
+        double expectedWidth = (1000.0 * (ranks[1] - ranks[0])) / (1000000.0 + 1000.0 * adaptiveRepetitions.quantilRank(durations.length));
+        junit.framework.Assert.assertEquals(expectedWidth, adaptiveRepetitions.relativeWidth(durations, durations.length), 1e-12);
+        junit.framework.Assert.assertEquals(expectedWidth, adaptiveRepetitions.relativeWidth(histogram), expectedWidth * 0.02);
+        junit.framework.Assert.assertEquals(expectedWidth, adaptiveRepetitions.relativeWidth(sketch), expectedWidth * 0.1);
+        junit.framework.Assert.assertEquals(1000000L + 1000L * ranks[0], AdaptiveRepetitions.valueAtRank(histogram, ranks[0]), 1000000L * 0.001);
+    }
+
+    // raw samples are sorted at every check, the checks are spaced by a tenth of the repetitions
+    @Test
+    public void rawSampleChecksGrowWithRepetitions()
+    {
+        AdaptiveRepetitions adaptiveRepetitions = new AdaptiveRepetitions(new MeasurementOptions());
+        int cntChecks = 0;
+        for (int cntRep = 1; cntRep <= 100000; cntRep++) {
+            if (adaptiveRepetitions.isCheckDue(cntRep)) {
+                cntChecks++;
+            }
+        }
+        // 1000, 1500, ..., 5000, 5500, then +10 % per check up to 100000
+        junit.framework.Assert.assertTrue("checks " + cntChecks, cntChecks > 30 && cntChecks < 50);
+
+        MeasurementOptions options = new MeasurementOptions();
+        options.keepRawSamples = false;
+        AdaptiveRepetitions sketchRepetitions = new AdaptiveRepetitions(options);
+        cntChecks = 0;
+        for (int cntRep = 1; cntRep <= 100000; cntRep++) {
+            if (sketchRepetitions.isCheckDue(cntRep)) {
+                cntChecks++;
+            }
+        }
+        junit.framework.Assert.assertEquals(199, cntChecks);
+    }
+}
@@ -0,0 +1,35 @@
+package app;
+
+import org.junit.Test;
+
+public class AllocationTrackerTest 
+{
+    // keeps the arrays reachable, so the allocations are not optimized away
+    private static Object[] sink = new Object[16];
+
+    @Test
+    public void reportsBytesOfAllocatingAndNonAllocatingLoop()
+    {
+        AllocationTracker allocationTracker = new AllocationTracker(1, true);
+        junit.framework.Assert.assertTrue(allocationTracker.isSupported());
+
+        long allocatedBytesStart = allocationTracker.currentAllocatedBytes();
+        for (int i = 0; i < 1000; i++) {
+            sink[i % sink.length] = new byte[1024];
+        }
+        long allocatedBytesAllocating = allocationTracker.currentAllocatedBytes();
+        long sum = 0;
+        for (int i = 0; i < 100000; i++) {
+            sum += i;
+        }
+        long allocatedBytesEnd = allocationTracker.currentAllocatedBytes();
+        junit.framework.Assert.assertEquals(4999950000L, sum);
+
+        allocationTracker.recordRepetition(0, allocatedBytesAllocating - allocatedBytesStart, allocatedBytesEnd - allocatedBytesAllocating);
+        junit.framework.Assert.assertTrue(allocationTracker.getMeanAllocatedBytesWorkflow() >= 1000 * 1024);
+        junit.framework.Assert.assertTrue(String.valueOf(allocationTracker.getMeanAllocatedBytesHarness()), allocationTracker.getMeanAllocatedBytesHarness() < 1024);
+
+        String allocationString = allocationTracker.textualRepresentation();
+        junit.framework.Assert.assertTrue(allocationString, allocationString.contains("TLS-Attacker still allocates within the workflow execution"));
+    }
+}
@@ -0,0 +1,39 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AsyncResultWriterTest 
+{
+    @Test
+    public void flushWaitsForAllResultsInOrder()
+    {
+        // small queue, so submitting has to wait for the slow writer
+        AsyncResultWriter writer = new AsyncResultWriter(2);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            final int result = i;
+            writer.submit("result " + i, () -> {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(result);
+            });
+        }
+        writer.submit("failing result", () -> { throw new RuntimeException("disk full"); });
+        writer.flush();
+
+        junit.framework.Assert.assertEquals(10, written.size());
+        for (int i = 0; i < 10; i++) {
+            junit.framework.Assert.assertEquals(i, (int)written.get(i));
+        }
+        junit.framework.Assert.assertEquals(0, writer.getQueuedResults());
+        junit.framework.Assert.assertTrue(writer.getMaxLagNanos() >= 5000000);
+        junit.framework.Assert.assertTrue(writer.getTotalBlockedNanos() > 0);
+    }
+}
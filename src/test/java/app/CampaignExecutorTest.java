@@ -0,0 +1,102 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+
+public class CampaignExecutorTest 
+{
+    // tasks of one endpoint run in campaign order in one thread, the endpoints run at the same time with their own config
+    @Test
+    public void groupsTasksByEndpointAndRunsEndpointsInParallel() throws InterruptedException
+    {
+        Config sharedConfig = Config.createConfig();
+        List<MeasurementTask> tasks = Arrays.asList(
+            fakeTask("A1", sharedConfig, 1111), fakeTask("B1", sharedConfig, 2222), fakeTask("A2", sharedConfig, 1111),
+            fakeTask("B2", sharedConfig, 2222), fakeTask("A3", sharedConfig, 1111));
+        // both first tasks wait for each other, only possible if the endpoints run concurrently
+        CountDownLatch bothEndpointsStarted = new CountDownLatch(2);
+        List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+        List<String> runThreads = Collections.synchronizedList(new ArrayList<>());
+        List<Boolean> concurrent = Collections.synchronizedList(new ArrayList<>());
+        CampaignExecutor.TaskRunner fakeRunner = task -> {
+            runOrder.add(task.getMeasurementDefinition());
+            runThreads.add(task.getMeasurementDefinition() + "|" + Thread.currentThread().getName());
+            if (task.getMeasurementDefinition().endsWith("1")) {
+                bothEndpointsStarted.countDown();
+                try {
+                    concurrent.add(bothEndpointsStarted.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        new CampaignExecutor(2, new int[0], 0, null, fakeRunner).runCampaign(tasks);
+
+        junit.framework.Assert.assertEquals(Arrays.asList(true, true), concurrent);
+        junit.framework.Assert.assertEquals(5, runOrder.size());
+        junit.framework.Assert.assertTrue(runOrder.indexOf("A1") < runOrder.indexOf("A2") && runOrder.indexOf("A2") < runOrder.indexOf("A3"));
+        junit.framework.Assert.assertTrue(runOrder.indexOf("B1") < runOrder.indexOf("B2"));
+        junit.framework.Assert.assertEquals(threadOf(runThreads, "A1"), threadOf(runThreads, "A3"));
+        junit.framework.Assert.assertEquals(threadOf(runThreads, "B1"), threadOf(runThreads, "B2"));
+        junit.framework.Assert.assertTrue(!threadOf(runThreads, "A1").equals(threadOf(runThreads, "B1")));
+        // the second endpoint works on copies of the shared config
+        junit.framework.Assert.assertTrue(tasks.get(0).getConfig() == sharedConfig && tasks.get(2).getConfig() == sharedConfig);
+        junit.framework.Assert.assertTrue(tasks.get(1).getConfig() != sharedConfig && tasks.get(3).getConfig() != sharedConfig);
+    }
+
+    // a failing task neither stops its endpoint nor the others, the campaign reports it at the end
+    @Test
+    public void failingTaskIsReportedAfterAllTasksRan()
+    {
+        Config config = Config.createConfig();
+        List<MeasurementTask> tasks = Arrays.asList(
+            fakeTask("A1", config, 1111), fakeTask("A2", config, 1111), fakeTask("A3", config, 1111), fakeTask("B1", config, 2222));
+        List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+        CampaignExecutor.TaskRunner fakeRunner = task -> {
+            runOrder.add(task.getMeasurementDefinition());
+            if (task.getMeasurementDefinition().equals("A2")) {
+                throw new IllegalStateException("server gone");
+            }
+        };
+        String failureMessage = null;
+        try {
+            new CampaignExecutor(2, new int[0], 0, null, fakeRunner).runCampaign(tasks);
+        } catch (Error e) {
+            failureMessage = e.getMessage();
+        }
+        junit.framework.Assert.assertTrue(failureMessage != null);
+        junit.framework.Assert.assertTrue(failureMessage, failureMessage.contains("1 failures"));
+        junit.framework.Assert.assertTrue(failureMessage, failureMessage.contains("A2 with Fake A2 (localhost:1111): java.lang.IllegalStateException: server gone"));
+        junit.framework.Assert.assertEquals(4, runOrder.size());
+        junit.framework.Assert.assertTrue(runOrder.contains("A3"));
+    }
+
+    private static String threadOf(List<String> runThreads, String measurementDefinition)
+    {
+        for (String runThread: runThreads) {
+            if (runThread.startsWith(measurementDefinition + "|")) {
+                return runThread.substring(measurementDefinition.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static MeasurementTask fakeTask(String measurementDefinition, Config config, int port)
+    {
+        OutboundConnection connection = new OutboundConnection();
+        connection.setHostname("localhost");
+        connection.setPort(port);
+        return new MeasurementTask(measurementDefinition, 10, config, HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, connection,
+            false, 3, 1.5, false, "Fake " + measurementDefinition, new MeasurementOptions());
+    }
+}
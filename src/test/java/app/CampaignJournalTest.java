@@ -0,0 +1,51 @@
+package app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+public class CampaignJournalTest 
+{
+    @Test
+    public void reopenedJournalResumesBatchesAndSkipsCompleted() throws IOException
+    {
+        File journalDirectory = Files.createTempDirectory("campaign-journal-test").toFile();
+        File journalFile = new File(journalDirectory, "journal");
+        String keyD1 = CampaignJournal.measurementKey("D1", "OpenSSL", "localhost:1111", 4);
+        String keyD2 = CampaignJournal.measurementKey("D2", "OpenSSL", "localhost:1111", 4);
+
+        CampaignJournal journal = CampaignJournal.open(journalFile);
+        journal.appendBatch(keyD1, new long[][] { { 1, 2 }, { 10, 20 } });
+        journal.appendBatch(keyD1, new long[][] { { 3 }, { 30 } });
+        journal.appendBatch(keyD2, new long[][] { { 5, 6 }, { 50, 60 } });
+        journal.markCompleted(keyD2);
+
+        // the batches in the logging directory are not taken for results
+        ByteArrayOutputStream archiveAnalysis = new ByteArrayOutputStream();
+        ResultArchiveAnalysis.analyseArchive(journalDirectory, 0.01, new PrintStream(archiveAnalysis, true));
+        junit.framework.Assert.assertEquals(1, archiveAnalysis.toString().trim().split("\n").length);
+
+        // restart
+        CampaignJournal reopenedJournal = CampaignJournal.open(journalFile);
+        junit.framework.Assert.assertTrue(reopenedJournal.isCompleted(keyD2));
+        junit.framework.Assert.assertTrue(!reopenedJournal.isCompleted(keyD1));
+        long[][] resumed = reopenedJournal.loadBatches(keyD1, 2);
+        junit.framework.Assert.assertTrue(java.util.Arrays.deepEquals(new long[][] { { 1, 2, 3 }, { 10, 20, 30 } }, resumed));
+        junit.framework.Assert.assertEquals(null, reopenedJournal.loadBatches(keyD2, 2));
+        // new batches must not overwrite the stored ones
+        reopenedJournal.appendBatch(keyD1, new long[][] { { 4 }, { 40 } });
+        junit.framework.Assert.assertEquals(4, reopenedJournal.loadBatches(keyD1, 2)[0].length);
+    }
+
+    @Test
+    public void sameServerNameOnAnotherPortIsAnotherMeasurement()
+    {
+        String key1111 = CampaignJournal.measurementKey("D1", "OpenSSL 1.1.1w", "localhost:1111", 4);
+        String key1123 = CampaignJournal.measurementKey("D1", "OpenSSL 1.1.1w", "localhost:1123", 4);
+        junit.framework.Assert.assertTrue(!key1111.equals(key1123));
+    }
+}
@@ -0,0 +1,141 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.ConfigurationTypes.ClientAuthConfig;
+import app.ConnectionReuseMeasurement.ConnectionReuseMode;
+
+public class CampaignLoaderTest 
+{
+    private static final String TARGETS = "\"readinessTimeoutMillis\": 0,"
+        + "\"targets\": { \"a\": { \"port\": 1111, \"serverName\": \"Server A\" }, \"b\": { \"hostname\": \"127.0.0.2\", \"port\": 2222 } },";
+    private static final String TEST_D1 = "{ \"id\": \"D1\", \"tlsVersion\": \"TLS12\", \"keyExchange\": \"ECDHE\", \"keyExchangeGroup\": \"SECP384R1\","
+        + " \"serverAuth\": \"ECDSA\", \"clientAuth\": null, \"signatureSchemes\": [\"ECDSA_SHA384\"], \"bulkAlgo\": \"AES_128_CBC_SHA256\","
+        + " \"extensions\": [], \"handshakeType\": \"TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH\", \"targets\": [\"a\", \"b\"] }";
+    // same parameters as D1 with another handshake type and own repetitions
+    private static final String TEST_D2 = "{ \"id\": \"D2\", \"tlsVersion\": \"TLS12\", \"keyExchange\": \"ECDHE\", \"keyExchangeGroup\": \"SECP384R1\","
+        + " \"serverAuth\": \"ECDSA\", \"signatureSchemes\": [\"ECDSA_SHA384\"], \"bulkAlgo\": \"AES_128_CBC_SHA256\","
+        + " \"handshakeType\": \"TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RESUMPTION\", \"targets\": [\"b\"], \"repetitions\": 50 }";
+
+    @Test
+    public void missingValuesTakeTheDefaults() throws IOException
+    {
+        List<MeasurementTask> tasks = load("{" + TARGETS + "\"tests\": [" + TEST_D1 + ", " + TEST_D2 + "] }").getTasks();
+        junit.framework.Assert.assertEquals(3, tasks.size());
+        junit.framework.Assert.assertEquals("D1", tasks.get(0).getMeasurementDefinition());
+        junit.framework.Assert.assertEquals("Server A", tasks.get(0).getServerName());
+        junit.framework.Assert.assertEquals("localhost:1111", tasks.get(0).getEndpoint());
+        // the server name defaults to the target name
+        junit.framework.Assert.assertEquals("b", tasks.get(1).getServerName());
+        junit.framework.Assert.assertEquals("127.0.0.2:2222", tasks.get(1).getEndpoint());
+        junit.framework.Assert.assertEquals(15000, tasks.get(0).getRepetition());
+        junit.framework.Assert.assertEquals(50, tasks.get(2).getRepetition());
+        junit.framework.Assert.assertEquals(Boolean.TRUE, tasks.get(0).getShouldDocument());
+        junit.framework.Assert.assertEquals(3, tasks.get(0).getCleanDeviationOutlier());
+        junit.framework.Assert.assertEquals(1.5, tasks.get(0).getCleanIqrOutlier());
+        // one config per parameter combination
+        junit.framework.Assert.assertTrue(tasks.get(0).getConfig() == tasks.get(2).getConfig());
+
+        MeasurementOptions defaults = new MeasurementOptions();
+        MeasurementOptions options = tasks.get(0).getOptions();
+        junit.framework.Assert.assertEquals(defaults.reuseRepetitionObjects, options.reuseRepetitionObjects);
+        junit.framework.Assert.assertEquals(defaults.keepRawSamples, options.keepRawSamples);
+        junit.framework.Assert.assertEquals(defaults.maxFailureRate, options.maxFailureRate);
+        junit.framework.Assert.assertEquals(defaults.adaptiveCheckInterval, options.adaptiveCheckInterval);
+        junit.framework.Assert.assertEquals(defaults.journalBatchSize, options.journalBatchSize);
+        junit.framework.Assert.assertEquals(defaults.connectionReuseMode, options.connectionReuseMode);
+        junit.framework.Assert.assertTrue(java.util.Arrays.equals(defaults.reportedPercentiles, options.reportedPercentiles));
+        junit.framework.Assert.assertEquals(null, options.journal);
+        junit.framework.Assert.assertEquals(null, options.calibration);
+    }
+
+    @Test
+    public void givenOptionsOverrideOnlyTheirDefaults() throws IOException
+    {
+        String options = "\"options\": { \"binaryResults\": true, \"maxFailureRate\": 0.25, \"connectionReuseMode\": \"KEY_UPDATE\","
+            + " \"handshakesPerConnection\": 20, \"reportedPercentiles\": [0.5, 0.99] },";
+        List<MeasurementTask> tasks = load("{ \"repetitions\": 300, \"shouldDocument\": false, " + options + TARGETS
+            + "\"tests\": [" + TEST_D1 + "] }").getTasks();
+        MeasurementOptions parsedOptions = tasks.get(0).getOptions();
+        junit.framework.Assert.assertEquals(300, tasks.get(0).getRepetition());
+        junit.framework.Assert.assertEquals(Boolean.FALSE, tasks.get(0).getShouldDocument());
+        junit.framework.Assert.assertTrue(parsedOptions.binaryResults);
+        junit.framework.Assert.assertEquals(0.25, parsedOptions.maxFailureRate);
+        junit.framework.Assert.assertEquals(ConnectionReuseMode.KEY_UPDATE, parsedOptions.connectionReuseMode);
+        junit.framework.Assert.assertEquals(20, parsedOptions.handshakesPerConnection);
+        junit.framework.Assert.assertTrue(java.util.Arrays.equals(new double[] {0.5, 0.99}, parsedOptions.reportedPercentiles));
+        junit.framework.Assert.assertEquals(new MeasurementOptions().binaryResultsFixedWidth, parsedOptions.binaryResultsFixedWidth);
+        // all tasks of the campaign share the options
+        junit.framework.Assert.assertTrue(tasks.get(0).getOptions() == tasks.get(1).getOptions());
+    }
+
+    @Test
+    public void invalidEntriesAreRejected() throws IOException
+    {
+        junit.framework.Assert.assertTrue(loadError("{" + TARGETS + "\"tests\": [" + TEST_D1.replace("[\"a\", \"b\"]", "[\"c\"]") + "] }")
+            .contains("Unknown target 'c' in test D1"));
+        junit.framework.Assert.assertTrue(loadError("{" + TARGETS + "\"tests\": [" + TEST_D1.replace("\"TLS12\"", "\"TLS11\"") + "] }")
+            .contains("Invalid tlsVersion 'TLS11' in test D1"));
+        junit.framework.Assert.assertTrue(loadError("{" + TARGETS + "\"tests\": [" + TEST_D1.replace("\"clientAuth\": null", "\"clientAuth\": \"missing\"") + "] }")
+            .contains("Unknown client auth config 'missing' in test D1"));
+        junit.framework.Assert.assertTrue(loadError("{" + TARGETS + "\"maxConcurrency\": 1 }").contains("Campaign file is missing 'tests' in campaign"));
+    }
+
+    // the campaign of the App.main test matrix references only defined targets and covers all its measurements
+    @Test
+    public void absoluteJournalPathIsKept() throws Exception
+    {
+        File journalFile = new File(System.getProperty("java.io.tmpdir"), "campaign-journal").getAbsoluteFile();
+        junit.framework.Assert.assertEquals(journalFile, CampaignLoader.resolveJournalFile(journalFile.getPath()));
+    }
+
+    @Test
+    public void appMainCampaignCoversTheTestMatrix() throws IOException
+    {
+        JsonNode campaign = new ObjectMapper().readTree(new File("campaigns/app-main-campaign.json"));
+        Set<String> testIds = new HashSet<>();
+        int cntMeasurements = 0;
+        for (JsonNode test: campaign.get("tests")) {
+            junit.framework.Assert.assertTrue(test.get("id").asText(), testIds.add(test.get("id").asText()));
+            for (JsonNode targetName: test.get("targets")) {
+                junit.framework.Assert.assertTrue(targetName.asText(), campaign.get("targets").has(targetName.asText()));
+                cntMeasurements++;
+            }
+        }
+        junit.framework.Assert.assertEquals(149, testIds.size());
+        junit.framework.Assert.assertEquals(454, cntMeasurements);
+    }
+
+    private static CampaignPlan load(String campaignJson) throws IOException
+    {
+        File campaignFile = File.createTempFile("campaign", ".json");
+        try {
+            Files.write(campaignFile.toPath(), campaignJson.getBytes(StandardCharsets.UTF_8));
+            return CampaignLoader.load(campaignFile, new HashMap<String, ClientAuthConfig>());
+        } finally {
+            campaignFile.delete();
+        }
+    }
+
+    private static String loadError(String campaignJson) throws IOException
+    {
+        try {
+            load(campaignJson);
+        } catch (Error e) {
+            return e.getMessage();
+        }
+        return "";
+    }
+}
@@ -0,0 +1,106 @@
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import app.ColumnarResultReader.ColumnarResult;
+import app.TimeMeasurement.StatisticResult;
+
+public class ColumnarResultTest 
+{
+    @Test
+    public void writtenColumnsEqualReadColumns() throws IOException
+    {
+        Random random = new Random(11);
+        long[][] raw = new long[4][15000];
+        for (long[] durationsForOneAction: raw) {
+            for (int i = 0; i < durationsForOneAction.length; i++) {
+                durationsForOneAction[i] = 200000 + random.nextInt(3000000);
+            }
+        }
+        // negative deltas, extreme values and an empty column
+        long[][] edgeCases = { { Long.MAX_VALUE, 0, -5, Long.MIN_VALUE, 17 }, {} };
+        // trace longer than the write buffer
+        char[] trace = new char[100000];
+        Arrays.fill(trace, 'x');
+
+        File resultFile = File.createTempFile("columnar-result-test", ".tbc");
+        resultFile.deleteOnExit();
+        ColumnarResultWriter.write(resultFile, "now", null, "overview", new String(trace),
+            new String[] { "Raw", "Edge" }, new long[][][] { raw, edgeCases }, false);
+
+        ColumnarResult columnarResult = ColumnarResultReader.read(resultFile);
+        junit.framework.Assert.assertEquals("now", columnarResult.getTimestamp());
+        junit.framework.Assert.assertEquals("", columnarResult.getMeasurementDefinition());
+        junit.framework.Assert.assertEquals(new String(trace), columnarResult.getHandshakeTrace());
+        junit.framework.Assert.assertTrue(Arrays.deepEquals(raw, columnarResult.getColumns("Raw")));
+        junit.framework.Assert.assertTrue(Arrays.deepEquals(edgeCases, columnarResult.getColumns("Edge")));
+        // roughly 3 bytes per sample instead of 8 characters
+        junit.framework.Assert.assertTrue(resultFile.length() < 4 * 15000 * 4 + 110000);
+    }
+
+    @Test
+    public void mappedFixedWidthColumnsEqualWrittenColumns() throws IOException
+    {
+        // odd string length, so the columns need padding
+        long[][] raw = { { 5, 300000, 299999, 12 }, { Long.MIN_VALUE, Long.MAX_VALUE, 0 } };
+        File resultFile = File.createTempFile("columnar-result-test", ".tbc");
+        resultFile.deleteOnExit();
+        ColumnarResultWriter.write(resultFile, "now", "D1", "overview", "trace",
+            new String[] { "Raw" }, new long[][][] { raw }, true);
+
+        ColumnarResult columnarResult = ColumnarResultReader.map(resultFile);
+        LongBuffer[] durationsForServerActions = columnarResult.getColumnBuffers("Raw");
+        junit.framework.Assert.assertEquals(2, durationsForServerActions.length);
+        junit.framework.Assert.assertEquals(4, durationsForServerActions[0].remaining());
+        junit.framework.Assert.assertEquals(300000, durationsForServerActions[0].get(1));
+        junit.framework.Assert.assertTrue(Arrays.deepEquals(raw, columnarResult.getColumns("Raw")));
+        junit.framework.Assert.assertTrue(Arrays.deepEquals(raw, ColumnarResultReader.read(resultFile).getColumns("Raw")));
+    }
+
+    @Test
+    public void convertedTextEqualsTextLog() throws IOException
+    {
+        long[][] raw = { { 100, 110, 120, 900 }, { 50, 55, 60, 65 } };
+        long[][] cleanDeviation = { { 100, 110, 120 }, { 50, 55, 60, 65 } };
+        long[][] cleanIqr = { { 100, 110, 120 }, { 50, 55, 60 } };
+        Map<String, String> additionalSections = new LinkedHashMap<>();
+        additionalSections.put("Failed Repetitions", " Failures: 0\n");
+        File resultFile = File.createTempFile("columnar-result-test", ".tbc");
+        resultFile.deleteOnExit();
+        ColumnarResultWriter.write(resultFile, "now", "D1", "overview", "trace", additionalSections, 3, 1.5,
+            new String[] { "Raw", "Deviation Cleaned", "IQR Cleaned" }, new long[][][] { raw, cleanDeviation, cleanIqr }, false);
+
+        // text logger layout with the text dump
+        StringWriter expectedText = new StringWriter();
+        try (PrintWriter out = new PrintWriter(expectedText)) {
+            TimeMeasurement.printResults(out, "now", "overview", "trace", additionalSections, statisticResults(raw),
+                3, statisticResults(cleanDeviation), 1.5, statisticResults(cleanIqr));
+            TimeMeasurement.printDetailedResults(out, null, raw, cleanDeviation, cleanIqr);
+        }
+        String convertedText = ColumnarResultConverter.toText(ColumnarResultReader.read(resultFile));
+        junit.framework.Assert.assertEquals(expectedText.toString(), convertedText);
+        junit.framework.Assert.assertTrue(convertedText.contains("Failed Repetitions\n\n Failures: 0"));
+        junit.framework.Assert.assertTrue(convertedText.contains("CLEANED RESULTS (by removing everything with z-score above/below +/-3)"));
+        junit.framework.Assert.assertTrue(convertedText.contains("(Q_25 - 1.5*IQR, Q_75 + 1.5*IQR)"));
+        junit.framework.Assert.assertTrue(convertedText.contains("IQR Cleaned Detailed Measurement Results\n[[100, 110, 120], [50, 55, 60]]"));
+    }
+
+    private static StatisticResult[] statisticResults(long[][] durationsForServerActions)
+    {
+        StatisticResult[] statisticResultsServerActions = new StatisticResult[durationsForServerActions.length];
+        for (int cntServerAction = 0; cntServerAction < durationsForServerActions.length; cntServerAction++) {
+            statisticResultsServerActions[cntServerAction] = StatisticResult.runStatisticAnalysis(durationsForServerActions[cntServerAction]);
+        }
+        return statisticResultsServerActions;
+    }
+}
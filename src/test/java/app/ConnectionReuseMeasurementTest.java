@@ -0,0 +1,32 @@
+package app;
+
+import org.junit.Test;
+
+import app.ConnectionReuseMeasurement.ConnectionReuseMode;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.constants.ProtocolVersion;
+
+public class ConnectionReuseMeasurementTest 
+{
+    @Test
+    public void flowRepeatsMeasuredHandshake()
+    {
+        Config config = Config.createConfig();
+        junit.framework.Assert.assertEquals(6, ConnectionReuseMeasurement.buildFlow(ConnectionReuseMode.RENEGOTIATION, config, 3).getCntServerActions());
+        junit.framework.Assert.assertEquals(3, ConnectionReuseMeasurement.buildFlow(ConnectionReuseMode.RESUMPTION, config, 3).getCntServerActions());
+        junit.framework.Assert.assertEquals(5, ConnectionReuseMeasurement.buildFlow(ConnectionReuseMode.KEY_UPDATE, config, 5).getCntServerActions());
+        // initial handshake (stop, ClientHello, receive, Finished) and 2 x (start, send, receive, log)
+        junit.framework.Assert.assertEquals(4 + 8, ConnectionReuseMeasurement.buildFlow(ConnectionReuseMode.KEY_UPDATE, config, 2).getTrace().getTlsActions().size());
+    }
+
+    @Test
+    public void configMustMatchMode()
+    {
+        junit.framework.Assert.assertEquals(null, ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.RENEGOTIATION, ProtocolVersion.TLS12, true));
+        junit.framework.Assert.assertEquals(null, ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.RESUMPTION, ProtocolVersion.TLS12, true));
+        junit.framework.Assert.assertEquals(null, ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.KEY_UPDATE, ProtocolVersion.TLS13, false));
+        junit.framework.Assert.assertTrue(ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.RESUMPTION, ProtocolVersion.TLS13, true) != null);
+        junit.framework.Assert.assertTrue(ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.RENEGOTIATION, ProtocolVersion.TLS12, false) != null);
+        junit.framework.Assert.assertTrue(ConnectionReuseMeasurement.checkConfig(ConnectionReuseMode.KEY_UPDATE, ProtocolVersion.TLS12, false) != null);
+    }
+}
@@ -0,0 +1,57 @@
+package app;
+
+import org.junit.Test;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.protocol.message.ClientHelloMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.FinishedMessage;
+import de.rub.nds.tlsattacker.core.protocol.message.ServerHelloDoneMessage;
+
+public class HandshakeFlowTest 
+{
+    @Test
+    public void serverActionsCountedFromMeasuredSegments()
+    {
+        Config config = Config.createConfig();
+        HandshakeFlow flow = new HandshakeFlow()
+            .measure(HandshakeFlow.send(new ClientHelloMessage(config)), HandshakeFlow.receiveTill(new ServerHelloDoneMessage()))
+            .measure(HandshakeFlow.sendClientKeyExchange(), HandshakeFlow.receiveTill(new FinishedMessage()))
+            .resetConnection()
+            .measure(HandshakeFlow.send(new ClientHelloMessage(config)), HandshakeFlow.receiveTill(new FinishedMessage()))
+            .unmeasured(HandshakeFlow.send(new FinishedMessage()));
+        junit.framework.Assert.assertEquals(3, flow.getCntServerActions());
+        // 3 x (start, send, receive, log) + reset + stop + send
+        junit.framework.Assert.assertEquals(15, flow.getTrace().getTlsActions().size());
+    }
+
+    @Test
+    public void measuredSegmentNeedsServerAnswer()
+    {
+        boolean rejected = false;
+        try {
+            new HandshakeFlow().measure(HandshakeFlow.send(new FinishedMessage()));
+        } catch (Error e) {
+            rejected = true;
+        }
+        junit.framework.Assert.assertTrue(rejected);
+    }
+
+    @Test
+    public void serverActionsOfHandshakeTypes()
+    {
+        Config config = Config.createConfig();
+        // counts of the former hand-written flows
+        junit.framework.Assert.assertEquals(2, new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(3, new HandshakeActions(HandshakeType.TLS12_STATIC_WITHOUT_CLIENTAUTH_WITH_RESUMPTION, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(4, new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH_WITH_RENEGOTIATION, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(2, new HandshakeActions(HandshakeType.TLS12_STATIC_WITH_CLIENTAUTH_WITH_ALERT_CERT, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(3, new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITH_CLIENTAUTH_WITH_RESUMPTION, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(1, new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(3, new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_ZERO_RTT, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(2, new HandshakeActions(HandshakeType.TLS13_WITHOUT_CLIENTAUTH_WITH_KEY_UPDATE, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(1, new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(2, new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_ALERT_END, config, null).getCntServerActions());
+        junit.framework.Assert.assertEquals(3, new HandshakeActions(HandshakeType.TLS13_WITH_CLIENTAUTH_WITH_RESUMPTION, config, null).getCntServerActions());
+    }
+}
@@ -0,0 +1,97 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+
+public class InterleavedSchedulerTest 
+{
+    @Test
+    public void roundsArePermutationsReproducibleBySeed()
+    {
+        List<Integer> unfinishedTasks = Arrays.asList(0, 1, 2, 3, 4);
+        Random random = new Random(42);
+        Random sameSeedRandom = new Random(42);
+        HashSet<Integer> firstPositions = new HashSet<>();
+        for (int cntRound = 0; cntRound < 50; cntRound++) {
+            List<Integer> round = InterleavedScheduler.nextRound(unfinishedTasks, random);
+            junit.framework.Assert.assertEquals(round, InterleavedScheduler.nextRound(unfinishedTasks, sameSeedRandom));
+            // every unfinished task exactly once per round
+            List<Integer> sortedRound = new ArrayList<>(round);
+            sortedRound.sort(null);
+            junit.framework.Assert.assertEquals(unfinishedTasks, sortedRound);
+            firstPositions.add(round.get(0));
+        }
+        // the order changes between the rounds
+        junit.framework.Assert.assertTrue(firstPositions.size() > 1);
+    }
+
+    // the fake repetitions return task id * 1000000 + attempt * 10 + server action, every task must get exactly its own samples in order
+    @Test
+    public void everyTaskGetsExactlyItsOwnSamples()
+    {
+        Config configA = Config.createConfig();
+        Config configB = Config.createConfig();
+        Map<Config, Integer> taskIds = new IdentityHashMap<>();
+        taskIds.put(configA, 1);
+        taskIds.put(configB, 2);
+        Map<Config, Integer> cntAttempts = new IdentityHashMap<>();
+        InterleavedScheduler.RepetitionRunner fakeRunner = (config, handshakeTrace, measurementBuffer) -> {
+            int cntAttempt = cntAttempts.merge(config, 1, Integer::sum);
+            // every third attempt of task 2 breaks after the first server action
+            if (taskIds.get(config) == 2 && cntAttempt % 3 == 0) {
+                measurementBuffer[0] = -1;
+                return App.incompleteWorkflow(1);
+            }
+            for (int cntServerAction = 0; cntServerAction < measurementBuffer.length; cntServerAction++) {
+                measurementBuffer[cntServerAction] = taskIds.get(config) * 1000000L + cntAttempt * 10L + cntServerAction;
+            }
+            return measurementBuffer.length;
+        };
+
+        MeasurementOptions options = new MeasurementOptions();
+        options.maxFailureRate = 1.0;
+        MeasurementTask taskA = fakeTask("A", 5, configA, 1111, options);
+        MeasurementTask taskB = fakeTask("B", 8, configB, 2222, options);
+        new InterleavedScheduler(7, -1, fakeRunner).runInterleaved(Arrays.asList(taskA, taskB));
+
+        long[][] durationsA = taskA.getDurationsForServerActions();
+        junit.framework.Assert.assertEquals(5, durationsA[0].length);
+        for (int cntRep = 0; cntRep < 5; cntRep++) {
+            for (int cntServerAction = 0; cntServerAction < durationsA.length; cntServerAction++) {
+                junit.framework.Assert.assertEquals(1000000L + (cntRep + 1) * 10L + cntServerAction, durationsA[cntServerAction][cntRep]);
+            }
+        }
+        // the failed attempts 3, 6, 9 of task 2 are skipped
+        long[][] durationsB = taskB.getDurationsForServerActions();
+        junit.framework.Assert.assertEquals(8, durationsB[0].length);
+        int[] successfulAttemptsB = { 1, 2, 4, 5, 7, 8, 10, 11 };
+        for (int cntRep = 0; cntRep < 8; cntRep++) {
+            for (int cntServerAction = 0; cntServerAction < durationsB.length; cntServerAction++) {
+                junit.framework.Assert.assertEquals(2000000L + successfulAttemptsB[cntRep] * 10L + cntServerAction, durationsB[cntServerAction][cntRep]);
+            }
+        }
+        junit.framework.Assert.assertEquals(5, (int)cntAttempts.get(configA));
+        junit.framework.Assert.assertEquals(11, (int)cntAttempts.get(configB));
+    }
+
+    private static MeasurementTask fakeTask(String measurementDefinition, int repetition, Config config, int port, MeasurementOptions options)
+    {
+        OutboundConnection connection = new OutboundConnection();
+        connection.setHostname("localhost");
+        connection.setPort(port);
+        HandshakeActions handshakeActions = new HandshakeActions(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, config, connection);
+        return new MeasurementTask(measurementDefinition, repetition, config, HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, connection,
+            false, 3, 1.5, false, "Fake " + measurementDefinition, options, handshakeActions);
+    }
+}
@@ -0,0 +1,68 @@
+package app;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+public class JvmPauseTrackerTest 
+{
+    @Test
+    public void classifiesCollectorsAndDisturbedRepetitions()
+    {
+        junit.framework.Assert.assertTrue(JvmPauseTracker.isPausingCollector("G1 Young Generation"));
+        junit.framework.Assert.assertTrue(JvmPauseTracker.isPausingCollector("ZGC Pauses"));
+        junit.framework.Assert.assertTrue(!JvmPauseTracker.isPausingCollector("G1 Concurrent GC"));
+        junit.framework.Assert.assertTrue(!JvmPauseTracker.isPausingCollector("Shenandoah Cycles"));
+
+        junit.framework.Assert.assertTrue(JvmPauseTracker.isDisturbed(1, 0, 1));
+        junit.framework.Assert.assertTrue(JvmPauseTracker.isDisturbed(0, 2, 1));
+        junit.framework.Assert.assertTrue(!JvmPauseTracker.isDisturbed(0, 0, 1));
+    }
+
+    // allocates until a pausing collector ran, System.gc() alone is ignored under -XX:+DisableExplicitGC
+    @Test
+    public void detectsGcWithinRepetition()
+    {
+        JvmPauseTracker jvmPauseTracker = new JvmPauseTracker(1);
+        long gcCountBefore = pausingGcCount();
+        jvmPauseTracker.beforeRepetition();
+        System.gc();
+        Object[] garbage = new Object[1024];
+        long deadline = System.nanoTime() + 30000000000L;
+        for (int i = 0; pausingGcCount() == gcCountBefore && System.nanoTime() < deadline; i++) {
+            garbage[i % garbage.length] = new byte[64 * 1024];
+        }
+        junit.framework.Assert.assertTrue("no collection within 30 s", pausingGcCount() > gcCountBefore);
+        junit.framework.Assert.assertTrue(jvmPauseTracker.afterRepetition());
+    }
+
+    @Test
+    public void splitsTaggedSamples()
+    {
+        JvmPauseTracker jvmPauseTracker = new JvmPauseTracker(1);
+        jvmPauseTracker.tagSample(1);
+        jvmPauseTracker.tagSample(3);
+        long[][] splitDurations = jvmPauseTracker.splitDisturbed(new long[] {10, 90, 20, 80, 30});
+        junit.framework.Assert.assertEquals(3, splitDurations[0].length);
+        junit.framework.Assert.assertEquals(30, splitDurations[0][2]);
+        junit.framework.Assert.assertEquals(90, splitDurations[1][0]);
+        junit.framework.Assert.assertEquals(80, splitDurations[1][1]);
+
+        String pauseString = jvmPauseTracker.textualRepresentation(new long[][] {{10, 90, 20, 80, 30}});
+        junit.framework.Assert.assertTrue(pauseString.contains("Disturbed Repetitions: [1, 3]"));
+        junit.framework.Assert.assertTrue(pauseString.contains("Median undisturbed 20.0 ns, disturbed 85.0 ns"));
+        junit.framework.Assert.assertTrue(pauseString, pauseString.contains(" Resolution: 1 ms, Safepoint Threshold: 1 ms"));
+    }
+
+    private static long pausingGcCount()
+    {
+        long gcCount = 0;
+        for (GarbageCollectorMXBean collector: ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (JvmPauseTracker.isPausingCollector(collector.getName())) {
+                gcCount += Math.max(collector.getCollectionCount(), 0);
+            }
+        }
+        return gcCount;
+    }
+}
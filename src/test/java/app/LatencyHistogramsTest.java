@@ -0,0 +1,57 @@
+package app;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LatencyHistogramsTest
+{
+    private LatencyHistograms createHistograms(int count, long seed)
+    {
+        Random random = new Random(seed);
+        LatencyHistograms histograms = new LatencyHistograms(2, 3);
+        for (int i = 0; i < count; i++) {
+            histograms.recordValue(0, (long)(Math.exp(random.nextGaussian() * 0.8) * 1000000.0) + 100000);
+            histograms.recordValue(1, 200000 + random.nextInt(50000));
+        }
+        return histograms;
+    }
+
+    @Test
+    public void writtenHistogramsEqualReadHistograms() throws FileNotFoundException
+    {
+        LatencyHistograms histograms = createHistograms(20000, 3);
+        File histogramFile = new File(System.getProperty("java.io.tmpdir"), "latency-histograms-test.hlog");
+        histogramFile.deleteOnExit();
+        histograms.writeTo(histogramFile, "test");
+
+        LatencyHistograms readHistograms = LatencyHistograms.readFrom(histogramFile);
+        junit.framework.Assert.assertEquals(2, readHistograms.getCntServerActions());
+        for (int cntServerAction = 0; cntServerAction < 2; cntServerAction++) {
+            junit.framework.Assert.assertEquals(histograms.getHistogram(cntServerAction).getTotalCount(), readHistograms.getHistogram(cntServerAction).getTotalCount());
+            junit.framework.Assert.assertEquals(histograms.getValueAtQuantil(cntServerAction, 0.999), readHistograms.getValueAtQuantil(cntServerAction, 0.999));
+        }
+    }
+
+    @Test
+    public void mergedHistogramsEqualSingleHistograms()
+    {
+        LatencyHistograms merged = createHistograms(10000, 5);
+        merged.merge(createHistograms(10000, 6));
+
+        Random random5 = new Random(5);
+        Random random6 = new Random(6);
+        LatencyHistograms single = new LatencyHistograms(2, 3);
+        for (Random random: new Random[] { random5, random6 }) {
+            for (int i = 0; i < 10000; i++) {
+                single.recordValue(0, (long)(Math.exp(random.nextGaussian() * 0.8) * 1000000.0) + 100000);
+                single.recordValue(1, 200000 + random.nextInt(50000));
+            }
+        }
+        for (int cntServerAction = 0; cntServerAction < 2; cntServerAction++) {
+            junit.framework.Assert.assertEquals(single.getHistogram(cntServerAction), merged.getHistogram(cntServerAction));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package app;
+
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bouncycastle.tls.CipherSuite;
+import org.bouncycastle.tls.DefaultTlsClient;
+import org.bouncycastle.tls.ProtocolVersion;
+import org.bouncycastle.tls.ServerOnlyTlsAuthentication;
+import org.bouncycastle.tls.TlsAuthentication;
+import org.bouncycastle.tls.TlsClientProtocol;
+import org.bouncycastle.tls.TlsServerCertificate;
+import org.bouncycastle.tls.crypto.impl.bc.BcTlsCrypto;
+import org.junit.Test;
+
+public class LoopbackTlsServerTest
+{
+    private static final String CERTIFICATE = "Misc/certGen/rsa2048_rsa_cert.pem";
+    private static final String PRIVATE_KEY = "Misc/certGen/rsa2048_key.pem";
+
+    @Test
+    public void fixedDelaysRepeatLastDelay()
+    {
+        LoopbackTlsServer.FlightDelay flightDelay = LoopbackTlsServer.fixedDelays(100, 200);
+        junit.framework.Assert.assertEquals(100, flightDelay.delayNanos(0, 0));
+        junit.framework.Assert.assertEquals(200, flightDelay.delayNanos(0, 1));
+        junit.framework.Assert.assertEquals(200, flightDelay.delayNanos(3, 7));
+        junit.framework.Assert.assertEquals(0, LoopbackTlsServer.fixedDelays().delayNanos(0, 0));
+    }
+
+    @Test
+    public void delaysEveryServerFlight() throws Exception
+    {
+        List<String> flights = new CopyOnWriteArrayList<>();
+        long delayNanos = 20000000;
+        LoopbackTlsServer.FlightDelay flightDelay = (cntConnection, cntFlight) -> {
+            flights.add(cntConnection + ":" + cntFlight);
+            return delayNanos;
+        };
+        try (LoopbackTlsServer server = new LoopbackTlsServer(0, CERTIFICATE, PRIVATE_KEY, false, flightDelay).start()) {
+            // TLS1.2: ServerHello..ServerHelloDone and ChangeCipherSpec/Finished
+            long startNanos = System.nanoTime();
+            handshake(server.getPort(), ProtocolVersion.TLSv12);
+            junit.framework.Assert.assertTrue(System.nanoTime() - startNanos >= 2 * delayNanos);
+            junit.framework.Assert.assertTrue(flights.contains("0:0"));
+            junit.framework.Assert.assertTrue(flights.contains("0:1"));
+
+            // TLS1.3: ServerHello..Finished
+            startNanos = System.nanoTime();
+            handshake(server.getPort(), ProtocolVersion.TLSv13);
+            junit.framework.Assert.assertTrue(System.nanoTime() - startNanos >= delayNanos);
+            junit.framework.Assert.assertTrue(flights.contains("1:0"));
+            junit.framework.Assert.assertEquals(2, server.getCntConnections());
+
+            // processing times without the injected delay
+            junit.framework.Assert.assertEquals(-1, server.getProcessingNanos(0, 0));
+            server.recordProcessingTimes();
+            startNanos = System.nanoTime();
+            handshake(server.getPort(), ProtocolVersion.TLSv12);
+            long handshakeNanos = System.nanoTime() - startNanos;
+            // flight 0 ends with its last write, after the RSA signature of the ServerKeyExchange
+            junit.framework.Assert.assertTrue(server.getProcessingNanos(2, 0) > 500000);
+            junit.framework.Assert.assertTrue(server.getProcessingNanos(2, 1) > 0);
+            junit.framework.Assert.assertTrue(server.getProcessingNanos(2, 0) + server.getProcessingNanos(2, 1) < handshakeNanos - 2 * delayNanos);
+        }
+    }
+
+    private static void handshake(int port, ProtocolVersion version) throws Exception
+    {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            TlsClientProtocol protocol = new TlsClientProtocol(socket.getInputStream(), socket.getOutputStream());
+            protocol.connect(new DefaultTlsClient(new BcTlsCrypto(new SecureRandom())) {
+                @Override
+                protected ProtocolVersion[] getSupportedVersions() {
+                    return new ProtocolVersion[] { version };
+                }
+
+                @Override
+                protected int[] getSupportedCipherSuites() {
+                    return new int[] { CipherSuite.TLS_AES_128_GCM_SHA256, CipherSuite.TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256 };
+                }
+
+                @Override
+                public TlsAuthentication getAuthentication() {
+                    return new ServerOnlyTlsAuthentication() {
+                        @Override
+                        public void notifyServerCertificate(TlsServerCertificate serverCertificate) {
+                        }
+                    };
+                }
+            });
+            protocol.close();
+        }
+    }
+}
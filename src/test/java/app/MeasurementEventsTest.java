@@ -0,0 +1,59 @@
+package app;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import app.MeasurementEvents.AnalysisEvent;
+import app.MeasurementEvents.RepetitionEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class MeasurementEventsTest 
+{
+    @Test
+    public void recordsRepetitionsWithServerActionDurationsAndAnalysisPhases() throws Exception
+    {
+        // without a recording nothing is committed and no event object is created
+        junit.framework.Assert.assertEquals(null, MeasurementEvents.beginRepetition());
+        junit.framework.Assert.assertEquals(null, MeasurementEvents.beginWorkflowExecution());
+        junit.framework.Assert.assertEquals(null, MeasurementEvents.beginAnalysis("D1", "OpenSSL", "statistics"));
+
+        Path recordingFile = Files.createTempFile("measurement-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(AnalysisEvent.class);
+            recording.enable(RepetitionEvent.class);
+            recording.start();
+            RepetitionEvent repetitionEvent = MeasurementEvents.beginRepetition();
+            junit.framework.Assert.assertTrue(repetitionEvent != null);
+            repetitionEvent.end();
+            repetitionEvent.attempt = 7;
+            // only the collected server actions of the buffer
+            repetitionEvent.serverActionDurations = MeasurementEvents.serverActionDurations(new long[] {100, 200, 300}, 2);
+            repetitionEvent.commit();
+            MeasurementEvents.beginAnalysis("D1", "OpenSSL", "statistics").commit();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        int cntRepetitions = 0;
+        int cntAnalysisPhases = 0;
+        for (RecordedEvent event: events) {
+            if (event.getEventType().getName().equals("app.Repetition")) {
+                junit.framework.Assert.assertEquals(7, event.getInt("attempt"));
+                junit.framework.Assert.assertEquals("100 200", event.getString("serverActionDurations"));
+                cntRepetitions++;
+            } else if (event.getEventType().getName().equals("app.Analysis")) {
+                junit.framework.Assert.assertEquals("statistics", event.getString("phase"));
+                cntAnalysisPhases++;
+            }
+        }
+        junit.framework.Assert.assertEquals(1, cntRepetitions);
+        junit.framework.Assert.assertEquals(1, cntAnalysisPhases);
+    }
+}
@@ -0,0 +1,47 @@
+package app;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class OnlineStatisticsTest 
+{
+    @Test
+    public void kurtosisDataSet1()
+    {
+        long[] dataSet = { 400, 300, 1000, 300, 250, 178 };
+
+        OnlineStatistics onlineStatistics = new OnlineStatistics();
+        onlineStatistics.addAll(dataSet);
+
+        // excel KURT
+        junit.framework.Assert.assertEquals(4.822, Math.round(onlineStatistics.getKurtosis()*1000)/1000.0);
+        junit.framework.Assert.assertEquals(2.137, Math.round(onlineStatistics.getSkewness()*1000)/1000.0);
+    }
+
+    @Test
+    public void mergedStatisticsEqualSingleStatistics()
+    {
+        Random random = new Random(7);
+        OnlineStatistics single = new OnlineStatistics();
+        OnlineStatistics[] parts = { new OnlineStatistics(), new OnlineStatistics(), new OnlineStatistics() };
+        for (int i = 0; i < 30000; i++) {
+            long value = (long)(Math.exp(random.nextGaussian() * 0.8) * 1000000.0);
+            single.add(value);
+            // unequal part sizes
+            parts[(i % 7) % 3].add(value);
+        }
+        OnlineStatistics merged = new OnlineStatistics();
+        for (OnlineStatistics part: parts) {
+            merged.merge(part);
+        }
+
+        junit.framework.Assert.assertEquals(single.getCount(), merged.getCount());
+        junit.framework.Assert.assertEquals(single.getMin(), merged.getMin());
+        junit.framework.Assert.assertEquals(single.getMax(), merged.getMax());
+        junit.framework.Assert.assertEquals(single.getMean(), merged.getMean(), single.getMean() * 1e-9);
+        junit.framework.Assert.assertEquals(single.getVariance(), merged.getVariance(), single.getVariance() * 1e-9);
+        junit.framework.Assert.assertEquals(single.getSkewness(), merged.getSkewness(), 1e-9);
+        junit.framework.Assert.assertEquals(single.getKurtosis(), merged.getKurtosis(), 1e-9);
+    }
+}
@@ -0,0 +1,73 @@
+package app;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class QuantileSketchTest 
+{
+    private static final double[] QUANTILS = { 0.01, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999 };
+
+    // durations between roughly 0.1 ms and 50 ms with a long tail
+    private long[] createDataSet(int count, long seed)
+    {
+        Random random = new Random(seed);
+        long[] dataSet = new long[count];
+        for (int i = 0; i < count; i++) {
+            dataSet[i] = (long)(Math.exp(random.nextGaussian() * 0.8) * 1000000.0) + 100000;
+        }
+        return dataSet;
+    }
+
+    private void assertWithinRelativeError(long[] sortedDataSet, QuantileSketch sketch, double quantil)
+    {
+        double exact = sortedDataSet[(int)Math.floor(quantil * (sortedDataSet.length - 1))];
+        double estimate = sketch.quantile(quantil);
+        junit.framework.Assert.assertTrue("q" + quantil + ": " + estimate + " vs. " + exact,
+            Math.abs(estimate - exact) <= sketch.getRelativeAccuracy() * exact * 1.000001);
+    }
+
+    @Test
+    public void quantilsWithinErrorBound()
+    {
+        long[] dataSet = createDataSet(100000, 42);
+        QuantileSketch sketch = new QuantileSketch(0.01);
+        for (long dataPoint: dataSet) {
+            sketch.add(dataPoint);
+        }
+        Arrays.sort(dataSet);
+
+        junit.framework.Assert.assertEquals(100000, sketch.getCount());
+        junit.framework.Assert.assertEquals(dataSet[0], sketch.getMin());
+        junit.framework.Assert.assertEquals(dataSet[dataSet.length - 1], sketch.getMax());
+        for (double quantil: QUANTILS) {
+            assertWithinRelativeError(dataSet, sketch, quantil);
+        }
+    }
+
+    @Test
+    public void mergedSketchEqualsSingleSketch()
+    {
+        long[] dataSetA = createDataSet(20000, 1);
+        long[] dataSetB = createDataSet(30000, 2);
+        QuantileSketch sketchA = new QuantileSketch(0.005);
+        QuantileSketch sketchB = new QuantileSketch(0.005);
+        QuantileSketch sketchAll = new QuantileSketch(0.005);
+        for (long dataPoint: dataSetA) {
+            sketchA.add(dataPoint);
+            sketchAll.add(dataPoint);
+        }
+        // smaller values in the second sketch force growing the buckets at the front while merging
+        for (long dataPoint: dataSetB) {
+            sketchB.add(dataPoint / 100);
+            sketchAll.add(dataPoint / 100);
+        }
+        sketchA.merge(sketchB);
+
+        junit.framework.Assert.assertEquals(sketchAll.getCount(), sketchA.getCount());
+        for (double quantil: QUANTILS) {
+            junit.framework.Assert.assertEquals(sketchAll.quantile(quantil), sketchA.quantile(quantil));
+        }
+    }
+}
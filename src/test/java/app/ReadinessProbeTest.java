@@ -0,0 +1,136 @@
+package app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import de.rub.nds.tlsattacker.core.connection.OutboundConnection;
+
+public class ReadinessProbeTest 
+{
+    @Test
+    public void readyOnceAnsweringAndTimeoutOtherwise() throws Exception
+    {
+        ReadinessProbe readinessProbe = new ReadinessProbe(2000);
+        OutboundConnection connection = localConnection(0);
+        try (ServerSocket serverSocket = new ServerSocket(0, 50)) {
+            connection.setPort(serverSocket.getLocalPort());
+            Thread responder = startResponder(serverSocket);
+            junit.framework.Assert.assertTrue(readinessProbe.awaitReady(connection));
+            junit.framework.Assert.assertTrue(readinessProbe.awaitReady(connection));
+            responder.interrupt();
+        }
+
+        // port closed now
+        ReadinessProbe shortReadinessProbe = new ReadinessProbe(200);
+        long startMillis = System.currentTimeMillis();
+        junit.framework.Assert.assertTrue(!shortReadinessProbe.awaitReady(connection));
+        junit.framework.Assert.assertTrue(System.currentTimeMillis() - startMillis >= 200);
+    }
+
+    // the kernel completes the connects from the backlog, but a server which does not get to accept them is not ready
+    @Test
+    public void busyServerIsNotReady() throws Exception
+    {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50)) {
+            junit.framework.Assert.assertEquals(-1, ReadinessProbe.probe("localhost", serverSocket.getLocalPort()));
+            junit.framework.Assert.assertTrue(!new ReadinessProbe(1500).awaitReady(localConnection(serverSocket.getLocalPort())));
+        }
+    }
+
+    // a real TLS server answers the probe ClientHello with a handshake record
+    @Test
+    public void tlsServerAnswersClientHello() throws Exception
+    {
+        try (LoopbackTlsServer server = new LoopbackTlsServer(0, "Misc/certGen/rsa2048_rsa_cert.pem", "Misc/certGen/rsa2048_key.pem", false,
+                LoopbackTlsServer.fixedDelays()).start()) {
+            junit.framework.Assert.assertTrue(ReadinessProbe.probe("localhost", server.getPort()) > 0);
+            junit.framework.Assert.assertTrue(new ReadinessProbe(3000).awaitReady(localConnection(server.getPort())));
+        }
+    }
+
+    @Test
+    public void concurrentEndpointsDoNotWaitForEachOther() throws Exception
+    {
+        ReadinessProbe readinessProbe = new ReadinessProbe(3000);
+        OutboundConnection closedConnection = localConnection(0);
+        try (ServerSocket serverSocket = new ServerSocket(0, 50)) {
+            closedConnection.setPort(serverSocket.getLocalPort());
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        try (ServerSocket serverSocket = new ServerSocket(0, 50)) {
+            OutboundConnection openConnection = localConnection(serverSocket.getLocalPort());
+            startResponder(serverSocket);
+
+            // the closed endpoint keeps its worker in the probe until the timeout
+            Future<Boolean> closedReady = workers.submit(() -> readinessProbe.awaitReady(closedConnection));
+            Thread.sleep(100);
+            long startMillis = System.currentTimeMillis();
+            Future<Boolean> openReady = workers.submit(() -> readinessProbe.awaitReady(openConnection));
+            junit.framework.Assert.assertTrue(openReady.get());
+            junit.framework.Assert.assertTrue(System.currentTimeMillis() - startMillis < 2000);
+            junit.framework.Assert.assertTrue(!closedReady.get());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void clientHelloIsOneHandshakeRecord()
+    {
+        byte[] clientHello = ReadinessProbe.clientHelloRecord();
+        junit.framework.Assert.assertEquals(22, clientHello[0]);
+        junit.framework.Assert.assertEquals(clientHello.length - 5, ((clientHello[3] & 0xff) << 8) | (clientHello[4] & 0xff));
+        junit.framework.Assert.assertEquals(1, clientHello[5]);
+        junit.framework.Assert.assertEquals(clientHello.length - 9, ((clientHello[7] & 0xff) << 8) | (clientHello[8] & 0xff));
+    }
+
+    @Test
+    public void settledWithinToleranceOrSlack()
+    {
+        ReadinessProbe readinessProbe = new ReadinessProbe(1000, 5, 0.5, 200000);
+        junit.framework.Assert.assertTrue(readinessProbe.isSettled(250000, 50000));
+        junit.framework.Assert.assertTrue(!readinessProbe.isSettled(260000, 50000));
+        junit.framework.Assert.assertTrue(readinessProbe.isSettled(1500000, 1000000));
+        junit.framework.Assert.assertTrue(!readinessProbe.isSettled(1600000, 1000000));
+    }
+
+    private static OutboundConnection localConnection(int port)
+    {
+        OutboundConnection connection = new OutboundConnection();
+        connection.setHostname("localhost");
+        connection.setPort(port);
+        return connection;
+    }
+
+    // answers every ClientHello record with the start of a handshake record, like a server sending its ServerHello
+    private static Thread startResponder(ServerSocket serverSocket)
+    {
+        Thread responder = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    InputStream in = socket.getInputStream();
+                    byte[] header = new byte[5];
+                    int cntRead = 0;
+                    while (cntRead < header.length && cntRead >= 0) {
+                        int read = in.read(header, cntRead, header.length - cntRead);
+                        cntRead = (read < 0) ? -1 : cntRead + read;
+                    }
+                    socket.getOutputStream().write(new byte[] { 22, 3, 3, 0, 4 });
+                    socket.getOutputStream().flush();
+                } catch (IOException e) {
+                    // closed server socket or aborted probe
+                }
+            }
+        });
+        responder.setDaemon(true);
+        responder.start();
+        return responder;
+    }
+}
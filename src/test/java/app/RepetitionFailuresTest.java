@@ -0,0 +1,45 @@
+package app;
+
+import org.junit.Test;
+
+import app.RepetitionFailures.FailureReason;
+
+public class RepetitionFailuresTest 
+{
+    @Test
+    public void failuresCountedPerReasonAndServerAction()
+    {
+        RepetitionFailures repetitionFailures = new RepetitionFailures(3);
+        repetitionFailures.recordFailure(4, FailureReason.WORKFLOW_EXCEPTION, -1, null);
+        repetitionFailures.recordFailure(9, FailureReason.MISSING_MEASUREMENTS, 2, null);
+        repetitionFailures.recordFailure(12, FailureReason.MISSING_MEASUREMENTS, 2, null);
+        repetitionFailures.recordFailure(20, FailureReason.SURPLUS_MEASUREMENTS, 5, null);
+
+        junit.framework.Assert.assertEquals(4, repetitionFailures.getCntFailures());
+        junit.framework.Assert.assertEquals(2, repetitionFailures.getCntFailures(FailureReason.MISSING_MEASUREMENTS));
+        junit.framework.Assert.assertEquals(0, repetitionFailures.getCntFailures(FailureReason.UNEXPECTED_EXCEPTION));
+        // 4 failed of 100 tries
+        junit.framework.Assert.assertEquals(0.04, repetitionFailures.getFailureRate(96));
+
+        String failuresString = repetitionFailures.textualRepresentation(96);
+        junit.framework.Assert.assertTrue(failuresString, failuresString.contains("  at Server Action 2: 2\n"));
+        junit.framework.Assert.assertTrue(failuresString, failuresString.contains(" Failure Rate: 4.000 %\n"));
+    }
+
+    @Test
+    public void incompleteWorkflowCountedAtFailedServerAction()
+    {
+        junit.framework.Assert.assertEquals(2, App.cntMeasurements(App.incompleteWorkflow(2)));
+        junit.framework.Assert.assertEquals(0, App.cntMeasurements(App.incompleteWorkflow(0)));
+        junit.framework.Assert.assertEquals(3, App.cntMeasurements(3));
+        junit.framework.Assert.assertEquals(FailureReason.WORKFLOW_EXCEPTION, RepetitionFailures.classify(App.incompleteWorkflow(0), 3));
+        junit.framework.Assert.assertEquals(null, RepetitionFailures.classify(3, 3));
+
+        RepetitionFailures repetitionFailures = new RepetitionFailures(3);
+        repetitionFailures.recordFailure(1, FailureReason.WORKFLOW_EXCEPTION, App.incompleteWorkflow(2), null);
+        repetitionFailures.recordFailure(2, FailureReason.WORKFLOW_EXCEPTION, App.incompleteWorkflow(2), null);
+        String failuresString = repetitionFailures.textualRepresentation(10);
+        junit.framework.Assert.assertTrue(failuresString, failuresString.contains("  at Server Action 2: 2\n"));
+        junit.framework.Assert.assertTrue(failuresString, !failuresString.contains("  at Server Action 0:"));
+    }
+}
@@ -0,0 +1,29 @@
+package app;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+public class SocketPressureMonitorTest 
+{
+    @Test
+    public void countsClientSocketsToTargetPort() throws Exception
+    {
+        // target port 1111 = 0x0457, ephemeral ports 0x8000 - 0xEE47
+        String socketTable = "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode\n"
+            // server listening and server side of a connection
+            + "   0: 00000000:0457 00000000:0000 0A 00000000:00000000 00:00000000 00000000     0        0 662 1\n"
+            + "   1: 0100007F:0457 0100007F:C350 06 00000000:00000000 03:00000F1E 00000000     0        0 0 3\n"
+            // client sides to the target, TIME_WAIT, TIME_WAIT and ESTABLISHED
+            + "   2: 0100007F:C350 0100007F:0457 06 00000000:00000000 03:00000F1E 00000000     0        0 0 3\n"
+            + "   3: 0100007F:C351 0100007F:0457 06 00000000:00000000 03:00000F1E 00000000     0        0 0 3\n"
+            + "   4: 0100007F:C352 0100007F:0457 01 00000000:00000000 00:00000000 00000000     0        0 911 1\n"
+            // client side to another port
+            + "   5: 0100007F:C353 0100007F:115C 06 00000000:00000000 03:00000F1E 00000000     0        0 0 3\n";
+        SocketPressureMonitor.SocketCounts counts = new SocketPressureMonitor.SocketCounts();
+        SocketPressureMonitor.countSockets(new StringReader(socketTable), 1111, 32768, 60999, counts);
+        junit.framework.Assert.assertEquals(3, counts.cntUsedPorts);
+        junit.framework.Assert.assertEquals(2, counts.cntTimeWait);
+        junit.framework.Assert.assertEquals(1, counts.cntEstablished);
+    }
+}
@@ -33,6 +33,36 @@ public class TimeMeasurementTest
         junit.framework.Assert.assertEquals(0.952, Math.round(actualStatisticResult.pearsonSkewness*1000)/1000.0);
     }
 
+    @Test
+    public void kurtosisDataSet0()
+    {
+        Long[] dataSet = { (long)300, (long)100 , (long)600, (long)100 };
+
+        StatisticResult actualStatisticResult = StatisticResult.runStatisticAnalysis(dataSet);
+
+        // excel KURT
+        junit.framework.Assert.assertEquals(0.436, Math.round(actualStatisticResult.kurtosis*1000)/1000.0);
+    }
+
+    // the moments are undefined for too few samples or no spread, the results show NaN for them but never Infinity
+    @Test
+    public void smallDataSetsHaveUndefinedMoments()
+    {
+        long[][] dataSets = { { 100 }, { 100, 300 }, { 100, 300, 600 }, { 200, 200, 200, 200, 200 } };
+        for (long[] dataSet: dataSets) {
+            StatisticResult actualStatisticResult = StatisticResult.runStatisticAnalysis(dataSet);
+            junit.framework.Assert.assertTrue(Double.isNaN(actualStatisticResult.kurtosis));
+            String resultString = StatisticResult.textualRepresentation(actualStatisticResult);
+            junit.framework.Assert.assertTrue(resultString, !resultString.contains("Infinity"));
+        }
+        junit.framework.Assert.assertTrue(Double.isNaN(StatisticResult.runStatisticAnalysis(new long[] { 100 }).standardDeviation));
+        junit.framework.Assert.assertTrue(Double.isNaN(StatisticResult.runStatisticAnalysis(new long[] { 100, 300 }).skewness));
+        junit.framework.Assert.assertTrue(Double.isNaN(StatisticResult.runStatisticAnalysis(new long[] { 200, 200, 200 }).skewness));
+        junit.framework.Assert.assertTrue(Double.isNaN(StatisticResult.runStatisticAnalysis(new long[] { 200, 200, 200 }).pearsonSkewness));
+        // skewness is defined from 3 samples with a spread
+        junit.framework.Assert.assertTrue(StatisticResult.runStatisticAnalysis(new long[] { 100, 300, 600 }).skewness > 0.0);
+    }
+
     @Test
     public void staticResultsDataSet1()
     {
@@ -112,4 +142,32 @@ public class TimeMeasurementTest
         junit.framework.Assert.assertEquals(2.025, Math.round(actualStatisticResult.skewness*1000)/1000.0);
         junit.framework.Assert.assertEquals(1.325, Math.round(actualStatisticResult.pearsonSkewness*1000)/1000.0);
     }
+
+    @Test
+    public void cleanOutliersDataSet4()
+    {
+        long[] dataSet = { 70, 300, 1200, 3000, 100, 200, 500 };
+
+        StatisticResult statisticResult = StatisticResult.runStatisticAnalysis(dataSet);
+        long[] cleanDeviation = TimeMeasurement.cleanDeviationOutliers(dataSet, statisticResult, 1);
+        long[] cleanIqr = TimeMeasurement.cleanIqrOutliers(dataSet, statisticResult, 1.5);
+
+        // 3000 lies outside of mean +/- 1 std deviation and above q_75 + 1.5 * iqr
+        junit.framework.Assert.assertEquals("[70, 300, 1200, 100, 200, 500]", java.util.Arrays.toString(cleanDeviation));
+        junit.framework.Assert.assertEquals("[70, 300, 1200, 100, 200, 500]", java.util.Arrays.toString(cleanIqr));
+    }
+
+    @Test
+    public void warmupSamplesFollowTheMeasuredGroups()
+    {
+        long[][] raw = { { 100, 200 } };
+        long[][] warmup = { { 900, 500, 300 } };
+        String[] groupTitles = TimeMeasurement.withWarmupGroupTitle(new String[] { "Raw" }, warmup);
+        long[][][] groups = TimeMeasurement.withWarmupGroup(new long[][][] { raw }, warmup);
+        junit.framework.Assert.assertEquals("[Raw, Warm-up]", java.util.Arrays.toString(groupTitles));
+        junit.framework.Assert.assertTrue(groups[1] == warmup);
+        // without warm-up the groups stay as they are
+        junit.framework.Assert.assertEquals(1, TimeMeasurement.withWarmupGroupTitle(new String[] { "Raw" }, null).length);
+        junit.framework.Assert.assertEquals(1, TimeMeasurement.withWarmupGroup(new long[][][] { raw }, null).length);
+    }
 }
@@ -0,0 +1,69 @@
+package app;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import app.TimeMeasurement.StatisticResult;
+
+public class TimerCalibrationTest 
+{
+    @Test
+    public void measuresTimerAndLoopbackPath() throws Exception
+    {
+        junit.framework.Assert.assertTrue(TimerCalibration.measureNanoTimeGranularity(100000) > 0);
+        junit.framework.Assert.assertTrue(TimerCalibration.measureNanoTimeCost(100000) > 0);
+
+        StatisticResult roundTrips = TimerCalibration.measureLoopbackRoundTrips(1000);
+        junit.framework.Assert.assertEquals(1000, roundTrips.count);
+        junit.framework.Assert.assertTrue(roundTrips.min > 0);
+        junit.framework.Assert.assertTrue(roundTrips.median >= roundTrips.min);
+    }
+
+    @Test
+    public void echoServerServesEveryConnection() throws Exception
+    {
+        try (ServerSocket serverSocket = TimerCalibration.startEchoServer()) {
+            for (int cntConnection = 0; cntConnection < 3; cntConnection++) {
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort())) {
+                    byte[] record = {23, 3, 3, 0, 1, (byte)cntConnection};
+                    socket.getOutputStream().write(record);
+                    byte[] echoedRecord = new byte[record.length];
+                    int cntRead = 0;
+                    while (cntRead < echoedRecord.length) {
+                        cntRead += socket.getInputStream().read(echoedRecord, cntRead, echoedRecord.length - cntRead);
+                    }
+                    junit.framework.Assert.assertTrue(Arrays.equals(record, echoedRecord));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void subtractsOverheadFromEveryServerActionWithoutNegativeDurations()
+    {
+        TimerCalibration calibration = new TimerCalibration();
+        long[][] durations = {{1000, 5000}, {200, 3000}, {900}};
+        // not calibrated, nothing to subtract
+        junit.framework.Assert.assertEquals(1000, calibration.subtractFrom(durations)[0][0]);
+
+        calibration.harnessOverhead = StatisticResult.runStatisticAnalysis(new long[] {400, 500, 600});
+        junit.framework.Assert.assertEquals(500, calibration.getHarnessOverheadNanos());
+
+        long[][] correctedDurations = calibration.subtractFrom(durations);
+        junit.framework.Assert.assertEquals(500, correctedDurations[0][0]);
+        junit.framework.Assert.assertEquals(4500, correctedDurations[0][1]);
+        junit.framework.Assert.assertEquals(0, correctedDurations[1][0]);
+        junit.framework.Assert.assertEquals(2500, correctedDurations[1][1]);
+        junit.framework.Assert.assertEquals(400, correctedDurations[2][0]);
+        // the raw samples stay unchanged
+        junit.framework.Assert.assertEquals(1000, durations[0][0]);
+        junit.framework.Assert.assertEquals(200, durations[1][0]);
+
+        String calibrationString = calibration.textualRepresentation(true);
+        junit.framework.Assert.assertTrue(calibrationString.contains("Measured Segment (echoed plaintext record): Median 500.0 ns"));
+    }
+}
@@ -0,0 +1,29 @@
+package app;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class WarmupDetectorTest 
+{
+    @Test
+    public void steadyStateAfterDecayingWarmup()
+    {
+        WarmupDetector warmupDetector = new WarmupDetector(2, 100, 0.02, 3);
+        Random random = new Random(17);
+        long[] measurementBuffer = new long[2];
+        int cntRep = 0;
+        while (!warmupDetector.isConverged() && cntRep < 10000) {
+            // slow first repetitions decaying within roughly 1000 repetitions, then noise around 1 ms and 2 ms
+            double warmupFactor = 1.0 + 4.0 * Math.exp(-cntRep / 200.0);
+            measurementBuffer[0] = (long)((1000000 + random.nextGaussian() * 50000) * warmupFactor);
+            measurementBuffer[1] = (long)(2000000 + random.nextGaussian() * 100000);
+            warmupDetector.addRepetition(measurementBuffer);
+            cntRep++;
+        }
+
+        junit.framework.Assert.assertTrue(warmupDetector.isConverged());
+        junit.framework.Assert.assertTrue("warm-up " + cntRep, cntRep >= 800 && cntRep <= 2000);
+        junit.framework.Assert.assertEquals(cntRep, warmupDetector.getCntRepetitions());
+    }
+}
@@ -0,0 +1,29 @@
+package app;
+
+import org.junit.Test;
+
+import app.HandshakeTypes.HandshakeType;
+import de.rub.nds.tlsattacker.core.config.Config;
+
+public class WorkflowTraceTemplatesTest 
+{
+    @Test
+    public void oneTemplatePerTypeConfigAndThread() throws Exception
+    {
+        WorkflowTraceTemplates.clear();
+        Config config = Config.createConfig();
+        HandshakeActions handshakeActions = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, config);
+        junit.framework.Assert.assertTrue(handshakeActions == WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, config));
+        junit.framework.Assert.assertEquals(2, handshakeActions.getCntServerActions());
+        junit.framework.Assert.assertTrue(handshakeActions != WorkflowTraceTemplates.get(HandshakeType.TLS13_WITHOUT_CLIENTAUTH, config));
+        junit.framework.Assert.assertEquals(2, WorkflowTraceTemplates.getCntTemplates());
+
+        // other threads build their own trace
+        HandshakeActions[] otherThreadHandshakeActions = new HandshakeActions[1];
+        Thread otherThread = new Thread(() -> otherThreadHandshakeActions[0] = WorkflowTraceTemplates.get(HandshakeType.TLS12_EPHEMERAL_WITHOUT_CLIENTAUTH, config));
+        otherThread.start();
+        otherThread.join();
+        junit.framework.Assert.assertTrue(otherThreadHandshakeActions[0] != handshakeActions);
+        WorkflowTraceTemplates.clear();
+    }
+}